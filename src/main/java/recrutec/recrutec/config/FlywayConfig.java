@@ -0,0 +1,33 @@
+package recrutec.recrutec.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Executa as migrações do Flyway depois que o Hibernate cria/atualiza as tabelas.
+ *
+ * O schema base continua vindo do ddl-auto; as migrações só acrescentam o que o
+ * Hibernate não sabe gerar (colunas tsvector, índices GIN, extensões). Por padrão o
+ * Spring Boot roda o Flyway antes do JPA, quando as tabelas ainda não existem.
+ */
+@Configuration
+public class FlywayConfig {
+
+    // Desativa a migração padrão, que rodaria antes do Hibernate
+    @Bean
+    public FlywayMigrationStrategy adiarMigracoes() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean migrarAposHibernate(ObjectProvider<Flyway> flyway) {
+        return () -> flyway.ifAvailable(Flyway::migrate);
+    }
+}
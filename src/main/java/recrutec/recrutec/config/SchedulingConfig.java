@@ -0,0 +1,12 @@
+package recrutec.recrutec.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled), como a gravação em lote dos contadores de inscrições
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
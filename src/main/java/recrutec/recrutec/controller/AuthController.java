@@ -17,6 +17,8 @@ import org.springframework.security.authentication.DisabledException;
 import org.springframework.web.bind.annotation.*;
 import recrutec.recrutec.dto.*;
 import recrutec.recrutec.exception.ErrorResponse;
+import recrutec.recrutec.exception.ResourceAlreadyExistsException;
+import recrutec.recrutec.exception.ServiceOverloadedException;
 import recrutec.recrutec.model.User;
 import recrutec.recrutec.service.AuthenticationService;
 import recrutec.recrutec.service.UserService;
@@ -62,6 +64,8 @@ public class AuthController {
         @ApiResponse(responseCode = "401", description = "Credenciais inválidas",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Servidor sobrecarregado; tente de novo após o Retry-After",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/login")
@@ -77,8 +81,10 @@ public class AuthController {
 
         } catch (BadCredentialsException ex) {
             log.warn("Tentativa de login com credenciais inválidas: {}", loginRequest.getEmail());
+            // Mesmo corpo (ErrorResponse) documentado no @ApiResponse 401
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(createErrorResponse("Credenciais inválidas", "Email ou senha incorretos"));
+                    .body(new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), "Authentication Failed",
+                            "Email ou senha inválidos", "/api/auth/login"));
 
         } catch (DisabledException ex) {
             log.warn("Tentativa de login com conta desabilitada: {}", loginRequest.getEmail());
@@ -86,9 +92,7 @@ public class AuthController {
                     .body(createErrorResponse("Conta desabilitada", "Sua conta foi desabilitada. Contate o suporte."));
 
         } catch (Exception ex) {
-            log.error("Erro inesperado durante login para {}: {}", loginRequest.getEmail(), ex.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(createErrorResponse("Erro interno", "Erro interno do servidor. Tente novamente mais tarde."));
+            return erroInterno(ex, "login", loginRequest.getEmail());
         }
     }
 
@@ -179,6 +183,8 @@ public class AuthController {
         @ApiResponse(responseCode = "409", description = "Email já cadastrado",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Servidor sobrecarregado; tente de novo após o Retry-After",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/register/candidato")
@@ -198,6 +204,13 @@ public class AuthController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (ResourceAlreadyExistsException ex) {
+            log.warn("Registro de candidato com email já cadastrado: {}", registerRequest.getEmail());
+            // Mesmo corpo (ErrorResponse) documentado no @ApiResponse 409
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(HttpStatus.CONFLICT.value(), "Resource Already Exists",
+                            ex.getMessage(), "/api/auth/register/candidato"));
+
         } catch (IllegalArgumentException ex) {
             log.warn("Erro de validação no registro de candidato para {}: {}",
                     registerRequest.getEmail(), ex.getMessage());
@@ -205,10 +218,7 @@ public class AuthController {
                     .body(createErrorResponse("Erro de validação", ex.getMessage()));
 
         } catch (Exception ex) {
-            log.error("Erro inesperado durante registro de candidato para {}: {}",
-                    registerRequest.getEmail(), ex.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(createErrorResponse("Erro interno", "Erro interno do servidor. Tente novamente mais tarde."));
+            return erroInterno(ex, "registro de candidato", registerRequest.getEmail());
         }
     }
 
@@ -235,6 +245,13 @@ public class AuthController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (ResourceAlreadyExistsException ex) {
+            log.warn("Registro de recrutador com email já cadastrado: {}", registerRequest.getEmail());
+            // Mesmo corpo (ErrorResponse) do registro de candidatos
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(HttpStatus.CONFLICT.value(), "Resource Already Exists",
+                            ex.getMessage(), "/api/auth/register/recrutador"));
+
         } catch (IllegalArgumentException ex) {
             log.warn("Erro de validação no registro de recrutador para {}: {}",
                     registerRequest.getEmail(), ex.getMessage());
@@ -242,10 +259,7 @@ public class AuthController {
                     .body(createErrorResponse("Erro de validação", ex.getMessage()));
 
         } catch (Exception ex) {
-            log.error("Erro inesperado durante registro de recrutador para {}: {}",
-                    registerRequest.getEmail(), ex.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(createErrorResponse("Erro interno", "Erro interno do servidor. Tente novamente mais tarde."));
+            return erroInterno(ex, "registro de recrutador", registerRequest.getEmail());
         }
     }
 
@@ -263,6 +277,24 @@ public class AuthController {
         ));
     }
 
+    /**
+     * Resposta 500 padronizada para erros inesperados do login e dos registros.
+     * Sobrecarga do pool de senhas segue para o GlobalExceptionHandler (503 com Retry-After).
+     *
+     * @param ex Exceção capturada
+     * @param operacao Operação em andamento, para o log
+     * @param email Email da requisição, para o log
+     * @return Response 500 com a mensagem genérica
+     */
+    private ResponseEntity<?> erroInterno(Exception ex, String operacao, String email) {
+        if (ex instanceof ServiceOverloadedException sobrecarga) {
+            throw sobrecarga;
+        }
+        log.error("Erro inesperado durante {} para {}: {}", operacao, email, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(createErrorResponse("Erro interno", "Erro interno do servidor. Tente novamente mais tarde."));
+    }
+
     /**
      * Cria uma resposta de erro padronizada
      * 
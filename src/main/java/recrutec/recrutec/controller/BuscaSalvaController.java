@@ -0,0 +1,92 @@
+package recrutec.recrutec.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import recrutec.recrutec.dto.AlertaBuscaDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.service.BuscaSalvaService;
+import recrutec.recrutec.service.UserService;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Controlador das buscas de candidatos salvas pelos recrutadores e dos seus alertas.
+ *
+ * Cada recrutador só vê e remove as próprias buscas.
+ */
+@RestController
+@RequestMapping("/api/buscas-salvas")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_RECRUTADOR')")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:8080"})
+public class BuscaSalvaController {
+
+    private final BuscaSalvaService buscaSalvaService;
+    private final UserService userService;
+
+    /**
+     * Salvar uma busca com os mesmos critérios da busca combinada de candidatos
+     * Ex.: {"titulo": "Backend Java", "areas": ["Backend"], "habilidades": ["Java", "Spring"]}
+     */
+    @PostMapping
+    public ResponseEntity<BuscaSalva> salvar(@RequestBody BuscaSalva busca) {
+        Optional<User> recrutador = recrutadorAutenticado();
+        if (recrutador.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        return new ResponseEntity<>(buscaSalvaService.salvar(busca, recrutador.get()), HttpStatus.CREATED);
+    }
+
+    /**
+     * Listar as buscas salvas do recrutador
+     */
+    @GetMapping
+    public ResponseEntity<List<BuscaSalva>> listar() {
+        return recrutadorAutenticado()
+                .map(recrutador -> ResponseEntity.ok(buscaSalvaService.listar(recrutador.getId())))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.FORBIDDEN));
+    }
+
+    /**
+     * Remover uma busca salva e os seus alertas
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> remover(@PathVariable Long id) {
+        Optional<User> recrutador = recrutadorAutenticado();
+        if (recrutador.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        buscaSalvaService.remover(id, recrutador.get().getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Candidatos que passaram a atender às buscas do recrutador, dos mais novos aos mais antigos
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
+     */
+    @GetMapping("/alertas")
+    public ResponseEntity<CursorPageDTO<AlertaBuscaDTO>> listarAlertas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return recrutadorAutenticado()
+                .map(recrutador -> ResponseEntity.ok(buscaSalvaService.listarAlertas(recrutador.getId(), cursor, size)))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.FORBIDDEN));
+    }
+
+    private Optional<User> recrutadorAutenticado() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            return Optional.empty();
+        }
+        return userService.findByEmail(userDetails.getUsername()).filter(User::isRecrutador);
+    }
+}
@@ -0,0 +1,55 @@
+package recrutec.recrutec.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.service.UserService;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Controlador público do autocompletar de habilidades e áreas de interesse.
+ *
+ * As sugestões saem do índice em memória dos candidatos, sem consulta ao banco,
+ * então podem ser pedidas a cada tecla digitada.
+ */
+@RestController
+@RequestMapping("/api/public/termos")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:8080"})
+public class TermoController {
+
+    // O vocabulário muda pouco; o navegador pode reaproveitar as sugestões de um mesmo prefixo
+    private static final CacheControl CACHE_SUGESTOES = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final UserService userService;
+
+    /**
+     * Sugestões de habilidades que começam com o prefixo, das mais às menos usadas
+     */
+    @GetMapping("/habilidades")
+    public ResponseEntity<List<String>> sugerirHabilidades(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite) {
+        return sugestoes(IndiceCandidatos.Campo.HABILIDADE, prefixo, limite);
+    }
+
+    /**
+     * Sugestões de áreas de interesse que começam com o prefixo, das mais às menos usadas
+     */
+    @GetMapping("/areas")
+    public ResponseEntity<List<String>> sugerirAreas(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite) {
+        return sugestoes(IndiceCandidatos.Campo.AREA_INTERESSE, prefixo, limite);
+    }
+
+    private ResponseEntity<List<String>> sugestoes(IndiceCandidatos.Campo campo, String prefixo, int limite) {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_SUGESTOES)
+                .body(userService.sugerirTermos(campo, prefixo, limite));
+    }
+}
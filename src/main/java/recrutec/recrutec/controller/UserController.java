@@ -9,11 +9,19 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
+import recrutec.recrutec.dto.UsuarioBuscaDTO;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
 import recrutec.recrutec.service.UserService;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -63,10 +71,16 @@ public class UserController {
      */
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<User> getMyProfile() {
+    public ResponseEntity<User> getMyProfile(WebRequest request) {
         String email = getAuthenticatedUserEmail();
         log.debug("Usuário buscando próprio perfil: {}", email);
 
+        // Responde 304 pelo ETag da versão do usuário, sem carregar nem serializar o perfil
+        Optional<String> etag = userService.findEtagByEmail(email);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
         Optional<User> user = userService.findByEmail(email);
         return user.map(ResponseEntity::ok)
                    .orElseGet(() -> ResponseEntity.notFound().build());
@@ -115,32 +129,54 @@ public class UserController {
 
     /**
      * Listar todos os usuários (apenas admins)
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<CursorPageDTO<User>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Admin listando todos os usuários");
-        List<User> users = userService.findAll();
+        CursorPageDTO<User> users = userService.findAll(cursor, size);
         return ResponseEntity.ok(users);
     }
 
     /**
      * Listar usuários por role (admins e recrutadores para candidatos)
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
      */
     @GetMapping("/role/{role}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or (hasRole('ROLE_RECRUTADOR') and #role == 'CANDIDATO')")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role) {
+    public ResponseEntity<CursorPageDTO<User>> getUsersByRole(
+            @PathVariable String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Listando usuários por role: {}", role);
 
         try {
             Role roleEnum = Role.valueOf(role.toUpperCase());
-            List<User> users = userService.findByRole(roleEnum);
+            CursorPageDTO<User> users = userService.findByRole(roleEnum, cursor, size);
             return ResponseEntity.ok(users);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Buscar usuários por nome ou email (apenas admins), para o typeahead da tela de administração
+     * Ignora maiúsculas e acentos e ordena do mais ao menos parecido; termos com menos de 3 caracteres
+     * não retornam sugestões
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
+     */
+    @GetMapping("/busca")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CursorPageDTO<UsuarioBuscaDTO>> searchUsers(
+            @RequestParam("q") String termo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(userService.buscarPorNomeOuEmail(termo, cursor, size));
+    }
+
     /**
      * Buscar usuário por ID (admins ou próprio usuário)
      */
@@ -216,26 +252,85 @@ public class UserController {
 
     /**
      * Buscar candidatos por área de interesse (recrutadores e admins)
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
      */
     @GetMapping("/candidatos/area/{area}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
-    public ResponseEntity<List<User>> getCandidatesByArea(@PathVariable String area) {
+    public ResponseEntity<CursorPageDTO<User>> getCandidatesByArea(
+            @PathVariable String area,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Buscando candidatos por área de interesse: {}", area);
-        List<User> candidatos = userService.findCandidatosByAreaInteresse(area);
+        CursorPageDTO<User> candidatos = userService.findCandidatosByAreaInteresse(area, cursor, size);
         return ResponseEntity.ok(candidatos);
     }
 
     /**
      * Buscar candidatos por habilidade (recrutadores e admins)
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
      */
     @GetMapping("/candidatos/habilidade/{habilidade}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
-    public ResponseEntity<List<User>> getCandidatesBySkill(@PathVariable String habilidade) {
+    public ResponseEntity<CursorPageDTO<User>> getCandidatesBySkill(
+            @PathVariable String habilidade,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Buscando candidatos por habilidade: {}", habilidade);
-        List<User> candidatos = userService.findCandidatosByHabilidade(habilidade);
+        CursorPageDTO<User> candidatos = userService.findCandidatosByHabilidade(habilidade, cursor, size);
         return ResponseEntity.ok(candidatos);
     }
 
+    /**
+     * Busca combinada de candidatos (recrutadores e admins)
+     * Qualquer combinação de área, habilidades, certificados, PCD e nome; critérios omitidos não filtram
+     * Termos repetidos do mesmo critério se somam, exceto habilidades: por padrão o candidato precisa ter
+     * todas (todasHabilidades=false aceita qualquer uma). Cada palavra de nome casa com o início de uma
+     * palavra do nome do candidato
+     * Ex.: /candidatos/busca?area=Backend&habilidade=Java&habilidade=Spring&pcd=Sim&nome=ana
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
+     */
+    @GetMapping("/candidatos/busca")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
+    public ResponseEntity<CursorPageDTO<User>> searchCandidates(
+            @RequestParam(required = false) List<String> area,
+            @RequestParam(required = false) List<String> habilidade,
+            @RequestParam(defaultValue = "true") boolean todasHabilidades,
+            @RequestParam(required = false) List<String> certificado,
+            @RequestParam(required = false) List<String> pcd,
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        FiltroCandidatos filtro = new FiltroCandidatos(
+                area != null ? area : List.of(),
+                habilidade != null ? habilidade : List.of(),
+                todasHabilidades,
+                certificado != null ? certificado : List.of(),
+                pcd != null ? pcd : List.of(),
+                nome);
+        return ResponseEntity.ok(userService.buscarCandidatos(filtro, cursor, size));
+    }
+
+    /**
+     * Contagens por habilidade, área, certificado e PCD dos candidatos filtrados (recrutadores e admins)
+     * Termos repetidos do mesmo filtro se somam; filtros diferentes se restringem
+     * Ex.: /candidatos/facetas?habilidade=Java&habilidade=Kotlin&area=Backend
+     */
+    @GetMapping("/candidatos/facetas")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
+    public ResponseEntity<FacetasCandidatosDTO> getCandidateFacets(
+            @RequestParam(required = false) List<String> habilidade,
+            @RequestParam(required = false) List<String> area,
+            @RequestParam(required = false) List<String> certificado,
+            @RequestParam(required = false) List<String> pcd,
+            @RequestParam(defaultValue = "10") int limite) {
+        Map<IndiceCandidatos.Campo, List<String>> filtros = new EnumMap<>(IndiceCandidatos.Campo.class);
+        filtros.put(IndiceCandidatos.Campo.HABILIDADE, habilidade != null ? habilidade : List.of());
+        filtros.put(IndiceCandidatos.Campo.AREA_INTERESSE, area != null ? area : List.of());
+        filtros.put(IndiceCandidatos.Campo.CERTIFICADO, certificado != null ? certificado : List.of());
+        filtros.put(IndiceCandidatos.Campo.PCD, pcd != null ? pcd : List.of());
+        return ResponseEntity.ok(userService.facetasCandidatos(filtros, limite));
+    }
+
     // ENDPOINTS ESPECÍFICOS PARA RECRUTADORES
 
     /**
@@ -1,15 +1,25 @@
 package recrutec.recrutec.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import recrutec.recrutec.dto.CandidatoCompativelDTO;
+import recrutec.recrutec.dto.CandidatoInscritoDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
 import recrutec.recrutec.model.User;
 import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.service.VagaPublicaCache;
 import recrutec.recrutec.service.VagaService;
 import recrutec.recrutec.service.UserService;
 
@@ -66,21 +76,51 @@ public class VagaController {
     /**
      * Endpoint público para listar vagas ativas
      * Disponível para todos os usuários (incluindo não autenticados)
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
+     * Responde 304 quando o If-None-Match corresponde ao ETag da página em cache
      */
-    @GetMapping("/public")
-    public ResponseEntity<List<Vaga>> listarVagasPublicas() {
-        List<Vaga> vagas = vagaService.listarVagasAbertas(); // Implementar este método no service
-        return new ResponseEntity<>(vagas, HttpStatus.OK);
+    @GetMapping(value = "/public", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> listarVagasPublicas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        // A resposta já vem serializada do cache de vagas públicas; o Spring compara o ETag com o If-None-Match
+        VagaPublicaCache.Resposta pagina = vagaService.listarVagasAbertasPublicas(cursor, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(pagina.getEtag())
+                .body(pagina.getJson());
+    }
+
+    /**
+     * Endpoint público de busca textual nas vagas abertas (título e descrição)
+     * Ordenado por relevância combinada com a data de postagem, considerando todas as vagas que correspondem ao termo
+     * Paginado por cursor até os 1000 primeiros resultados: envie o nextCursor da resposta anterior para obter a próxima página
+     */
+    @GetMapping("/public/busca")
+    public ResponseEntity<CursorPageDTO<VagaResumoDTO>> buscarVagasPublicas(
+            @RequestParam("q") String termo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(vagaService.buscarVagasAbertas(termo, cursor, size), HttpStatus.OK);
     }
 
     /**
      * Endpoint público para buscar vaga específica
+     * Responde 304 pelo ETag da versão da vaga, sem carregar nem serializar a vaga
      */
-    @GetMapping("/public/{id}")
-    public ResponseEntity<Vaga> buscarVagaPublica(@PathVariable Long id) {
-        Optional<Vaga> vaga = vagaService.buscarVagaPorId(id);
-        return vaga.map(v -> new ResponseEntity<>(v, HttpStatus.OK))
-                   .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    @GetMapping(value = "/public/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> buscarVagaPublica(@PathVariable Long id, WebRequest request) {
+        Optional<String> etag = vagaService.buscarEtagVaga(id);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null; // 304 Not Modified
+        }
+
+        return vagaService.buscarVagaPublica(id)
+                .map(vaga -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(vaga.getEtag())
+                        .body(vaga.getJson()))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     // ENDPOINTS AUTENTICADOS
@@ -88,22 +128,42 @@ public class VagaController {
     /**
      * Endpoint para listar todas as vagas
      * Requer autenticação (qualquer usuário logado)
+     * Recrutadores podem filtrar suas vagas por status
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
+     * Responde 304 quando o If-None-Match corresponde às versões das vagas da página
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR') or hasRole('ROLE_CANDIDATO')")
-    public ResponseEntity<List<Vaga>> listarVagas() {
-        List<Vaga> vagas;
+    public ResponseEntity<CursorPageDTO<VagaResumoDTO>> listarVagas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status,
+            WebRequest request) {
+        CursorPageDTO<VagaResumoDTO> vagas;
         
         if (hasRole("ROLE_ADMIN")) {
             // Admin vê todas as vagas
-            vagas = vagaService.listarVagas();
+            if (request.checkNotModified(vagaService.etagListarVagas(cursor, size))) {
+                return null;
+            }
+            vagas = vagaService.listarVagas(cursor, size);
         } else if (hasRole("ROLE_RECRUTADOR")) {
-            // Recrutador vê apenas suas vagas
-            String email = getAuthenticatedUserEmail();
-            vagas = vagaService.listarVagasPorRecrutadorEmail(email); // Implementar este método
+            // Recrutador vê apenas suas vagas, consultadas pelo id do recrutador
+            Optional<User> recrutador = userService.findByEmail(getAuthenticatedUserEmail());
+            if (recrutador.isEmpty() || !recrutador.get().isRecrutador()) {
+                return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+            }
+            Long recrutadorId = recrutador.get().getId();
+            if (request.checkNotModified(vagaService.etagListarVagasPorRecrutador(recrutadorId, status, cursor, size))) {
+                return null;
+            }
+            vagas = vagaService.listarVagasPorRecrutador(recrutadorId, status, cursor, size);
         } else {
             // Candidatos veem apenas vagas abertas
-            vagas = vagaService.listarVagasAbertas();
+            if (request.checkNotModified(vagaService.etagListarVagasAbertas(cursor, size))) {
+                return null;
+            }
+            vagas = vagaService.listarVagasAbertas(cursor, size);
         }
         
         return new ResponseEntity<>(vagas, HttpStatus.OK);
@@ -115,7 +175,7 @@ public class VagaController {
      */
     @PostMapping
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
-    public ResponseEntity<Vaga> criarVaga(@RequestBody Vaga vaga) {
+    public ResponseEntity<VagaDetalheDTO> criarVaga(@RequestBody Vaga vaga) {
         String email = getAuthenticatedUserEmail();
         
         if (hasRole("ROLE_ADMIN")) {
@@ -134,7 +194,9 @@ public class VagaController {
         }
         
         Vaga novaVaga = vagaService.salvarVaga(vaga);
-        return new ResponseEntity<>(novaVaga, HttpStatus.CREATED);
+        return vagaService.buscarDetalheVaga(novaVaga.getId())
+                .map(detalhe -> new ResponseEntity<>(detalhe, HttpStatus.CREATED))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -143,7 +205,7 @@ public class VagaController {
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
-    public ResponseEntity<Vaga> atualizarVaga(@PathVariable Long id, @RequestBody Vaga vagaAtualizada) {
+    public ResponseEntity<VagaDetalheDTO> atualizarVaga(@PathVariable Long id, @RequestBody Vaga vagaAtualizada) {
         Optional<Vaga> vagaOptional = vagaService.buscarVagaPorId(id);
         
         if (vagaOptional.isEmpty()) {
@@ -165,14 +227,23 @@ public class VagaController {
         vagaExistente.setTitulo(vagaAtualizada.getTitulo());
         vagaExistente.setDescricao(vagaAtualizada.getDescricao());
         vagaExistente.setStatus(vagaAtualizada.getStatus());
+        // Habilidades só mudam quando enviadas; a tela de gerenciamento envia apenas título, descrição e status
+        if (vagaAtualizada.getHabilidadesObrigatorias() != null) {
+            vagaExistente.setHabilidadesObrigatorias(vagaAtualizada.getHabilidadesObrigatorias());
+        }
+        if (vagaAtualizada.getHabilidadesDesejaveis() != null) {
+            vagaExistente.setHabilidadesDesejaveis(vagaAtualizada.getHabilidadesDesejaveis());
+        }
         
         // Admin pode alterar o recrutador, mas recrutador não pode
         if (isAdmin && vagaAtualizada.getRecrutador() != null) {
             vagaExistente.setRecrutador(vagaAtualizada.getRecrutador());
         }
         
-        Vaga vagaAtualizadaSalva = vagaService.salvarVaga(vagaExistente);
-        return new ResponseEntity<>(vagaAtualizadaSalva, HttpStatus.OK);
+        vagaService.salvarVaga(vagaExistente);
+        return vagaService.buscarDetalheVaga(id)
+                .map(detalhe -> new ResponseEntity<>(detalhe, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -201,44 +272,111 @@ public class VagaController {
     public ResponseEntity<String> inscreverCandidato(@PathVariable Long vagaId) {
         String emailCandidato = getAuthenticatedUserEmail();
 
-        Optional<Vaga> vagaOptional = vagaService.buscarVagaPorId(vagaId);
         Optional<User> candidatoOptional = userService.findByEmail(emailCandidato);
 
-        if (vagaOptional.isEmpty() || candidatoOptional.isEmpty() || !candidatoOptional.get().isCandidato()) {
+        if (candidatoOptional.isEmpty() || !candidatoOptional.get().isCandidato()) {
             return new ResponseEntity<>("Vaga ou candidato não encontrado", HttpStatus.NOT_FOUND);
         }
 
-        Vaga vaga = vagaOptional.get();
-        User candidato = candidatoOptional.get();
-        
-        // Verifica se a vaga está aberta
-        if (!"Aberta".equals(vaga.getStatus())) {
-            return new ResponseEntity<>("A vaga não está aberta para inscrições.", HttpStatus.BAD_REQUEST);
+        // Status da vaga e unicidade (vaga, candidato) são verificados pelo próprio INSERT no banco
+        switch (vagaService.inscreverCandidato(vagaId, candidatoOptional.get().getId())) {
+            case VAGA_NAO_ENCONTRADA:
+                return new ResponseEntity<>("Vaga ou candidato não encontrado", HttpStatus.NOT_FOUND);
+            case VAGA_FECHADA:
+                return new ResponseEntity<>("A vaga não está aberta para inscrições.", HttpStatus.BAD_REQUEST);
+            case JA_INSCRITO:
+                return new ResponseEntity<>("Você já está inscrito nesta vaga.", HttpStatus.BAD_REQUEST);
+            default:
+                break;
         }
-        
-        // Verifica se já está inscrito
-        if (vaga.getCandidatosInscritos().contains(candidato)) {
-            return new ResponseEntity<>("Você já está inscrito nesta vaga.", HttpStatus.BAD_REQUEST);
-        }
-        
-        // Inscreve o candidato
-        vaga.getCandidatosInscritos().add(candidato);
-        vagaService.salvarVaga(vaga);
-        
+
         return new ResponseEntity<>("Inscrição realizada com sucesso!", HttpStatus.OK);
     }
 
     /**
      * Endpoint para listar candidatos inscritos em uma vaga
      * Apenas o recrutador dono da vaga ou ADMINs podem ver
+     * Paginado por cursor: envie o nextCursor da resposta anterior para obter a próxima página
      */
     @GetMapping("/{vagaId}/candidatos")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
-    public ResponseEntity<List<User>> listarCandidatosInscritos(@PathVariable Long vagaId) {
+    public ResponseEntity<CursorPageDTO<CandidatoInscritoDTO>> listarCandidatosInscritos(
+            @PathVariable Long vagaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        HttpStatus acesso = verificarAcessoCandidatos(vagaId);
+        if (acesso != HttpStatus.OK) {
+            return new ResponseEntity<>(acesso);
+        }
+
+        return new ResponseEntity<>(vagaService.listarCandidatosInscritos(vagaId, cursor, size), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para exportar todos os candidatos inscritos em uma vaga como um array JSON
+     * Apenas o recrutador dono da vaga ou ADMINs podem exportar
+     * A resposta é escrita aos poucos enquanto os candidatos são lidos do banco
+     */
+    @GetMapping(value = "/{vagaId}/candidatos/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
+    public ResponseEntity<StreamingResponseBody> exportarCandidatosInscritos(@PathVariable Long vagaId) {
+        HttpStatus acesso = verificarAcessoCandidatos(vagaId);
+        if (acesso != HttpStatus.OK) {
+            return new ResponseEntity<>(acesso);
+        }
+
+        StreamingResponseBody corpo = saida -> vagaService.exportarCandidatosInscritos(vagaId, saida);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"candidatos-vaga-" + vagaId + ".json\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(corpo);
+    }
+
+    /**
+     * Endpoint para listar os candidatos mais compatíveis com as habilidades da vaga
+     * Apenas o recrutador dono da vaga ou ADMINs podem ver
+     * Ordenado pela pontuação: habilidades obrigatórias pesam mais que as desejáveis
+     */
+    @GetMapping("/{vagaId}/candidatos/compativeis")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_RECRUTADOR')")
+    public ResponseEntity<List<CandidatoCompativelDTO>> listarCandidatosCompativeis(
+            @PathVariable Long vagaId,
+            @RequestParam(defaultValue = "20") int limite) {
+        HttpStatus acesso = verificarAcessoCandidatos(vagaId);
+        if (acesso != HttpStatus.OK) {
+            return new ResponseEntity<>(acesso);
+        }
+        return new ResponseEntity<>(vagaService.listarCandidatosCompativeis(vagaId, limite), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para listar as vagas abertas recomendadas para o candidato autenticado
+     * Apenas CANDIDATOs podem ver
+     * Ordenado pela compatibilidade com as habilidades e áreas de interesse do candidato
+     */
+    @GetMapping("/recomendadas")
+    @PreAuthorize("hasRole('ROLE_CANDIDATO')")
+    public ResponseEntity<List<VagaResumoDTO>> listarVagasRecomendadas(@RequestParam(defaultValue = "10") int limite) {
+        Optional<User> candidatoOptional = userService.findByEmail(getAuthenticatedUserEmail());
+
+        if (candidatoOptional.isEmpty() || !candidatoOptional.get().isCandidato()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        return new ResponseEntity<>(vagaService.listarVagasRecomendadas(candidatoOptional.get().getId(), limite),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Verifica se o usuário autenticado pode ver os candidatos da vaga
+     *
+     * @return OK, NOT_FOUND se a vaga não existir ou FORBIDDEN se ele não for ADMIN nem o dono da vaga
+     */
+    private HttpStatus verificarAcessoCandidatos(Long vagaId) {
         Optional<Vaga> vagaOptional = vagaService.buscarVagaPorId(vagaId);
         
         if (vagaOptional.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return HttpStatus.NOT_FOUND;
         }
         
         Vaga vaga = vagaOptional.get();
@@ -248,10 +386,6 @@ public class VagaController {
         boolean isAdmin = hasRole("ROLE_ADMIN");
         boolean isOwner = vaga.getRecrutador().getEmail().equals(emailUsuario);
         
-        if (!isAdmin && !isOwner) {
-            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
-        }
-        
-        return new ResponseEntity<>(vaga.getCandidatosInscritos().stream().toList(), HttpStatus.OK);
+        return isAdmin || isOwner ? HttpStatus.OK : HttpStatus.FORBIDDEN;
     }
 }
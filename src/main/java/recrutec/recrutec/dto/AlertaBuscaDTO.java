@@ -0,0 +1,26 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de leitura de um candidato que passou a atender a uma busca salva.
+ *
+ * Preenchido diretamente pela consulta (constructor expression), sem carregar as entidades.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertaBuscaDTO {
+
+    private Long id;
+    private Long buscaId;
+    private String buscaTitulo;
+    private Long candidatoId;
+    private String candidatoNome;
+    private String candidatoEmail;
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,26 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de leitura dos candidatos mais compatíveis com uma vaga.
+ *
+ * A pontuação vem do MotorCompatibilidade (habilidades obrigatórias pesam mais que as
+ * desejáveis); os dados de contato vêm de uma única consulta pelos ids ranqueados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidatoCompativelDTO {
+
+    private Long id;
+    private String nome;
+    private String email;
+    private int pontuacao;
+    private int obrigatoriasAtendidas;
+    private int totalObrigatorias;
+    private int desejaveisAtendidas;
+    private int totalDesejaveis;
+}
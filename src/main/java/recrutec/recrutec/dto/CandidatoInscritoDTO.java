@@ -0,0 +1,28 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import recrutec.recrutec.model.StatusInscricao;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de leitura dos candidatos inscritos em uma vaga.
+ *
+ * Preenchido diretamente pela consulta (constructor expression), sem carregar a
+ * entidade User nem as suas coleções (áreas de interesse, habilidades e certificados).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidatoInscritoDTO {
+
+    private Long id;
+    private String nome;
+    private String email;
+    private String telefone;
+    private String pcd;
+    private LocalDateTime dataInscricao;
+    private StatusInscricao status;
+}
@@ -0,0 +1,17 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantidade de candidatos com um termo (habilidade, área, certificado, PCD)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContagemFacetaDTO {
+
+    private String termo;
+    private long quantidade;
+}
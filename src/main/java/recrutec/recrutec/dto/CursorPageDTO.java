@@ -0,0 +1,57 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO para respostas paginadas por cursor (keyset).
+ *
+ * O cliente envia nextCursor na próxima requisição para continuar a listagem;
+ * quando nextCursor é null não há mais itens.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    public static final int TAMANHO_MAXIMO = 100;
+
+    private List<T> items;
+    private int size;
+    private String nextCursor;
+
+    /**
+     * Limita o tamanho de página solicitado ao intervalo permitido
+     *
+     * @param tamanho Tamanho solicitado pelo cliente
+     * @return Tamanho entre 1 e TAMANHO_MAXIMO
+     */
+    public static int limitarTamanho(int tamanho) {
+        return Math.min(Math.max(tamanho, 1), TAMANHO_MAXIMO);
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou um item além do tamanho,
+     * usado apenas para saber se existe próxima página
+     *
+     * @param itens Itens buscados (até tamanho + 1)
+     * @param tamanho Tamanho da página
+     * @param cursorDoItem Função que gera o cursor a partir do último item da página
+     * @return Página com o cursor para a próxima requisição
+     */
+    public static <T> CursorPageDTO<T> of(List<T> itens, int tamanho, Function<T, String> cursorDoItem) {
+        if (itens.size() <= tamanho) {
+            return new CursorPageDTO<>(itens, itens.size(), null);
+        }
+        List<T> pagina = List.copyOf(itens.subList(0, tamanho));
+        return new CursorPageDTO<>(pagina, tamanho, cursorDoItem.apply(pagina.get(tamanho - 1)));
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,23 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO das facetas da busca de candidatos.
+ *
+ * total é a quantidade de candidatos que atendem aos filtros; facetas traz, para cada campo
+ * (habilidade, area, certificado, pcd), os termos mais frequentes entre esses candidatos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetasCandidatosDTO {
+
+    private long total;
+    private Map<String, List<ContagemFacetaDTO>> facetas;
+}
@@ -0,0 +1,24 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import recrutec.recrutec.model.Role;
+
+/**
+ * DTO de leitura da busca de usuários por nome ou email (typeahead da administração).
+ *
+ * Traz apenas o necessário para exibir a sugestão; relevancia vai de 0 a 1
+ * (similaridade de trigramas entre o termo e o trecho mais parecido do nome/email).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioBuscaDTO {
+
+    private Long id;
+    private String nome;
+    private String email;
+    private Role role;
+    private double relevancia;
+}
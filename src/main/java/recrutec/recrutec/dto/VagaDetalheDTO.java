@@ -0,0 +1,54 @@
+package recrutec.recrutec.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * DTO de leitura do detalhe de uma vaga.
+ *
+ * Preenchido diretamente pela consulta (constructor expression). Expõe apenas o
+ * total de inscritos; a lista de candidatos tem endpoint próprio. As habilidades
+ * da vaga vêm de uma consulta à parte e são preenchidas pelo VagaService.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VagaDetalheDTO {
+
+    private Long id;
+    private String titulo;
+    private String descricao;
+    private String status;
+    private LocalDate dataPostagem;
+    private Long recrutadorId;
+    private String recrutadorNome;
+    private String recrutadorEmail;
+    private String empresa;
+    private long totalInscritos;
+    private List<String> habilidadesObrigatorias = List.of();
+    private List<String> habilidadesDesejaveis = List.of();
+
+    // Versões usadas apenas para o ETag do detalhe
+    @JsonIgnore
+    private long versao;
+    @JsonIgnore
+    private Long versaoRecrutador;
+
+    // Usado pela constructor expression de VagaRepository.findDetalheById
+    public VagaDetalheDTO(Long id, String titulo, String descricao, String status, LocalDate dataPostagem,
+                          Long recrutadorId, String recrutadorNome, String recrutadorEmail, String empresa,
+                          long totalInscritos, long versao, Long versaoRecrutador) {
+        this(id, titulo, descricao, status, dataPostagem, recrutadorId, recrutadorNome, recrutadorEmail, empresa,
+                totalInscritos, List.of(), List.of(), versao, versaoRecrutador);
+    }
+
+    public long getDiasDesdePostagem() {
+        return dataPostagem != null ? ChronoUnit.DAYS.between(dataPostagem, LocalDate.now()) : 0;
+    }
+}
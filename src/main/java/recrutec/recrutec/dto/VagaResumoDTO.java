@@ -0,0 +1,33 @@
+package recrutec.recrutec.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * DTO de leitura de vagas para listagens.
+ *
+ * Preenchido diretamente pela consulta (constructor expression), sem carregar a
+ * entidade Vaga, o recrutador completo nem os candidatos inscritos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VagaResumoDTO {
+
+    private Long id;
+    private String titulo;
+    private String status;
+    private LocalDate dataPostagem;
+    private Long recrutadorId;
+    private String recrutadorNome;
+    private String empresa;
+    private long totalInscritos;
+
+    public long getDiasDesdePostagem() {
+        return dataPostagem != null ? ChronoUnit.DAYS.between(dataPostagem, LocalDate.now()) : 0;
+    }
+}
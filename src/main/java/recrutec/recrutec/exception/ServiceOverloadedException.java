@@ -0,0 +1,19 @@
+package recrutec.recrutec.exception;
+
+import lombok.Getter;
+
+/**
+ * Exceção lançada quando um recurso limitado está saturado e a requisição é recusada
+ * de imediato, em vez de esperar (ex.: fila de hashing de senhas cheia)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    // Sugestão de espera para o cliente, enviada no header Retry-After
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,41 @@
+package recrutec.recrutec.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Candidato que passou a atender a uma busca salva.
+ *
+ * A restrição única (busca_id, candidato_id) faz com que cada candidato gere no máximo
+ * um alerta por busca, mesmo que o perfil seja salvo várias vezes.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "alertas_busca", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_alerta_busca_candidato", columnNames = {"busca_id", "candidato_id"})
+})
+public class AlertaBusca {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "busca_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BuscaSalva busca;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "candidato_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User candidato; // User com role CANDIDATO
+
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,83 @@
+package recrutec.recrutec.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Busca de candidatos salva por um recrutador.
+ *
+ * Os critérios são os mesmos da busca combinada de candidatos. Sempre que um candidato
+ * se cadastra ou altera o perfil, ele é avaliado contra as buscas salvas e cada nova
+ * correspondência vira um AlertaBusca para o recrutador.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "buscas_salvas", indexes = {
+    // Suporta a listagem das buscas de um recrutador
+    @Index(name = "idx_busca_salva_recrutador", columnList = "recrutador_id")
+})
+public class BuscaSalva {
+
+    // Coleções carregadas juntas para este número de buscas (carga do IndiceBuscasSalvas)
+    private static final int TAMANHO_LOTE = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String titulo;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "recrutador_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User recrutador; // User com role RECRUTADOR
+
+    // Critérios: termos do mesmo critério se somam (exceto habilidades com todasHabilidades)
+    @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
+    @CollectionTable(name = "busca_salva_areas", joinColumns = @JoinColumn(name = "busca_id"))
+    @Column(name = "area")
+    private List<String> areas;
+
+    @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
+    @CollectionTable(name = "busca_salva_habilidades", joinColumns = @JoinColumn(name = "busca_id"))
+    @Column(name = "habilidade")
+    private List<String> habilidades;
+
+    private boolean todasHabilidades = true;
+
+    @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
+    @CollectionTable(name = "busca_salva_certificados", joinColumns = @JoinColumn(name = "busca_id"))
+    @Column(name = "certificado")
+    private List<String> certificados;
+
+    @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
+    @CollectionTable(name = "busca_salva_pcd", joinColumns = @JoinColumn(name = "busca_id"))
+    @Column(name = "pcd")
+    private List<String> pcd;
+
+    // Palavras (ou inícios de palavras) do nome do candidato
+    private String nome;
+
+    private LocalDateTime dataCriacao;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.dataCriacao == null) {
+            this.dataCriacao = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package recrutec.recrutec.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inscrição de um candidato em uma vaga.
+ *
+ * Mapeada na tabela inscricoes, que antes era apenas a tabela de junção de
+ * Vaga.candidatosInscritos. A chave primária (vaga_id, user_id) garante a unicidade,
+ * então inscrever-se é um único INSERT, sem carregar a coleção de inscritos.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "inscricoes", indexes = {
+    // Suporta a consulta das inscrições de um candidato
+    @Index(name = "idx_inscricao_user", columnList = "user_id")
+})
+public class Inscricao {
+
+    @EmbeddedId
+    private InscricaoId id;
+
+    @MapsId("vagaId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vaga_id")
+    private Vaga vaga;
+
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User candidato; // User com role CANDIDATO
+
+    // Defaults no banco preenchem as linhas que já existiam na tabela de junção
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    private LocalDateTime dataInscricao;
+
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'INSCRITO'")
+    @Column(nullable = false, length = 20)
+    private StatusInscricao status;
+}
@@ -0,0 +1,25 @@
+package recrutec.recrutec.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Chave composta da inscrição: um candidato só pode se inscrever uma vez em cada vaga
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class InscricaoId implements Serializable {
+
+    @Column(name = "vaga_id")
+    private Long vagaId;
+
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -0,0 +1,9 @@
+package recrutec.recrutec.model;
+
+public enum StatusInscricao {
+    INSCRITO,
+    EM_ANALISE,
+    APROVADO,
+    REPROVADO,
+    CANCELADO
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -22,6 +24,9 @@ import java.util.List;
 @Table(name = "users")
 public class User {
 
+    // Coleções carregadas juntas para este número de usuários (páginas de buscas de candidatos)
+    private static final int TAMANHO_LOTE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,16 +53,19 @@ public class User {
     private String curriculo; // URL do currículo
 
     @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
     @CollectionTable(name = "user_areas_interesse", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "area")
     private List<String> areaInteresse;
 
     @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
     @CollectionTable(name = "user_habilidades", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "habilidade")
     private List<String> habilidades;
 
     @ElementCollection
+    @BatchSize(size = TAMANHO_LOTE)
     @CollectionTable(name = "user_certificados", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "certificado")
     private List<String> certificados;
@@ -69,6 +77,13 @@ public class User {
     @Column(length = 100)
     private String empresa;
 
+    // Incrementada a cada alteração; base do ETag e do controle de concorrência otimista
+    @JsonIgnore
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
     // Métodos de conveniência para verificar roles
     public boolean isAdmin() {
         return Role.ADMIN.equals(this.role);
@@ -1,18 +1,28 @@
 package recrutec.recrutec.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Set;
+import java.util.List;
 
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+    // Suporta a listagem pública: filtro por status ordenado por data de postagem
+    @Index(name = "idx_vaga_status_data_postagem", columnList = "status, data_postagem"),
+    // Suporta o painel do recrutador: vagas de um recrutador, opcionalmente por status
+    @Index(name = "idx_vaga_recrutador_status", columnList = "recrutador_id, status, data_postagem")
+})
 public class Vaga {
 
+    public static final String STATUS_ABERTA = "Aberta";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,16 +34,36 @@ public class Vaga {
     @ManyToOne
     private User recrutador; // Deve ser um User com role RECRUTADOR
 
-    @ManyToMany
-    @JoinTable(
-        name = "inscricoes",
-        joinColumns = @JoinColumn(name = "vaga_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    private Set<User> candidatosInscritos; // Users com role CANDIDATO
+    // Inscrições ficam na entidade Inscricao (tabela inscricoes)
+
+    // Requisitos usados pelo MotorCompatibilidade para ranquear candidatos
+    @ElementCollection
+    @CollectionTable(name = "vaga_habilidades_obrigatorias", joinColumns = @JoinColumn(name = "vaga_id"))
+    @Column(name = "habilidade")
+    private List<String> habilidadesObrigatorias;
+
+    @ElementCollection
+    @CollectionTable(name = "vaga_habilidades_desejaveis", joinColumns = @JoinColumn(name = "vaga_id"))
+    @Column(name = "habilidade")
+    private List<String> habilidadesDesejaveis;
 
+    // Total de inscrições mantido pelo ContadorInscricoes; o JPA nunca escreve nesta coluna
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long totalInscricoes;
+
+    // Obrigatória: a paginação por keyset compara (data_postagem, id) (ver V3__data_postagem_obrigatoria.sql)
+    @Column(nullable = false)
     private LocalDate dataPostagem;
 
+    // Incrementada a cada alteração; base do ETag e do controle de concorrência otimista
+    @JsonIgnore
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
     // Define a data de postagem como a data atual antes de persistir a entidade
     @PrePersist
     public void prePersist() {
@@ -0,0 +1,38 @@
+package recrutec.recrutec.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import recrutec.recrutec.dto.AlertaBuscaDTO;
+import recrutec.recrutec.model.AlertaBusca;
+
+import java.util.List;
+
+/**
+ * Repository dos alertas de buscas salvas.
+ */
+public interface AlertaBuscaRepository extends JpaRepository<AlertaBusca, Long> {
+
+    /**
+     * Registra o alerta com um único INSERT; um candidato que já tinha alerta na busca
+     * é resolvido pela restrição única (busca_id, candidato_id), e uma busca que já foi
+     * removida simplesmente não recebe o alerta
+     *
+     * @return 1 se o alerta foi criado, 0 se já existia ou se a busca não existe mais
+     */
+    @Modifying
+    @Query(value = "INSERT INTO alertas_busca (busca_id, candidato_id, data_criacao) "
+            + "SELECT :buscaId, :candidatoId, CURRENT_TIMESTAMP "
+            + "WHERE EXISTS (SELECT 1 FROM buscas_salvas WHERE id = :buscaId) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int registrar(@Param("buscaId") Long buscaId, @Param("candidatoId") Long candidatoId);
+
+    // Alertas das buscas de um recrutador, dos mais novos aos mais antigos, antes do cursor (id do último entregue)
+    @Query("SELECT new recrutec.recrutec.dto.AlertaBuscaDTO(a.id, b.id, b.titulo, c.id, c.nome, c.email, a.dataCriacao) "
+            + "FROM AlertaBusca a JOIN a.busca b JOIN a.candidato c "
+            + "WHERE b.recrutador.id = :recrutadorId AND a.id < :antes ORDER BY a.id DESC")
+    List<AlertaBuscaDTO> findPaginaAlertas(@Param("recrutadorId") Long recrutadorId, @Param("antes") Long antes,
+                                           Limit limit);
+}
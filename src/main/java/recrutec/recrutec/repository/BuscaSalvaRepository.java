@@ -0,0 +1,17 @@
+package recrutec.recrutec.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import recrutec.recrutec.model.BuscaSalva;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository de buscas de candidatos salvas pelos recrutadores.
+ */
+public interface BuscaSalvaRepository extends JpaRepository<BuscaSalva, Long> {
+
+    List<BuscaSalva> findByRecrutadorIdOrderByIdDesc(Long recrutadorId);
+
+    Optional<BuscaSalva> findByIdAndRecrutadorId(Long id, Long recrutadorId);
+}
@@ -0,0 +1,70 @@
+package recrutec.recrutec.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import recrutec.recrutec.dto.CandidatoInscritoDTO;
+import recrutec.recrutec.model.Inscricao;
+import recrutec.recrutec.model.InscricaoId;
+import recrutec.recrutec.model.Vaga;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository de inscrições de candidatos em vagas.
+ */
+public interface InscricaoRepository extends JpaRepository<Inscricao, InscricaoId> {
+
+    // Candidatos de uma vaga em ordem de id, a mesma da chave primária (vaga_id, user_id)
+    String CANDIDATOS = "SELECT new recrutec.recrutec.dto.CandidatoInscritoDTO(c.id, c.nome, c.email, c.telefone, "
+            + "c.pcd, i.dataInscricao, i.status) FROM Inscricao i JOIN i.candidato c WHERE i.vaga.id = :vagaId ";
+
+    // Linhas trazidas do banco por vez na exportação; o driver do PostgreSQL só usa cursor dentro de uma transação
+    String TAMANHO_LOTE_EXPORTACAO = "500";
+
+    /**
+     * Inscreve o candidato com um único INSERT, sem bloquear a linha da vaga.
+     *
+     * A verificação de status faz parte do próprio INSERT, então uma vaga fechada
+     * entre a leitura e a escrita não recebe a inscrição. Inscrições duplicadas
+     * concorrentes são resolvidas pela chave primária (vaga_id, user_id).
+     *
+     * @return 1 se a inscrição foi criada, 0 se já existia ou se a vaga não está aberta
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inscricoes (vaga_id, user_id, data_inscricao, status) "
+            + "SELECT v.id, :userId, CURRENT_TIMESTAMP, 'INSCRITO' FROM vaga v "
+            + "WHERE v.id = :vagaId AND v.status = '" + Vaga.STATUS_ABERTA + "' "
+            + "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int inscrever(@Param("vagaId") Long vagaId, @Param("userId") Long userId);
+
+    // Página de candidatos inscritos após o cursor (id do último candidato entregue)
+    @Query(CANDIDATOS + "AND i.id.userId > :apos ORDER BY i.id.userId")
+    List<CandidatoInscritoDTO> findPaginaCandidatos(@Param("vagaId") Long vagaId, @Param("apos") Long apos,
+                                                    Limit limit);
+
+    /**
+     * Todos os candidatos inscritos em uma vaga, lidos do banco em lotes por um cursor.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_EXPORTACAO),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(CANDIDATOS + "ORDER BY i.id.userId")
+    Stream<CandidatoInscritoDTO> streamCandidatos(@Param("vagaId") Long vagaId);
+
+    long countByVagaId(Long vagaId);
+
+    // Remove as inscrições de uma vaga antes de removê-la
+    @Modifying
+    @Query("DELETE FROM Inscricao i WHERE i.vaga.id = :vagaId")
+    int deleteByVagaId(@Param("vagaId") Long vagaId);
+}
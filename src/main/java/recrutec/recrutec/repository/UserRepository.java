@@ -1,14 +1,20 @@
 package recrutec.recrutec.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository único para todas as operações de usuários.
@@ -17,18 +23,84 @@ import java.util.Optional;
  * - Single Responsibility: Responsável apenas por operações de dados de User
  * - DRY: Elimina duplicação dos 3 repositories anteriores
  * - Query Methods: Métodos baseados em convenção do Spring Data
+ *
+ * As listagens usam paginação por keyset sobre o id: cada página começa
+ * logo após o último id entregue, com custo constante em qualquer profundidade.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Linhas trazidas do banco por vez na carga dos índices em memória
+    String TAMANHO_LOTE_INDICE = "1000";
+
+    /**
+     * Busca de usuários por nome/email por similaridade de trigramas, sem diferenciar maiúsculas
+     * nem acentos (extensões, função f_unaccent e índice GiST criados em V2__busca_trigrama_usuarios.sql).
+     *
+     * O termo deve chegar já normalizado. A expressão é a mesma do índice, então o filtro (<%) e a
+     * ordenação por distância (<<->) são atendidos pelo índice, que entrega os usuários do mais ao
+     * menos parecido e para ao completar a página.
+     */
+    String TEXTO_BUSCA = "lower(f_unaccent(u.nome || ' ' || u.email))";
+    String BUSCA = "SELECT u.id AS id, u.nome AS nome, u.email AS email, u.role AS role, "
+            + "word_similarity(:termo, " + TEXTO_BUSCA + ") AS relevancia "
+            + "FROM users u WHERE :termo <% " + TEXTO_BUSCA + " "
+            + "ORDER BY :termo <<-> " + TEXTO_BUSCA + ", u.id OFFSET :inicio LIMIT :limite";
+
+    // Tempo máximo da busca por similaridade; um typeahead prefere falhar rápido a segurar a conexão
+    String TEMPO_MAXIMO_BUSCA_MS = "2000";
+
+    /**
+     * Id e versão de um usuário
+     */
+    interface VersaoUsuario {
+        Long getId();
+        Long getVersao();
+    }
+
+    /**
+     * Usuário encontrado pela busca por similaridade
+     */
+    interface UsuarioEncontrado {
+        Long getId();
+        String getNome();
+        String getEmail();
+        String getRole();
+        Float getRelevancia();
+    }
+
+    /**
+     * Dados de contato de um usuário
+     */
+    interface ContatoUsuario {
+        Long getId();
+        String getNome();
+        String getEmail();
+    }
+
+    /**
+     * Um termo (habilidade, área...) de um candidato
+     */
+    interface TermoCandidato {
+        Long getId();
+        String getTermo();
+    }
+
     // Buscar por email (para login e validações)
     Optional<User> findByEmail(String email);
 
+    // Versão do usuário pelo email, sem carregar a entidade (base do ETag do perfil)
+    @Query("SELECT u.id AS id, u.versao AS versao FROM User u WHERE u.email = :email")
+    Optional<VersaoUsuario> findVersaoByEmail(@Param("email") String email);
+
     // Buscar por email e senha (para autenticação legada, se necessário)
     Optional<User> findByEmailAndSenha(String email, String senha);
 
-    // Buscar usuários por role
-    List<User> findByRole(Role role);
+    // Listar usuários após o id do cursor
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Listar usuários por role após o id do cursor
+    List<User> findByRoleAndIdGreaterThanOrderByIdAsc(Role role, Long id, Limit limit);
 
     // Buscar administradores
     @Query("SELECT u FROM User u WHERE u.role = 'ADMIN'")
@@ -42,13 +114,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = 'RECRUTADOR'")
     List<User> findRecrutadores();
 
-    // Buscar candidatos por área de interesse
-    @Query("SELECT DISTINCT u FROM User u JOIN u.areaInteresse a WHERE u.role = 'CANDIDATO' AND a LIKE %:area%")
-    List<User> findCandidatosByAreaInteresse(@Param("area") String area);
+    // Contato dos usuários informados, em qualquer ordem
+    @Query("SELECT u.id AS id, u.nome AS nome, u.email AS email FROM User u WHERE u.id IN :ids")
+    List<ContatoUsuario> findContatosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Habilidades de todos os candidatos, lidas em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id AS id, h AS termo FROM User u JOIN u.habilidades h WHERE u.role = 'CANDIDATO'")
+    Stream<TermoCandidato> streamHabilidadesCandidatos();
 
-    // Buscar candidatos por habilidade
-    @Query("SELECT DISTINCT u FROM User u JOIN u.habilidades h WHERE u.role = 'CANDIDATO' AND h LIKE %:habilidade%")
-    List<User> findCandidatosByHabilidade(@Param("habilidade") String habilidade);
+    // Áreas de interesse de todos os candidatos, lidas em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id AS id, a AS termo FROM User u JOIN u.areaInteresse a WHERE u.role = 'CANDIDATO'")
+    Stream<TermoCandidato> streamAreasInteresseCandidatos();
+
+    // Certificados de todos os candidatos, lidos em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id AS id, c AS termo FROM User u JOIN u.certificados c WHERE u.role = 'CANDIDATO'")
+    Stream<TermoCandidato> streamCertificadosCandidatos();
+
+    // PCD informado pelos candidatos, lido em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id AS id, u.pcd AS termo FROM User u WHERE u.role = 'CANDIDATO' AND u.pcd IS NOT NULL")
+    Stream<TermoCandidato> streamPcdCandidatos();
+
+    // Nomes dos candidatos, lidos em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id AS id, u.nome AS termo FROM User u WHERE u.role = 'CANDIDATO' AND u.nome IS NOT NULL")
+    Stream<TermoCandidato> streamNomesCandidatos();
+
+    // Ids de todos os candidatos, lidos em lotes (carga do IndiceCandidatos)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = TAMANHO_LOTE_INDICE))
+    @Query("SELECT u.id FROM User u WHERE u.role = 'CANDIDATO'")
+    Stream<Long> streamIdsCandidatos();
 
     // Buscar recrutadores por empresa
     @Query("SELECT u FROM User u WHERE u.role = 'RECRUTADOR' AND u.empresa LIKE %:empresa%")
@@ -60,11 +158,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Contar usuários por role
     long countByRole(Role role);
 
-    // Buscar usuários por nome (pesquisa)
-    @Query("SELECT u FROM User u WHERE u.nome LIKE %:nome%")
-    List<User> findByNomeContaining(@Param("nome") String nome);
-
-    // Buscar por email ou nome (pesquisa geral)
-    @Query("SELECT u FROM User u WHERE u.email LIKE %:termo% OR u.nome LIKE %:termo%")
-    List<User> findByEmailOrNomeContaining(@Param("termo") String termo);
+    // Usuários com nome ou email parecido com o termo, do mais ao menos parecido (apenas PostgreSQL)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_SPEC_QUERY_TIMEOUT, value = TEMPO_MAXIMO_BUSCA_MS))
+    @Query(value = BUSCA, nativeQuery = true)
+    List<UsuarioEncontrado> buscarPorNomeOuEmail(@Param("termo") String termo, @Param("inicio") int inicio,
+                                                 @Param("limite") int limite);
 }
\ No newline at end of file
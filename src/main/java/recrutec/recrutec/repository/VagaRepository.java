@@ -1,8 +1,171 @@
 package recrutec.recrutec.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
 import recrutec.recrutec.model.Vaga;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository de vagas.
+ *
+ * As listagens usam paginação por keyset sobre (dataPostagem, id) em ordem decrescente:
+ * cada página começa logo após o último item da anterior, com custo constante
+ * independentemente da profundidade da página.
+ */
 public interface VagaRepository extends JpaRepository<Vaga, Long> {
 
+    // Condição de keyset: itens posicionados após o cursor (data, id)
+    String APOS_CURSOR = "(v.dataPostagem < :data OR (v.dataPostagem = :data AND v.id < :id))";
+    String ORDEM_KEYSET = " ORDER BY v.dataPostagem DESC, v.id DESC";
+
+    // Listagens retornam apenas os campos do resumo e o total de inscritos mantido na própria vaga
+    String TOTAL_INSCRITOS = "v.totalInscricoes";
+    String RESUMO = "SELECT new recrutec.recrutec.dto.VagaResumoDTO(v.id, v.titulo, v.status, v.dataPostagem, "
+            + "r.id, r.nome, r.empresa, " + TOTAL_INSCRITOS + ") FROM Vaga v LEFT JOIN v.recrutador r WHERE ";
+
+    // Versões das vagas de uma página: mesma janela (cursor e limite) da consulta paginada, base do ETag
+    String VERSAO = "SELECT v.id AS id, v.versao AS versao, r.versao AS versaoRecrutador, "
+            + TOTAL_INSCRITOS + " AS totalInscricoes FROM Vaga v LEFT JOIN v.recrutador r WHERE ";
+
+    /**
+     * Busca textual nas vagas abertas (coluna busca e índice GIN criados em V1__busca_textual_vagas.sql).
+     *
+     * A relevância combina ts_rank_cd, normalizado para [0, 1), com o frescor da vaga: uma vaga
+     * postada há FRESCOR_DIAS dias vale metade de uma postada hoje. Todas as correspondências
+     * filtradas pelo índice GIN são ranqueadas; com o LIMIT o Postgres ordena com um heap de
+     * :inicio + :limite linhas, então a memória não cresce com o total de correspondências.
+     */
+    String FRESCOR_DIAS = "30.0";
+    String BUSCA = "SELECT c.id "
+            + "FROM vaga c, websearch_to_tsquery('portuguese', :termo) AS q(consulta) "
+            + "WHERE c.status = '" + Vaga.STATUS_ABERTA + "' AND c.busca @@ q.consulta "
+            + "ORDER BY ts_rank_cd(c.busca, q.consulta, 32) "
+            + "/ (1 + GREATEST(CURRENT_DATE - c.data_postagem, 0) / " + FRESCOR_DIAS + ") DESC, c.id DESC "
+            + "OFFSET :inicio LIMIT :limite";
+
+    /**
+     * Versões de uma vaga e do seu recrutador (ambos aparecem na resposta) e o total de inscrições,
+     * que é gravado sem alterar a versão da vaga
+     */
+    interface VersaoVaga {
+        Long getId();
+        Long getVersao();
+        Long getVersaoRecrutador();
+        Long getTotalInscricoes();
+    }
+
+    /**
+     * Um termo (habilidade, título...) de uma vaga
+     */
+    interface TermoVaga {
+        Long getId();
+        String getTermo();
+    }
+
+    /**
+     * Uma habilidade de uma vaga, obrigatória ou desejável
+     */
+    interface HabilidadeVaga {
+        Boolean getObrigatoria();
+        String getHabilidade();
+    }
+
+    // Listar todas as vagas após o cursor
+    @Query(RESUMO + APOS_CURSOR + ORDEM_KEYSET)
+    List<VagaResumoDTO> findPagina(@Param("data") LocalDate data, @Param("id") Long id, Limit limit);
+
+    // Listar vagas por status após o cursor (usa idx_vaga_status_data_postagem)
+    @Query(RESUMO + "v.status = :status AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VagaResumoDTO> findPaginaByStatus(@Param("status") String status,
+                                           @Param("data") LocalDate data, @Param("id") Long id, Limit limit);
+
+    // Listar vagas de um recrutador após o cursor (usa idx_vaga_recrutador_status)
+    @Query(RESUMO + "v.recrutador.id = :recrutadorId AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VagaResumoDTO> findPaginaByRecrutadorId(@Param("recrutadorId") Long recrutadorId,
+                                                 @Param("data") LocalDate data, @Param("id") Long id, Limit limit);
+
+    // Listar vagas de um recrutador por status após o cursor (usa idx_vaga_recrutador_status)
+    @Query(RESUMO + "v.recrutador.id = :recrutadorId AND v.status = :status AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VagaResumoDTO> findPaginaByRecrutadorIdAndStatus(@Param("recrutadorId") Long recrutadorId,
+                                                          @Param("status") String status,
+                                                          @Param("data") LocalDate data, @Param("id") Long id,
+                                                          Limit limit);
+
+    // Ids das vagas abertas que correspondem ao termo, em ordem de relevância (apenas PostgreSQL)
+    @Query(value = BUSCA, nativeQuery = true)
+    List<Long> buscarIdsAbertas(@Param("termo") String termo, @Param("inicio") int inicio,
+                                @Param("limite") int limite);
+
+    // Resumos das vagas informadas, em qualquer ordem
+    @Query(RESUMO + "v.id IN :ids")
+    List<VagaResumoDTO> findResumosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Detalhe de uma vaga em uma única consulta
+    @Query("SELECT new recrutec.recrutec.dto.VagaDetalheDTO(v.id, v.titulo, v.descricao, v.status, v.dataPostagem, "
+            + "r.id, r.nome, r.email, r.empresa, " + TOTAL_INSCRITOS + ", v.versao, r.versao) "
+            + "FROM Vaga v LEFT JOIN v.recrutador r WHERE v.id = :id")
+    Optional<VagaDetalheDTO> findDetalheById(@Param("id") Long id);
+
+    // Habilidades obrigatórias e desejáveis de uma vaga em uma única consulta, sem carregar a entidade
+    @Query(value = "SELECT TRUE AS obrigatoria, habilidade FROM vaga_habilidades_obrigatorias WHERE vaga_id = :id "
+            + "UNION ALL SELECT FALSE AS obrigatoria, habilidade FROM vaga_habilidades_desejaveis WHERE vaga_id = :id",
+            nativeQuery = true)
+    List<HabilidadeVaga> findHabilidadesById(@Param("id") Long id);
+
+    // Versão de uma vaga, sem carregar a entidade
+    @Query(VERSAO + "v.id = :id")
+    Optional<VersaoVaga> findVersaoById(@Param("id") Long id);
+
+    // Habilidades obrigatórias das vagas abertas (carga do RecomendadorVagas)
+    @Query("SELECT v.id AS id, h AS termo FROM Vaga v JOIN v.habilidadesObrigatorias h "
+            + "WHERE v.status = '" + Vaga.STATUS_ABERTA + "'")
+    Stream<TermoVaga> streamHabilidadesObrigatoriasAbertas();
+
+    // Habilidades desejáveis das vagas abertas (carga do RecomendadorVagas)
+    @Query("SELECT v.id AS id, h AS termo FROM Vaga v JOIN v.habilidadesDesejaveis h "
+            + "WHERE v.status = '" + Vaga.STATUS_ABERTA + "'")
+    Stream<TermoVaga> streamHabilidadesDesejaveisAbertas();
+
+    // Títulos das vagas abertas (carga do RecomendadorVagas)
+    @Query("SELECT v.id AS id, v.titulo AS termo FROM Vaga v WHERE v.status = '" + Vaga.STATUS_ABERTA + "'")
+    Stream<TermoVaga> streamTitulosAbertas();
+
+    // Status de uma vaga, sem carregar a entidade
+    @Query("SELECT v.status FROM Vaga v WHERE v.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
+
+    // Recalcula o total das vagas cujo contador diverge da tabela de inscrições
+    @Modifying
+    @Query("UPDATE Vaga v SET v.totalInscricoes = (SELECT COUNT(i) FROM Inscricao i WHERE i.vaga.id = v.id) "
+            + "WHERE v.totalInscricoes <> (SELECT COUNT(i) FROM Inscricao i WHERE i.vaga.id = v.id)")
+    int reconciliarTotaisInscricoes();
+
+    // Versões das vagas de cada listagem paginada acima, na mesma janela (cursor e limite)
+    @Query(VERSAO + APOS_CURSOR + ORDEM_KEYSET)
+    List<VersaoVaga> findVersoesPagina(@Param("data") LocalDate data, @Param("id") Long id, Limit limit);
+
+    @Query(VERSAO + "v.status = :status AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VersaoVaga> findVersoesPaginaByStatus(@Param("status") String status,
+                                               @Param("data") LocalDate data, @Param("id") Long id, Limit limit);
+
+    @Query(VERSAO + "v.recrutador.id = :recrutadorId AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VersaoVaga> findVersoesPaginaByRecrutadorId(@Param("recrutadorId") Long recrutadorId,
+                                                     @Param("data") LocalDate data, @Param("id") Long id,
+                                                     Limit limit);
+
+    @Query(VERSAO + "v.recrutador.id = :recrutadorId AND v.status = :status AND " + APOS_CURSOR + ORDEM_KEYSET)
+    List<VersaoVaga> findVersoesPaginaByRecrutadorIdAndStatus(@Param("recrutadorId") Long recrutadorId,
+                                                              @Param("status") String status,
+                                                              @Param("data") LocalDate data, @Param("id") Long id,
+                                                              Limit limit);
 }
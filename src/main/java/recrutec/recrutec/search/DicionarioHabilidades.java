@@ -0,0 +1,41 @@
+package recrutec.recrutec.search;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Codifica habilidades normalizadas em ids inteiros sequenciais (posições nos bitsets).
+ *
+ * Ids nunca são reaproveitados nem removidos: uma habilidade que deixou de ser usada
+ * apenas ocupa um bit que nenhum candidato tem. O dicionário é recriado a cada carga
+ * completa do MotorCompatibilidade.
+ */
+final class DicionarioHabilidades {
+
+    static final int DESCONHECIDA = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger proximo = new AtomicInteger();
+
+    /**
+     * Id da habilidade, criando um novo se ela ainda não existir
+     *
+     * @param termo Habilidade já normalizada
+     */
+    int codificar(String termo) {
+        return ids.computeIfAbsent(termo, t -> proximo.getAndIncrement());
+    }
+
+    /**
+     * Id da habilidade ou DESCONHECIDA, sem alterar o dicionário (usado nas consultas)
+     *
+     * @param termo Habilidade já normalizada
+     */
+    int buscar(String termo) {
+        return ids.getOrDefault(termo, DESCONHECIDA);
+    }
+
+    int tamanho() {
+        return proximo.get();
+    }
+}
@@ -0,0 +1,26 @@
+package recrutec.recrutec.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Critérios da busca combinada de candidatos.
+ * Termos do mesmo critério se somam (exceto habilidades com todasHabilidades); critérios diferentes se restringem.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroCandidatos {
+
+    private List<String> areas = List.of();
+    private List<String> habilidades = List.of();
+    // true: o candidato precisa ter todas as habilidades; false: basta uma
+    private boolean todasHabilidades = true;
+    private List<String> certificados = List.of();
+    private List<String> pcd = List.of();
+    // Palavras do nome (ou inícios de palavras), todas obrigatórias
+    private String nome;
+}
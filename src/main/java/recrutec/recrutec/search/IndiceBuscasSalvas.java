@@ -0,0 +1,280 @@
+package recrutec.recrutec.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.BuscaSalvaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice dos critérios das buscas salvas, para avaliar um candidato alterado sem percorrer todas as buscas.
+ *
+ * Cada busca é ancorada em um único critério: os termos de um critério que todo candidato
+ * correspondente precisa ter (um deles, nos critérios em que basta um; o mais raro, em
+ * "todas as habilidades"). Entre os critérios da busca, a âncora é o que menos candidatos
+ * atendem hoje, segundo o IndiceCandidatos. Ao salvar um candidato, só as buscas ancoradas
+ * em algum termo dele são avaliadas por completo, então o custo depende dos termos do
+ * candidato e das buscas que realmente o tocam, não do total de buscas salvas.
+ *
+ * Buscas só por nome são ancoradas na palavra mais longa, e o candidato as encontra
+ * pelos prefixos das palavras do seu nome.
+ *
+ * Leituras não usam lock; escritas (criar e remover buscas) passam por um único lock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndiceBuscasSalvas implements SmartInitializingSingleton {
+
+    private final BuscaSalvaRepository buscaSalvaRepository;
+    private final IndiceCandidatos indiceCandidatos;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Predicado> predicados = new ConcurrentHashMap<>();
+    // Campo -> termo da âncora -> ids das buscas ancoradas nele
+    private final Map<IndiceCandidatos.Campo, ConcurrentHashMap<String, Set<Long>>> ancoras =
+            new EnumMap<>(IndiceCandidatos.Campo.class);
+
+    {
+        for (IndiceCandidatos.Campo campo : IndiceCandidatos.Campo.values()) {
+            ancoras.put(campo, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco
+     */
+    public synchronized void carregar() {
+        long inicio = System.nanoTime();
+        TransactionTemplate leitura = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        leitura.setReadOnly(true);
+        List<Predicado> carregados = leitura.execute(status ->
+                buscaSalvaRepository.findAll().stream().map(this::predicado).toList());
+
+        predicados.clear();
+        ancoras.values().forEach(Map::clear);
+        carregados.forEach(this::ancorar);
+        log.info("Índice de buscas salvas carregado: {} buscas em {} ms",
+                predicados.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Inclui ou atualiza uma busca salva
+     */
+    public synchronized void adicionar(BuscaSalva busca) {
+        remover(busca.getId());
+        ancorar(predicado(busca));
+    }
+
+    /**
+     * Retira uma busca salva do índice
+     */
+    public synchronized void remover(Long buscaId) {
+        Predicado predicado = predicados.remove(buscaId);
+        if (predicado != null && predicado.getCampoAncora() != null) {
+            for (String termo : predicado.getTermosAncora()) {
+                ancoras.get(predicado.getCampoAncora()).computeIfPresent(termo, (t, ids) -> {
+                    ids.remove(buscaId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    /**
+     * Retira do índice todas as buscas de um recrutador
+     */
+    public synchronized void removerDoRecrutador(Long recrutadorId) {
+        List<Long> buscas = predicados.values().stream()
+                .filter(predicado -> recrutadorId.equals(predicado.getRecrutadorId()))
+                .map(Predicado::getId)
+                .toList();
+        buscas.forEach(this::remover);
+    }
+
+    // O banco remove as buscas do recrutador em cascata; aqui elas saem do índice
+    @EventListener
+    public void aoRemoverUsuario(UsuarioRemovidoEvent evento) {
+        removerDoRecrutador(evento.getId());
+    }
+
+    /**
+     * Ids das buscas salvas que o candidato atende, em ordem crescente
+     *
+     * @param candidato Candidato com o perfil já salvo
+     */
+    public List<Long> correspondentes(User candidato) {
+        Map<IndiceCandidatos.Campo, Set<String>> termos = new EnumMap<>(IndiceCandidatos.Campo.class);
+        for (IndiceCandidatos.Campo campo : IndiceCandidatos.Campo.values()) {
+            termos.put(campo, campo.termos(candidato));
+        }
+
+        Set<Long> avaliadas = new HashSet<>();
+        List<Long> resultado = new ArrayList<>();
+        for (IndiceCandidatos.Campo campo : IndiceCandidatos.Campo.values()) {
+            ConcurrentHashMap<String, Set<Long>> porTermo = ancoras.get(campo);
+            if (porTermo.isEmpty()) {
+                continue;
+            }
+            for (String chave : chaves(campo, termos.get(campo))) {
+                for (Long id : porTermo.getOrDefault(chave, Set.of())) {
+                    Predicado predicado = predicados.get(id);
+                    if (avaliadas.add(id) && predicado != null && predicado.atende(termos)) {
+                        resultado.add(id);
+                    }
+                }
+            }
+        }
+        Collections.sort(resultado);
+        return resultado;
+    }
+
+    /**
+     * Quantidade de buscas no índice
+     */
+    public int tamanho() {
+        return predicados.size();
+    }
+
+    // Critérios e âncora de uma busca no índice (null se ela não estiver indexada)
+    Predicado predicadoDa(Long buscaId) {
+        return predicados.get(buscaId);
+    }
+
+    private void ancorar(Predicado predicado) {
+        predicados.put(predicado.getId(), predicado);
+        if (predicado.getCampoAncora() != null) {
+            for (String termo : predicado.getTermosAncora()) {
+                ancoras.get(predicado.getCampoAncora())
+                        .computeIfAbsent(termo, t -> ConcurrentHashMap.newKeySet())
+                        .add(predicado.getId());
+            }
+        }
+    }
+
+    // Chaves de âncora que um candidato alcança: os próprios termos ou, no nome, os prefixos das palavras
+    private static Collection<String> chaves(IndiceCandidatos.Campo campo, Set<String> termos) {
+        if (campo != IndiceCandidatos.Campo.NOME) {
+            return termos;
+        }
+        Set<String> prefixos = new HashSet<>();
+        for (String palavra : termos) {
+            for (int fim = 1; fim <= palavra.length(); fim++) {
+                prefixos.add(palavra.substring(0, fim));
+            }
+        }
+        return prefixos;
+    }
+
+    private Predicado predicado(BuscaSalva busca) {
+        Map<IndiceCandidatos.Campo, Set<String>> criterios = new EnumMap<>(IndiceCandidatos.Campo.class);
+        incluir(criterios, IndiceCandidatos.Campo.AREA_INTERESSE, busca.getAreas());
+        incluir(criterios, IndiceCandidatos.Campo.HABILIDADE, busca.getHabilidades());
+        incluir(criterios, IndiceCandidatos.Campo.CERTIFICADO, busca.getCertificados());
+        incluir(criterios, IndiceCandidatos.Campo.PCD, busca.getPcd());
+        incluir(criterios, IndiceCandidatos.Campo.NOME, busca.getNome() != null ? List.of(busca.getNome()) : null);
+
+        // Âncora: o critério com a menor estimativa de candidatos atendidos hoje
+        IndiceCandidatos.Campo campoAncora = null;
+        Set<String> termosAncora = Set.of();
+        long menorEstimativa = Long.MAX_VALUE;
+        for (Map.Entry<IndiceCandidatos.Campo, Set<String>> criterio : criterios.entrySet()) {
+            IndiceCandidatos.Campo campo = criterio.getKey();
+            if (campo == IndiceCandidatos.Campo.NOME) {
+                continue;
+            }
+            Set<String> termos = criterio.getValue();
+            Set<String> ancora = termos;
+            long estimativa = 0;
+            if (campo == IndiceCandidatos.Campo.HABILIDADE && busca.isTodasHabilidades()) {
+                String maisRaro = termos.stream()
+                        .min(Comparator.comparingInt((String termo) -> indiceCandidatos.contar(campo, termo))
+                                .thenComparing(Comparator.naturalOrder()))
+                        .orElseThrow();
+                ancora = Set.of(maisRaro);
+                estimativa = indiceCandidatos.contar(campo, maisRaro);
+            } else {
+                for (String termo : termos) {
+                    estimativa += indiceCandidatos.contar(campo, termo);
+                }
+            }
+            if (estimativa < menorEstimativa) {
+                menorEstimativa = estimativa;
+                campoAncora = campo;
+                termosAncora = ancora;
+            }
+        }
+        if (campoAncora == null && criterios.containsKey(IndiceCandidatos.Campo.NOME)) {
+            campoAncora = IndiceCandidatos.Campo.NOME;
+            termosAncora = Set.of(criterios.get(campoAncora).stream()
+                    .max(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+                    .orElseThrow());
+        }
+        // Uma busca sem critérios não é ancorada e nunca gera alertas
+        Long recrutadorId = busca.getRecrutador() != null ? busca.getRecrutador().getId() : null;
+        return new Predicado(busca.getId(), recrutadorId, Map.copyOf(criterios), busca.isTodasHabilidades(),
+                campoAncora, termosAncora);
+    }
+
+    private static void incluir(Map<IndiceCandidatos.Campo, Set<String>> criterios, IndiceCandidatos.Campo campo,
+                                Collection<String> valores) {
+        Set<String> termos = new HashSet<>();
+        if (valores != null) {
+            valores.forEach(valor -> termos.addAll(campo.termos(valor)));
+        }
+        if (!termos.isEmpty()) {
+            criterios.put(campo, Set.copyOf(termos));
+        }
+    }
+
+    /**
+     * Critérios normalizados de uma busca salva e a âncora escolhida para ela
+     */
+    @lombok.Value
+    static class Predicado {
+        long id;
+        Long recrutadorId;
+        Map<IndiceCandidatos.Campo, Set<String>> criterios;
+        boolean todasHabilidades;
+        IndiceCandidatos.Campo campoAncora;
+        Set<String> termosAncora;
+
+        boolean atende(Map<IndiceCandidatos.Campo, Set<String>> termos) {
+            for (Map.Entry<IndiceCandidatos.Campo, Set<String>> criterio : criterios.entrySet()) {
+                Set<String> doCandidato = termos.getOrDefault(criterio.getKey(), Set.of());
+                boolean atendido = switch (criterio.getKey()) {
+                    case NOME -> criterio.getValue().stream()
+                            .allMatch(prefixo -> doCandidato.stream().anyMatch(palavra -> palavra.startsWith(prefixo)));
+                    case HABILIDADE -> todasHabilidades
+                            ? doCandidato.containsAll(criterio.getValue())
+                            : !Collections.disjoint(doCandidato, criterio.getValue());
+                    default -> !Collections.disjoint(doCandidato, criterio.getValue());
+                };
+                if (!atendido) {
+                    return false;
+                }
+            }
+            return !criterios.isEmpty();
+        }
+    }
+}
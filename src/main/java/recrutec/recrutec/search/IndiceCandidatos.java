@@ -0,0 +1,528 @@
+package recrutec.recrutec.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.dto.ContagemFacetaDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória dos candidatos: termo normalizado -> ids dos candidatos.
+ *
+ * As listas de ids são RoaringBitmaps (conjuntos de int comprimidos), já ordenados,
+ * então uma página de candidatos por habilidade ou área sai do índice sem varrer
+ * as tabelas de coleções do usuário. As mesmas listas dão as contagens das facetas:
+ * o conjunto filtrado é a interseção dos bitmaps dos filtros e a contagem de cada termo
+ * é a cardinalidade da sua interseção com ele, sem materializar o resultado.
+ *
+ * Para o autocompletar, os termos de cada campo também ficam em um array ordenado: os termos
+ * com um prefixo formam uma faixa contígua, localizada por busca binária.
+ *
+ * A busca combinada (área, habilidades, certificados, PCD e nome) é só uma sequência de
+ * interseções e uniões desses bitmaps; o nome é indexado palavra por palavra e cada
+ * palavra digitada casa com as palavras indexadas que começam com ela.
+ *
+ * Leituras não usam lock: um bitmap publicado no mapa nunca é alterado, cada escrita
+ * publica uma cópia (copy-on-write). Escritas são raras (cadastro e edição de perfil)
+ * e passam por um único lock.
+ *
+ * O índice é carregado na inicialização e mantido pelos eventos de UserService.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndiceCandidatos implements SmartInitializingSingleton {
+
+    /**
+     * Campos do candidato indexados
+     */
+    public enum Campo {
+        HABILIDADE("habilidade", false, User::getHabilidades),
+        AREA_INTERESSE("area", false, User::getAreaInteresse),
+        CERTIFICADO("certificado", false, User::getCertificados),
+        PCD("pcd", false, usuario -> usuario.getPcd() != null ? List.of(usuario.getPcd()) : List.of()),
+        NOME("nome", true, usuario -> usuario.getNome() != null ? List.of(usuario.getNome()) : List.of());
+
+        private final String chave;
+        // Texto livre: indexado por palavra e fora das facetas
+        private final boolean texto;
+        private final Function<User, Collection<String>> valores;
+
+        Campo(String chave, boolean texto, Function<User, Collection<String>> valores) {
+            this.chave = chave;
+            this.texto = texto;
+            this.valores = valores;
+        }
+
+        /**
+         * Termos normalizados indexados para um valor do campo
+         */
+        public List<String> termos(String valor) {
+            String normalizado = NormalizadorTermos.normalizar(valor);
+            if (normalizado == null) {
+                return List.of();
+            }
+            return texto ? List.of(normalizado.split(" ")) : List.of(normalizado);
+        }
+
+        /**
+         * Termos normalizados do campo em um usuário
+         */
+        public Set<String> termos(User usuario) {
+            return normalizarTodos(this, valores.apply(usuario));
+        }
+
+        /**
+         * Nome do campo nos filtros e nas respostas de facetas
+         */
+        public String getChave() {
+            return chave;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Campo, ConcurrentHashMap<String, RoaringBitmap>> postings = new EnumMap<>(Campo.class);
+    // Texto exibido de cada termo normalizado (a primeira grafia vista)
+    private final Map<Campo, ConcurrentHashMap<String, String>> rotulos = new EnumMap<>(Campo.class);
+    // Termos normalizados de cada campo em ordem alfabética; substituído inteiro a cada termo novo ou extinto
+    private final ConcurrentHashMap<Campo, String[]> vocabularios = new ConcurrentHashMap<>();
+    // Todos os candidatos indexados, inclusive os sem nenhum termo: base das facetas sem filtro
+    private volatile RoaringBitmap candidatos = new RoaringBitmap();
+    // Termos indexados de cada candidato, para retirar os antigos quando ele é atualizado
+    private final ConcurrentHashMap<Integer, Map<Campo, Set<String>>> termosPorCandidato = new ConcurrentHashMap<>();
+
+    {
+        for (Campo campo : Campo.values()) {
+            postings.put(campo, new ConcurrentHashMap<>());
+            rotulos.put(campo, new ConcurrentHashMap<>());
+            vocabularios.put(campo, new String[0]);
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco
+     */
+    public synchronized void carregar() {
+        long inicio = System.nanoTime();
+        Map<Campo, Map<String, RoaringBitmap>> novos = new EnumMap<>(Campo.class);
+        Map<Integer, Map<Campo, Set<String>>> novosTermos = new HashMap<>();
+        RoaringBitmap novosCandidatos = new RoaringBitmap();
+
+        TransactionTemplate leitura = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        leitura.setReadOnly(true);
+        leitura.executeWithoutResult(status -> {
+            try (Stream<Long> ids = userRepository.streamIdsCandidatos()) {
+                ids.forEach(id -> novosCandidatos.add(paraInt(id)));
+            }
+            for (Campo campo : Campo.values()) {
+                Map<String, RoaringBitmap> porTermo = new HashMap<>();
+                try (Stream<UserRepository.TermoCandidato> termos = termosDoBanco(campo)) {
+                    termos.forEach(linha -> {
+                        for (String termo : campo.termos(linha.getTermo())) {
+                            int id = paraInt(linha.getId());
+                            porTermo.computeIfAbsent(termo, t -> new RoaringBitmap()).add(id);
+                            if (!campo.texto) {
+                                rotulos.get(campo).putIfAbsent(termo, linha.getTermo().strip());
+                            }
+                            novosTermos.computeIfAbsent(id, i -> new EnumMap<>(Campo.class))
+                                    .computeIfAbsent(campo, c -> new HashSet<>()).add(termo);
+                        }
+                    });
+                }
+                porTermo.values().forEach(RoaringBitmap::runOptimize);
+                novos.put(campo, porTermo);
+            }
+        });
+
+        for (Campo campo : Campo.values()) {
+            postings.get(campo).clear();
+            postings.get(campo).putAll(novos.get(campo));
+            vocabularios.put(campo, novos.get(campo).keySet().stream().sorted().toArray(String[]::new));
+        }
+        termosPorCandidato.clear();
+        termosPorCandidato.putAll(novosTermos);
+        novosCandidatos.runOptimize();
+        candidatos = novosCandidatos;
+        log.info("Índice de candidatos carregado: {} candidatos em {} ms",
+                novosCandidatos.getCardinality(), (System.nanoTime() - inicio) / 1_000_000);
+        // Quem deriva dados do índice (ex.: RecomendadorVagas) se reconstrói a partir daqui
+        eventPublisher.publishEvent(new IndiceCandidatosCarregadoEvent());
+    }
+
+    /**
+     * Ids dos candidatos com o termo no campo, em ordem crescente, após o id informado
+     *
+     * @param campo Campo pesquisado
+     * @param termo Termo (normalizado aqui)
+     * @param aposId Último id já entregue (0 para começar do início)
+     * @param limite Quantidade máxima de ids
+     * @return Ids encontrados
+     */
+    public List<Long> buscar(Campo campo, String termo, long aposId, int limite) {
+        String normalizado = NormalizadorTermos.normalizar(termo);
+        RoaringBitmap ids = normalizado != null ? postings.get(campo).get(normalizado) : null;
+        return ids != null ? pagina(ids, aposId, limite) : List.of();
+    }
+
+    /**
+     * Ids dos candidatos que atendem a todos os critérios informados, em ordem crescente,
+     * após o id informado. Critérios vazios não filtram; sem nenhum critério, todos os
+     * candidatos são retornados.
+     *
+     * @param filtro Critérios da busca
+     * @param aposId Último id já entregue (0 para começar do início)
+     * @param limite Quantidade máxima de ids
+     * @return Ids encontrados
+     */
+    public List<Long> buscar(FiltroCandidatos filtro, long aposId, int limite) {
+        RoaringBitmap ids = candidatos;
+        ids = restringir(ids, Campo.AREA_INTERESSE, filtro.getAreas(), false);
+        ids = restringir(ids, Campo.HABILIDADE, filtro.getHabilidades(), filtro.isTodasHabilidades());
+        ids = restringir(ids, Campo.CERTIFICADO, filtro.getCertificados(), false);
+        ids = restringir(ids, Campo.PCD, filtro.getPcd(), false);
+        for (String palavra : Campo.NOME.termos(filtro.getNome())) {
+            if (ids.isEmpty()) {
+                break;
+            }
+            ids = RoaringBitmap.and(ids, comPrefixo(Campo.NOME, palavra));
+        }
+        return pagina(ids, aposId, limite);
+    }
+
+    private List<Long> pagina(RoaringBitmap ids, long aposId, int limite) {
+        if (aposId >= Integer.MAX_VALUE) {
+            return List.of();
+        }
+        List<Long> pagina = new ArrayList<>(Math.min(limite, ids.getCardinality()));
+        PeekableIntIterator iterador = ids.getIntIterator();
+        iterador.advanceIfNeeded((int) Math.max(aposId + 1, 0));
+        while (iterador.hasNext() && pagina.size() < limite) {
+            pagina.add((long) iterador.next());
+        }
+        return pagina;
+    }
+
+    // Candidatos com algum dos termos (todos = false) ou com todos eles (todos = true)
+    private RoaringBitmap restringir(RoaringBitmap ids, Campo campo, Collection<String> valores, boolean todos) {
+        Set<String> termos = normalizarTodos(campo, valores);
+        if (termos.isEmpty() || ids.isEmpty()) {
+            return ids;
+        }
+        List<RoaringBitmap> doCampo = new ArrayList<>(termos.size());
+        for (String termo : termos) {
+            RoaringBitmap comTermo = postings.get(campo).get(termo);
+            if (comTermo != null) {
+                doCampo.add(comTermo);
+            } else if (todos) {
+                return new RoaringBitmap();
+            }
+        }
+        if (todos) {
+            // Começa pelo termo mais raro: as interseções seguintes já partem de um conjunto pequeno
+            doCampo.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap resultado = RoaringBitmap.and(ids, doCampo.get(0));
+            for (int i = 1; i < doCampo.size() && !resultado.isEmpty(); i++) {
+                resultado.and(doCampo.get(i));
+            }
+            return resultado;
+        }
+        return RoaringBitmap.and(ids, FastAggregation.or(doCampo.iterator()));
+    }
+
+    // União dos candidatos de todos os termos do campo que começam com o prefixo
+    private RoaringBitmap comPrefixo(Campo campo, String prefixo) {
+        String[] termos = vocabularios.get(campo);
+        int inicio = posicao(termos, prefixo);
+        int fim = posicao(termos, prefixo + Character.MAX_VALUE);
+        List<RoaringBitmap> doPrefixo = new ArrayList<>(fim - inicio);
+        for (int i = inicio; i < fim; i++) {
+            RoaringBitmap ids = postings.get(campo).get(termos[i]);
+            if (ids != null) {
+                doPrefixo.add(ids);
+            }
+        }
+        return FastAggregation.or(doPrefixo.iterator());
+    }
+
+    /**
+     * Quantidade de candidatos com o termo no campo
+     */
+    public int contar(Campo campo, String termo) {
+        String normalizado = NormalizadorTermos.normalizar(termo);
+        RoaringBitmap ids = normalizado != null ? postings.get(campo).get(normalizado) : null;
+        return ids != null ? ids.getCardinality() : 0;
+    }
+
+    /**
+     * Contagens por termo de cada campo sobre os candidatos que atendem aos filtros.
+     * Dentro de um campo os termos filtrados se somam (OU); entre campos, se restringem (E).
+     *
+     * @param filtros Termos filtrados por campo (campos sem termos não filtram)
+     * @param limitePorCampo Quantidade máxima de termos por campo, dos mais aos menos frequentes
+     * @return Total de candidatos filtrados e as contagens de cada campo
+     */
+    public FacetasCandidatosDTO facetas(Map<Campo, ? extends Collection<String>> filtros, int limitePorCampo) {
+        RoaringBitmap filtrados = candidatos;
+        boolean filtrado = false;
+        for (Map.Entry<Campo, ? extends Collection<String>> filtro : filtros.entrySet()) {
+            if (!normalizarTodos(filtro.getKey(), filtro.getValue()).isEmpty()) {
+                filtrados = restringir(filtrados, filtro.getKey(), filtro.getValue(), false);
+                filtrado = true;
+            }
+        }
+
+        Map<String, List<ContagemFacetaDTO>> contagens = new LinkedHashMap<>();
+        for (Campo campo : Campo.values()) {
+            if (campo.texto) {
+                continue;
+            }
+            List<ContagemFacetaDTO> doCampo = new ArrayList<>();
+            for (Map.Entry<String, RoaringBitmap> termo : postings.get(campo).entrySet()) {
+                int quantidade = filtrado
+                        ? RoaringBitmap.andCardinality(filtrados, termo.getValue())
+                        : termo.getValue().getCardinality();
+                if (quantidade > 0) {
+                    doCampo.add(new ContagemFacetaDTO(rotulos.get(campo).getOrDefault(termo.getKey(), termo.getKey()),
+                            quantidade));
+                }
+            }
+            doCampo.sort(Comparator.comparingLong(ContagemFacetaDTO::getQuantidade).reversed()
+                    .thenComparing(ContagemFacetaDTO::getTermo));
+            contagens.put(campo.getChave(), List.copyOf(doCampo.subList(0, Math.min(limitePorCampo, doCampo.size()))));
+        }
+        return new FacetasCandidatosDTO(filtrados.getCardinality(), contagens);
+    }
+
+    /**
+     * Termos do campo que começam com o prefixo, dos mais aos menos frequentes
+     *
+     * @param campo Campo pesquisado
+     * @param prefixo Início do termo digitado (normalizado aqui)
+     * @param minimoCandidatos Termos usados por menos candidatos que isso não são sugeridos
+     * @param limite Quantidade máxima de termos
+     * @return Termos (na grafia exibida) e quantos candidatos os usam
+     */
+    public List<ContagemFacetaDTO> sugerir(Campo campo, String prefixo, int minimoCandidatos, int limite) {
+        String normalizado = NormalizadorTermos.normalizar(prefixo);
+        if (normalizado == null) {
+            return List.of();
+        }
+        String[] termos = vocabularios.get(campo);
+        int inicio = posicao(termos, normalizado);
+        // Character.MAX_VALUE ordena depois de qualquer continuação do prefixo
+        int fim = posicao(termos, normalizado + Character.MAX_VALUE);
+
+        List<ContagemFacetaDTO> sugestoes = new ArrayList<>();
+        for (int i = inicio; i < fim; i++) {
+            RoaringBitmap ids = postings.get(campo).get(termos[i]);
+            int quantidade = ids != null ? ids.getCardinality() : 0;
+            if (quantidade >= minimoCandidatos) {
+                sugestoes.add(new ContagemFacetaDTO(rotulos.get(campo).getOrDefault(termos[i], termos[i]), quantidade));
+            }
+        }
+        sugestoes.sort(Comparator.comparingLong(ContagemFacetaDTO::getQuantidade).reversed()
+                .thenComparing(ContagemFacetaDTO::getTermo));
+        return List.copyOf(sugestoes.subList(0, Math.min(limite, sugestoes.size())));
+    }
+
+    // Candidatos com o termo já normalizado; o bitmap devolvido nunca é alterado
+    RoaringBitmap candidatosCom(Campo campo, String termo) {
+        RoaringBitmap ids = postings.get(campo).get(termo);
+        return ids != null ? ids : new RoaringBitmap();
+    }
+
+    // Termos normalizados do campo em ordem alfabética
+    String[] vocabulario(Campo campo) {
+        return vocabularios.get(campo);
+    }
+
+    // Termos normalizados de um candidato indexado no campo
+    Set<String> termosDo(int candidatoId, Campo campo) {
+        return termosPorCandidato.getOrDefault(candidatoId, Map.of()).getOrDefault(campo, Set.of());
+    }
+
+    // Todos os candidatos indexados; o bitmap devolvido nunca é alterado
+    RoaringBitmap candidatos() {
+        return candidatos;
+    }
+
+    // O índice é atualizado antes dos demais ouvintes, que podem depender dele (ex.: BuscaCandidatosCache)
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoSalvarUsuario(UsuarioSalvoEvent evento) {
+        indexar(evento.getUsuario());
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoRemoverUsuario(UsuarioRemovidoEvent evento) {
+        remover(evento.getId());
+    }
+
+    /**
+     * Atualiza os termos de um usuário; quem deixou de ser candidato sai do índice
+     */
+    public synchronized void indexar(User usuario) {
+        if (!usuario.isCandidato()) {
+            remover(usuario.getId());
+            return;
+        }
+        int id = paraInt(usuario.getId());
+        if (!candidatos.contains(id)) {
+            RoaringBitmap copia = candidatos.clone();
+            copia.add(id);
+            candidatos = copia;
+        }
+        Map<Campo, Set<String>> antigos = termosPorCandidato.getOrDefault(id, Map.of());
+        Map<Campo, Set<String>> atuais = new EnumMap<>(Campo.class);
+
+        for (Campo campo : Campo.values()) {
+            Set<String> novos = campo.termos(usuario);
+            Set<String> anteriores = antigos.getOrDefault(campo, Set.of());
+            for (String termo : anteriores) {
+                if (!novos.contains(termo)) {
+                    retirar(campo, termo, id);
+                }
+            }
+            for (String termo : novos) {
+                if (!anteriores.contains(termo)) {
+                    acrescentar(campo, termo, id);
+                }
+            }
+            registrarRotulos(campo, campo.valores.apply(usuario));
+            atuais.put(campo, novos);
+        }
+        termosPorCandidato.put(id, atuais);
+    }
+
+    /**
+     * Retira um usuário do índice
+     */
+    public synchronized void remover(Long usuarioId) {
+        if (usuarioId == null || usuarioId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = usuarioId.intValue();
+        if (candidatos.contains(id)) {
+            RoaringBitmap copia = candidatos.clone();
+            copia.remove(id);
+            candidatos = copia;
+        }
+        Map<Campo, Set<String>> antigos = termosPorCandidato.remove(id);
+        if (antigos != null) {
+            antigos.forEach((campo, termos) -> termos.forEach(termo -> retirar(campo, termo, id)));
+        }
+    }
+
+    private void acrescentar(Campo campo, String termo, int id) {
+        boolean novo = !postings.get(campo).containsKey(termo);
+        postings.get(campo).compute(termo, (t, atual) -> {
+            RoaringBitmap copia = atual != null ? atual.clone() : new RoaringBitmap();
+            copia.add(id);
+            return copia;
+        });
+        if (novo) {
+            String[] termos = vocabularios.get(campo);
+            int posicao = posicao(termos, termo);
+            String[] novos = new String[termos.length + 1];
+            System.arraycopy(termos, 0, novos, 0, posicao);
+            novos[posicao] = termo;
+            System.arraycopy(termos, posicao, novos, posicao + 1, termos.length - posicao);
+            vocabularios.put(campo, novos);
+        }
+    }
+
+    private void retirar(Campo campo, String termo, int id) {
+        postings.get(campo).computeIfPresent(termo, (t, atual) -> {
+            RoaringBitmap copia = atual.clone();
+            copia.remove(id);
+            return copia.isEmpty() ? null : copia;
+        });
+        if (!postings.get(campo).containsKey(termo)) {
+            String[] termos = vocabularios.get(campo);
+            int posicao = Arrays.binarySearch(termos, termo);
+            if (posicao >= 0) {
+                String[] novos = new String[termos.length - 1];
+                System.arraycopy(termos, 0, novos, 0, posicao);
+                System.arraycopy(termos, posicao + 1, novos, posicao, novos.length - posicao);
+                vocabularios.put(campo, novos);
+            }
+        }
+    }
+
+    // Posição do termo no array ordenado, ou onde ele seria inserido
+    private static int posicao(String[] termos, String termo) {
+        int posicao = Arrays.binarySearch(termos, termo);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    private void registrarRotulos(Campo campo, Collection<String> valores) {
+        if (valores != null && !campo.texto) {
+            for (String valor : valores) {
+                String termo = NormalizadorTermos.normalizar(valor);
+                if (termo != null) {
+                    rotulos.get(campo).putIfAbsent(termo, valor.strip());
+                }
+            }
+        }
+    }
+
+    private Stream<UserRepository.TermoCandidato> termosDoBanco(Campo campo) {
+        return switch (campo) {
+            case HABILIDADE -> userRepository.streamHabilidadesCandidatos();
+            case AREA_INTERESSE -> userRepository.streamAreasInteresseCandidatos();
+            case CERTIFICADO -> userRepository.streamCertificadosCandidatos();
+            case PCD -> userRepository.streamPcdCandidatos();
+            case NOME -> userRepository.streamNomesCandidatos();
+        };
+    }
+
+    private static Set<String> normalizarTodos(Campo campo, Collection<String> valores) {
+        Set<String> termos = new HashSet<>();
+        if (valores != null) {
+            for (String valor : valores) {
+                termos.addAll(campo.termos(valor));
+            }
+        }
+        return termos;
+    }
+
+    // Os bitmaps guardam int; ids de usuário são gerados por sequência e cabem com folga
+    private static int paraInt(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,7 @@
+package recrutec.recrutec.search;
+
+/**
+ * Publicado pelo IndiceCandidatos depois de cada carga completa a partir do banco
+ */
+public class IndiceCandidatosCarregadoEvent {
+}
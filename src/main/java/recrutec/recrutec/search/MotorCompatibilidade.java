@@ -0,0 +1,399 @@
+package recrutec.recrutec.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.UserRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Ranqueia candidatos para uma vaga pelas habilidades obrigatórias e desejáveis.
+ *
+ * Cada habilidade recebe um id no DicionarioHabilidades e cada candidato é guardado como um
+ * bitset (long[]) das suas habilidades. A pontuação de um candidato é a contagem de bits da
+ * interseção com as habilidades da vaga, com peso maior para as obrigatórias; apenas as
+ * palavras do bitset que contêm alguma habilidade da vaga são lidas. A varredura é dividida
+ * em faixas avaliadas em paralelo (fork/join), cada uma mantendo os seus K melhores.
+ *
+ * Leituras não usam lock: a tabela de perfis é republicada a cada escrita e cada perfil é
+ * imutável. A carga completa acontece na inicialização; depois o motor é mantido pelos
+ * eventos de UserService, como o IndiceCandidatos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MotorCompatibilidade implements SmartInitializingSingleton {
+
+    public static final int PESO_OBRIGATORIA = 3;
+    public static final int PESO_DESEJAVEL = 1;
+
+    // Candidatos avaliados por tarefa; faixas menores custam mais para dividir do que para avaliar
+    static final int CANDIDATOS_POR_TAREFA = 16_384;
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Tabela tabela = new Tabela(new DicionarioHabilidades(), new Perfil[CAPACIDADE_INICIAL], 0);
+
+    // Posição de cada candidato na tabela e posições liberadas por remoções (alterados sob o lock)
+    private final Map<Long, Integer> posicoes = new HashMap<>();
+    private final ArrayDeque<Integer> livres = new ArrayDeque<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Reconstrói o dicionário e os perfis a partir do banco
+     */
+    public synchronized void carregar() {
+        long inicio = System.nanoTime();
+        DicionarioHabilidades dicionario = new DicionarioHabilidades();
+        Map<Long, long[]> habilidades = new HashMap<>();
+
+        TransactionTemplate leitura = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        leitura.setReadOnly(true);
+        leitura.executeWithoutResult(status -> {
+            try (Stream<UserRepository.TermoCandidato> termos = userRepository.streamHabilidadesCandidatos()) {
+                termos.forEach(linha -> {
+                    String termo = NormalizadorTermos.normalizar(linha.getTermo());
+                    if (termo != null) {
+                        int bit = dicionario.codificar(termo);
+                        habilidades.compute(linha.getId(), (id, atual) -> comBit(atual, bit));
+                    }
+                });
+            }
+        });
+
+        Perfil[] perfis = new Perfil[Math.max(CAPACIDADE_INICIAL, habilidades.size() + habilidades.size() / 4)];
+        posicoes.clear();
+        livres.clear();
+        int tamanho = 0;
+        for (Map.Entry<Long, long[]> entrada : habilidades.entrySet()) {
+            perfis[tamanho] = new Perfil(paraInt(entrada.getKey()), entrada.getValue());
+            posicoes.put(entrada.getKey(), tamanho++);
+        }
+        tabela = new Tabela(dicionario, perfis, tamanho);
+        log.info("Motor de compatibilidade carregado: {} candidatos, {} habilidades em {} ms",
+                tamanho, dicionario.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Melhores candidatos para um conjunto de requisitos, da maior para a menor pontuação
+     * (empates pelo menor id). Candidatos sem nenhuma habilidade da vaga não entram.
+     *
+     * @param obrigatorias Habilidades obrigatórias da vaga
+     * @param desejaveis Habilidades desejáveis da vaga (as que também são obrigatórias são ignoradas)
+     * @param limite Quantidade máxima de candidatos
+     * @return Candidatos com a pontuação e as habilidades atendidas
+     */
+    public List<Compatibilidade> melhores(Collection<String> obrigatorias, Collection<String> desejaveis, int limite) {
+        Tabela atual = tabela;
+        Consulta consulta = Consulta.de(atual.getDicionario(), obrigatorias, desejaveis);
+        if (consulta.palavras.length == 0 || limite <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Avaliado> melhores =
+                new Avaliacao(consulta, atual.getPerfis(), 0, atual.getTamanho(), limite).invoke();
+        List<Avaliado> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(Avaliado.ORDEM.reversed());
+
+        List<Compatibilidade> resultado = new ArrayList<>(ordenados.size());
+        for (Avaliado avaliado : ordenados) {
+            long[] habilidades = avaliado.getPerfil().getHabilidades();
+            resultado.add(new Compatibilidade(avaliado.getPerfil().getId(), avaliado.getPontuacao(),
+                    consulta.contar(habilidades, consulta.obrigatorias), consulta.totalObrigatorias,
+                    consulta.contar(habilidades, consulta.desejaveis), consulta.totalDesejaveis));
+        }
+        return resultado;
+    }
+
+    @EventListener
+    public void aoSalvarUsuario(UsuarioSalvoEvent evento) {
+        indexar(evento.getUsuario());
+    }
+
+    @EventListener
+    public void aoRemoverUsuario(UsuarioRemovidoEvent evento) {
+        remover(evento.getId());
+    }
+
+    /**
+     * Atualiza o perfil de um usuário; quem deixou de ser candidato ou não tem habilidades sai do motor
+     */
+    public synchronized void indexar(User usuario) {
+        Tabela atual = tabela;
+        long[] habilidades = null;
+        if (usuario.isCandidato() && usuario.getHabilidades() != null) {
+            for (String valor : usuario.getHabilidades()) {
+                String termo = NormalizadorTermos.normalizar(valor);
+                if (termo != null) {
+                    habilidades = comBit(habilidades, atual.getDicionario().codificar(termo));
+                }
+            }
+        }
+        if (habilidades == null) {
+            remover(usuario.getId());
+            return;
+        }
+
+        Perfil perfil = new Perfil(paraInt(usuario.getId()), habilidades);
+        Integer posicao = posicoes.get(usuario.getId());
+        if (posicao == null) {
+            posicao = livres.poll();
+        }
+        Perfil[] perfis = atual.getPerfis();
+        int tamanho = atual.getTamanho();
+        if (posicao == null) {
+            if (tamanho == perfis.length) {
+                perfis = Arrays.copyOf(perfis, perfis.length * 2);
+            }
+            posicao = tamanho++;
+        }
+        perfis[posicao] = perfil;
+        posicoes.put(usuario.getId(), posicao);
+        // Republica a tabela para que a escrita no array fique visível às próximas consultas
+        tabela = new Tabela(atual.getDicionario(), perfis, tamanho);
+    }
+
+    /**
+     * Retira um usuário do motor
+     */
+    public synchronized void remover(Long usuarioId) {
+        Integer posicao = usuarioId != null ? posicoes.remove(usuarioId) : null;
+        if (posicao != null) {
+            Tabela atual = tabela;
+            atual.getPerfis()[posicao] = null;
+            livres.push(posicao);
+            tabela = new Tabela(atual.getDicionario(), atual.getPerfis(), atual.getTamanho());
+        }
+    }
+
+    private static long[] comBit(long[] bits, int bit) {
+        int palavra = bit >>> 6;
+        if (bits == null || palavra >= bits.length) {
+            bits = bits == null ? new long[palavra + 1] : Arrays.copyOf(bits, palavra + 1);
+        }
+        bits[palavra] |= 1L << bit;
+        return bits;
+    }
+
+    // Os ids são usados no desempate e guardados como int, como no IndiceCandidatos
+    private static int paraInt(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * Candidato ranqueado para uma vaga
+     */
+    @lombok.Value
+    public static class Compatibilidade {
+        long candidatoId;
+        int pontuacao;
+        int obrigatoriasAtendidas;
+        int totalObrigatorias;
+        int desejaveisAtendidas;
+        int totalDesejaveis;
+    }
+
+    @lombok.Value
+    private static class Tabela {
+        DicionarioHabilidades dicionario;
+        Perfil[] perfis;
+        int tamanho;
+    }
+
+    // Imutável: o bitset nunca é alterado depois de publicado
+    @lombok.Value
+    private static class Perfil {
+        int id;
+        long[] habilidades;
+    }
+
+    @lombok.Value
+    private static class Avaliado {
+        // Do pior para o melhor: menor pontuação e, no empate, maior id
+        static final Comparator<Avaliado> ORDEM = Comparator.comparingInt(Avaliado::getPontuacao)
+                .thenComparing(avaliado -> avaliado.getPerfil().getId(), Comparator.reverseOrder());
+
+        Perfil perfil;
+        int pontuacao;
+
+        boolean melhorQue(Avaliado outro) {
+            return ORDEM.compare(this, outro) > 0;
+        }
+    }
+
+    /**
+     * Máscaras das habilidades da vaga, restritas às palavras do bitset que têm algum bit
+     */
+    private static final class Consulta {
+        final long[] obrigatorias;
+        final long[] desejaveis;
+        final int[] palavras;
+        final int totalObrigatorias;
+        final int totalDesejaveis;
+
+        private Consulta(long[] obrigatorias, long[] desejaveis, int[] palavras,
+                         int totalObrigatorias, int totalDesejaveis) {
+            this.obrigatorias = obrigatorias;
+            this.desejaveis = desejaveis;
+            this.palavras = palavras;
+            this.totalObrigatorias = totalObrigatorias;
+            this.totalDesejaveis = totalDesejaveis;
+        }
+
+        static Consulta de(DicionarioHabilidades dicionario, Collection<String> obrigatorias,
+                           Collection<String> desejaveis) {
+            Set<String> termosObrigatorios = normalizarTodos(obrigatorias);
+            Set<String> termosDesejaveis = normalizarTodos(desejaveis);
+            termosDesejaveis.removeAll(termosObrigatorios);
+
+            // Habilidades que nenhum candidato tem contam no total, mas não geram bit
+            long[] mascaraObrigatorias = mascara(dicionario, termosObrigatorios);
+            long[] mascaraDesejaveis = mascara(dicionario, termosDesejaveis);
+            int[] palavras = new int[Math.max(mascaraObrigatorias.length, mascaraDesejaveis.length)];
+            int quantidade = 0;
+            for (int palavra = 0; palavra < palavras.length; palavra++) {
+                if (bits(mascaraObrigatorias, palavra) != 0 || bits(mascaraDesejaveis, palavra) != 0) {
+                    palavras[quantidade++] = palavra;
+                }
+            }
+            return new Consulta(Arrays.copyOf(mascaraObrigatorias, palavras.length),
+                    Arrays.copyOf(mascaraDesejaveis, palavras.length), Arrays.copyOf(palavras, quantidade),
+                    termosObrigatorios.size(), termosDesejaveis.size());
+        }
+
+        int pontuar(long[] habilidades) {
+            int pontos = 0;
+            for (int palavra : palavras) {
+                if (palavra >= habilidades.length) {
+                    break;
+                }
+                long bits = habilidades[palavra];
+                pontos += PESO_OBRIGATORIA * Long.bitCount(bits & obrigatorias[palavra])
+                        + PESO_DESEJAVEL * Long.bitCount(bits & desejaveis[palavra]);
+            }
+            return pontos;
+        }
+
+        int contar(long[] habilidades, long[] mascara) {
+            int total = 0;
+            for (int palavra : palavras) {
+                if (palavra >= habilidades.length) {
+                    break;
+                }
+                total += Long.bitCount(habilidades[palavra] & mascara[palavra]);
+            }
+            return total;
+        }
+
+        private static long[] mascara(DicionarioHabilidades dicionario, Set<String> termos) {
+            long[] mascara = new long[0];
+            for (String termo : termos) {
+                int bit = dicionario.buscar(termo);
+                if (bit != DicionarioHabilidades.DESCONHECIDA) {
+                    mascara = comBit(mascara, bit);
+                }
+            }
+            return mascara;
+        }
+
+        private static long bits(long[] mascara, int palavra) {
+            return palavra < mascara.length ? mascara[palavra] : 0L;
+        }
+
+        private static Set<String> normalizarTodos(Collection<String> valores) {
+            Set<String> termos = new HashSet<>();
+            if (valores != null) {
+                for (String valor : valores) {
+                    String termo = NormalizadorTermos.normalizar(valor);
+                    if (termo != null) {
+                        termos.add(termo);
+                    }
+                }
+            }
+            return termos;
+        }
+    }
+
+    /**
+     * Avalia uma faixa de perfis, dividindo-a enquanto for maior que CANDIDATOS_POR_TAREFA.
+     * Cada faixa devolve um heap com os seus K melhores, do pior (topo) para o melhor.
+     */
+    private static final class Avaliacao extends RecursiveTask<PriorityQueue<Avaliado>> {
+        private final Consulta consulta;
+        private final Perfil[] perfis;
+        private final int inicio;
+        private final int fim;
+        private final int limite;
+
+        Avaliacao(Consulta consulta, Perfil[] perfis, int inicio, int fim, int limite) {
+            this.consulta = consulta;
+            this.perfis = perfis;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.limite = limite;
+        }
+
+        @Override
+        protected PriorityQueue<Avaliado> compute() {
+            if (fim - inicio <= CANDIDATOS_POR_TAREFA) {
+                return avaliar();
+            }
+            int meio = (inicio + fim) >>> 1;
+            Avaliacao esquerda = new Avaliacao(consulta, perfis, inicio, meio, limite);
+            esquerda.fork();
+            PriorityQueue<Avaliado> melhores = new Avaliacao(consulta, perfis, meio, fim, limite).compute();
+            for (Avaliado avaliado : esquerda.join()) {
+                oferecer(melhores, avaliado);
+            }
+            return melhores;
+        }
+
+        private PriorityQueue<Avaliado> avaliar() {
+            PriorityQueue<Avaliado> melhores = new PriorityQueue<>(limite + 1, Avaliado.ORDEM);
+            for (int posicao = inicio; posicao < fim; posicao++) {
+                Perfil perfil = perfis[posicao];
+                if (perfil == null) {
+                    continue;
+                }
+                int pontos = consulta.pontuar(perfil.getHabilidades());
+                // Descarta sem alocar quem não supera o pior dos K atuais
+                if (pontos > 0 && (melhores.size() < limite || pontos >= melhores.peek().getPontuacao())) {
+                    oferecer(melhores, new Avaliado(perfil, pontos));
+                }
+            }
+            return melhores;
+        }
+
+        private void oferecer(PriorityQueue<Avaliado> melhores, Avaliado avaliado) {
+            if (melhores.size() < limite) {
+                melhores.add(avaliado);
+            } else if (avaliado.melhorQue(melhores.peek())) {
+                melhores.poll();
+                melhores.add(avaliado);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package recrutec.recrutec.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza termos de busca (habilidades, áreas de interesse) para comparação exata:
+ * sem acentos, em minúsculas e com espaços internos colapsados.
+ *
+ * "  Análise de  Dados" e "analise de dados" resultam no mesmo termo.
+ */
+public final class NormalizadorTermos {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private NormalizadorTermos() {
+    }
+
+    /**
+     * Normaliza um termo
+     *
+     * @param termo Termo informado pelo usuário
+     * @return Termo normalizado ou null se estiver vazio
+     */
+    public static String normalizar(String termo) {
+        if (termo == null) {
+            return null;
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(termo, Normalizer.Form.NFD)).replaceAll("");
+        String normalizado = ESPACOS.matcher(semAcentos.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalizado.isEmpty() ? null : normalizado;
+    }
+}
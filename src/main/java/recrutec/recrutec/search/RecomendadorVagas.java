@@ -0,0 +1,366 @@
+package recrutec.recrutec.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.repository.VagaRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Vagas abertas recomendadas para cada candidato, pré-calculadas em memória.
+ *
+ * A pontuação de uma vaga para um candidato soma PESO_OBRIGATORIA por habilidade dele entre as
+ * obrigatórias da vaga, PESO_DESEJAVEL por habilidade entre as desejáveis e PESO_AREA por área de
+ * interesse cujas palavras aparecem todas no título. Cada candidato guarda as TAMANHO_RANKING
+ * melhores vagas em um long[] ordenado (pontuação nos 32 bits altos, id da vaga nos baixos),
+ * então a consulta é só a leitura de um array.
+ *
+ * Os rankings são atualizados aos poucos:
+ * - perfil salvo: o ranking daquele candidato é recalculado pelo índice invertido das vagas abertas;
+ * - vaga aberta ou alterada: ela é pontuada apenas para os candidatos que têm algum termo dela
+ *   (bitmaps do IndiceCandidatos) e entra no ranking de quem ela supera; quem já a tinha é recalculado;
+ * - vaga fechada ou removida: os rankings que a continham são recalculados.
+ *
+ * Leituras não usam lock: cada ranking publicado nunca é alterado. Escritas passam por um único lock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecomendadorVagas {
+
+    public static final int TAMANHO_RANKING = 20;
+    static final int PESO_OBRIGATORIA = 3;
+    static final int PESO_DESEJAVEL = 1;
+    static final int PESO_AREA = 2;
+
+    // Palavras menores que isso ("de", "e"...) não contam ao comparar áreas com títulos
+    private static final int TAMANHO_MINIMO_PALAVRA = 3;
+    private static final long[] VAZIO = new long[0];
+
+    private final VagaRepository vagaRepository;
+    private final IndiceCandidatos indiceCandidatos;
+    private final TransactionTemplate transactionTemplate;
+
+    // Estruturas abaixo só são usadas dentro do lock
+    private final Map<Long, TermosVaga> vagas = new HashMap<>();
+    private final Map<String, Set<Long>> vagasPorHabilidade = new HashMap<>();
+    private final Map<String, Set<Long>> vagasPorPalavra = new HashMap<>();
+    // Candidatos em cujo ranking cada vaga aparece
+    private final Map<Long, RoaringBitmap> candidatosPorVaga = new HashMap<>();
+
+    private final ConcurrentHashMap<Integer, long[]> rankings = new ConcurrentHashMap<>();
+
+    /**
+     * Ids das vagas recomendadas para o candidato, da mais à menos compatível
+     *
+     * @param candidatoId Id do candidato
+     * @param limite Quantidade máxima de vagas (no máximo TAMANHO_RANKING)
+     */
+    public List<Long> recomendadas(Long candidatoId, int limite) {
+        if (candidatoId == null || candidatoId > Integer.MAX_VALUE) {
+            return List.of();
+        }
+        long[] ranking = rankings.getOrDefault(candidatoId.intValue(), VAZIO);
+        List<Long> ids = new ArrayList<>(Math.min(limite, ranking.length));
+        for (int i = 0; i < ranking.length && i < limite; i++) {
+            ids.add(vagaDe(ranking[i]));
+        }
+        return ids;
+    }
+
+    // Reconstruído depois de cada carga do IndiceCandidatos, de onde vêm os termos dos candidatos
+    @EventListener
+    public void aoCarregarCandidatos(IndiceCandidatosCarregadoEvent evento) {
+        carregar();
+    }
+
+    @EventListener
+    public synchronized void aoSalvarUsuario(UsuarioSalvoEvent evento) {
+        User usuario = evento.getUsuario();
+        if (usuario.getId() == null || usuario.getId() > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = usuario.getId().intValue();
+        if (usuario.isCandidato()) {
+            recalcular(id, IndiceCandidatos.Campo.HABILIDADE.termos(usuario),
+                    IndiceCandidatos.Campo.AREA_INTERESSE.termos(usuario));
+        } else {
+            publicar(id, VAZIO);
+        }
+    }
+
+    @EventListener
+    public synchronized void aoRemoverUsuario(UsuarioRemovidoEvent evento) {
+        if (evento.getId() != null && evento.getId() <= Integer.MAX_VALUE) {
+            publicar(evento.getId().intValue(), VAZIO);
+        }
+    }
+
+    @EventListener
+    public synchronized void aoSalvarVaga(VagaSalvaEvent evento) {
+        Vaga vaga = evento.getVaga();
+        if (!Vaga.STATUS_ABERTA.equals(vaga.getStatus())) {
+            remover(vaga.getId());
+            return;
+        }
+        // Roda depois de a vaga já estar gravada: uma vaga fora do ranking não pode falhar o salvamento
+        if (!cabeNoRanking(vaga.getId())) {
+            log.warn("Vaga {} fora do intervalo dos rankings; ela não será recomendada", vaga.getId());
+            return;
+        }
+        long vagaId = vaga.getId();
+        TermosVaga termos = new TermosVaga(new HashSet<>(), new HashSet<>(), palavras(vaga.getTitulo()));
+        normalizarEm(vaga.getHabilidadesObrigatorias(), termos.getObrigatorias());
+        normalizarEm(vaga.getHabilidadesDesejaveis(), termos.getDesejaveis());
+        desindexar(vagaId);
+        indexar(vagaId, termos);
+
+        // Quem já tinha a vaga é recalculado (a pontuação pode ter caído); os demais só a encaixam
+        RoaringBitmap anteriores = candidatosPorVaga.getOrDefault(vagaId, new RoaringBitmap()).clone();
+        anteriores.forEach((int candidatoId) -> recalcular(candidatoId));
+        pontuar(termos).forEach((candidatoId, pontuacao) -> {
+            if (!anteriores.contains(candidatoId)) {
+                encaixar(candidatoId, vagaId, pontuacao);
+            }
+        });
+    }
+
+    // Depois do commit: uma remoção desfeita não pode tirar a vaga dos rankings
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void aoRemoverVaga(VagaRemovidaEvent evento) {
+        remover(evento.getId());
+    }
+
+    /**
+     * Reconstrói as vagas a partir do banco e os rankings de todos os candidatos do IndiceCandidatos
+     */
+    public synchronized void carregar() {
+        long inicio = System.nanoTime();
+        Map<Long, TermosVaga> novas = new HashMap<>();
+        TransactionTemplate leitura = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        leitura.setReadOnly(true);
+        leitura.executeWithoutResult(status -> {
+            ler(vagaRepository.streamTitulosAbertas().filter(linha -> cabeNoRanking(linha.getId())),
+                    linha -> novas.put(linha.getId(), new TermosVaga(new HashSet<>(), new HashSet<>(),
+                            palavras(linha.getTermo()))));
+            ler(vagaRepository.streamHabilidadesObrigatoriasAbertas().filter(linha -> novas.containsKey(linha.getId())),
+                    linha -> normalizarEm(List.of(linha.getTermo()), novas.get(linha.getId()).getObrigatorias()));
+            ler(vagaRepository.streamHabilidadesDesejaveisAbertas().filter(linha -> novas.containsKey(linha.getId())),
+                    linha -> normalizarEm(List.of(linha.getTermo()), novas.get(linha.getId()).getDesejaveis()));
+        });
+
+        vagas.clear();
+        vagasPorHabilidade.clear();
+        vagasPorPalavra.clear();
+        candidatosPorVaga.clear();
+        rankings.clear();
+        novas.forEach(this::indexar);
+        indiceCandidatos.candidatos().forEach((int candidatoId) -> recalcular(candidatoId));
+        log.info("Recomendações de vagas carregadas: {} vagas abertas, {} candidatos com recomendações em {} ms",
+                vagas.size(), rankings.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void remover(Long vagaId) {
+        if (vagaId == null) {
+            return;
+        }
+        desindexar(vagaId);
+        RoaringBitmap anteriores = candidatosPorVaga.remove(vagaId);
+        if (anteriores != null) {
+            anteriores.forEach((int candidatoId) -> recalcular(candidatoId));
+        }
+    }
+
+    private void recalcular(int candidatoId) {
+        recalcular(candidatoId, indiceCandidatos.termosDo(candidatoId, IndiceCandidatos.Campo.HABILIDADE),
+                indiceCandidatos.termosDo(candidatoId, IndiceCandidatos.Campo.AREA_INTERESSE));
+    }
+
+    // Pontua as vagas abertas que têm algum termo do candidato e guarda as melhores
+    private void recalcular(int candidatoId, Set<String> habilidades, Set<String> areas) {
+        Map<Long, Integer> pontos = new HashMap<>();
+        for (String habilidade : habilidades) {
+            for (Long vagaId : vagasPorHabilidade.getOrDefault(habilidade, Set.of())) {
+                int peso = vagas.get(vagaId).getObrigatorias().contains(habilidade) ? PESO_OBRIGATORIA : PESO_DESEJAVEL;
+                pontos.merge(vagaId, peso, Integer::sum);
+            }
+        }
+        for (String area : areas) {
+            Set<String> palavras = palavras(area);
+            if (palavras.isEmpty()) {
+                continue;
+            }
+            for (Long vagaId : vagasPorPalavra.getOrDefault(palavras.iterator().next(), Set.of())) {
+                if (vagas.get(vagaId).getPalavrasTitulo().containsAll(palavras)) {
+                    pontos.merge(vagaId, PESO_AREA, Integer::sum);
+                }
+            }
+        }
+
+        long[] todas = new long[pontos.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> ponto : pontos.entrySet()) {
+            todas[i++] = empacotar(ponto.getValue(), ponto.getKey());
+        }
+        Arrays.sort(todas);
+        long[] melhores = new long[Math.min(TAMANHO_RANKING, todas.length)];
+        for (i = 0; i < melhores.length; i++) {
+            melhores[i] = todas[todas.length - 1 - i];
+        }
+        publicar(candidatoId, melhores);
+    }
+
+    // Pontuação da vaga para cada candidato que tem algum termo dela (mesmas regras de recalcular)
+    private Map<Integer, Integer> pontuar(TermosVaga termos) {
+        Map<Integer, Integer> pontos = new HashMap<>();
+        for (String habilidade : termos.getObrigatorias()) {
+            indiceCandidatos.candidatosCom(IndiceCandidatos.Campo.HABILIDADE, habilidade)
+                    .forEach((int candidatoId) -> pontos.merge(candidatoId, PESO_OBRIGATORIA, Integer::sum));
+        }
+        for (String habilidade : termos.getDesejaveis()) {
+            if (!termos.getObrigatorias().contains(habilidade)) {
+                indiceCandidatos.candidatosCom(IndiceCandidatos.Campo.HABILIDADE, habilidade)
+                        .forEach((int candidatoId) -> pontos.merge(candidatoId, PESO_DESEJAVEL, Integer::sum));
+            }
+        }
+        for (String area : indiceCandidatos.vocabulario(IndiceCandidatos.Campo.AREA_INTERESSE)) {
+            Set<String> palavras = palavras(area);
+            if (!palavras.isEmpty() && termos.getPalavrasTitulo().containsAll(palavras)) {
+                indiceCandidatos.candidatosCom(IndiceCandidatos.Campo.AREA_INTERESSE, area)
+                        .forEach((int candidatoId) -> pontos.merge(candidatoId, PESO_AREA, Integer::sum));
+            }
+        }
+        return pontos;
+    }
+
+    // Insere a vaga no ranking do candidato se ela superar a última colocada
+    private void encaixar(int candidatoId, long vagaId, int pontuacao) {
+        long[] atual = rankings.getOrDefault(candidatoId, VAZIO);
+        long item = empacotar(pontuacao, vagaId);
+        if (atual.length == TAMANHO_RANKING && item <= atual[atual.length - 1]) {
+            return;
+        }
+        int posicao = 0;
+        while (posicao < atual.length && atual[posicao] > item) {
+            posicao++;
+        }
+        long[] novo = new long[Math.min(atual.length + 1, TAMANHO_RANKING)];
+        System.arraycopy(atual, 0, novo, 0, posicao);
+        novo[posicao] = item;
+        System.arraycopy(atual, posicao, novo, posicao + 1, novo.length - posicao - 1);
+        publicar(candidatoId, novo);
+    }
+
+    // Troca o ranking do candidato mantendo o mapa reverso vaga -> candidatos
+    private void publicar(int candidatoId, long[] ranking) {
+        long[] anterior = ranking.length > 0 ? rankings.put(candidatoId, ranking) : rankings.remove(candidatoId);
+        if (anterior != null) {
+            for (long item : anterior) {
+                RoaringBitmap candidatos = candidatosPorVaga.get(vagaDe(item));
+                if (candidatos != null) {
+                    candidatos.remove(candidatoId);
+                }
+            }
+        }
+        for (long item : ranking) {
+            candidatosPorVaga.computeIfAbsent(vagaDe(item), v -> new RoaringBitmap()).add(candidatoId);
+        }
+    }
+
+    private void indexar(Long vagaId, TermosVaga termos) {
+        vagas.put(vagaId, termos);
+        termos.getObrigatorias().forEach(h -> vagasPorHabilidade.computeIfAbsent(h, t -> new HashSet<>()).add(vagaId));
+        termos.getDesejaveis().forEach(h -> vagasPorHabilidade.computeIfAbsent(h, t -> new HashSet<>()).add(vagaId));
+        termos.getPalavrasTitulo().forEach(p -> vagasPorPalavra.computeIfAbsent(p, t -> new HashSet<>()).add(vagaId));
+    }
+
+    private void desindexar(Long vagaId) {
+        TermosVaga termos = vagas.remove(vagaId);
+        if (termos != null) {
+            termos.getObrigatorias().forEach(h -> retirar(vagasPorHabilidade, h, vagaId));
+            termos.getDesejaveis().forEach(h -> retirar(vagasPorHabilidade, h, vagaId));
+            termos.getPalavrasTitulo().forEach(p -> retirar(vagasPorPalavra, p, vagaId));
+        }
+    }
+
+    private static void retirar(Map<String, Set<Long>> indice, String termo, Long vagaId) {
+        indice.computeIfPresent(termo, (t, ids) -> {
+            ids.remove(vagaId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static <T> void ler(Stream<T> linhas, Consumer<T> consumidor) {
+        try (linhas) {
+            linhas.forEach(consumidor);
+        }
+    }
+
+    private static void normalizarEm(Collection<String> valores, Set<String> destino) {
+        if (valores != null) {
+            for (String valor : valores) {
+                String termo = NormalizadorTermos.normalizar(valor);
+                if (termo != null) {
+                    destino.add(termo);
+                }
+            }
+        }
+    }
+
+    // Palavras significativas de um texto normalizado
+    private static Set<String> palavras(String texto) {
+        String normalizado = NormalizadorTermos.normalizar(texto);
+        if (normalizado == null) {
+            return Set.of();
+        }
+        Set<String> palavras = new HashSet<>();
+        for (String palavra : normalizado.split(" ")) {
+            if (palavra.length() >= TAMANHO_MINIMO_PALAVRA) {
+                palavras.add(palavra);
+            }
+        }
+        return palavras;
+    }
+
+    // O id da vaga ocupa os 32 bits baixos do item do ranking
+    private static boolean cabeNoRanking(Long vagaId) {
+        return vagaId != null && vagaId > 0 && vagaId <= Integer.MAX_VALUE;
+    }
+
+    // Ordem natural do long = pontuação e, no empate, a vaga mais nova
+    private static long empacotar(int pontuacao, long vagaId) {
+        return ((long) pontuacao << 32) | Math.toIntExact(vagaId);
+    }
+
+    private static long vagaDe(long item) {
+        return item & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Termos normalizados de uma vaga aberta que pontuam
+     */
+    @lombok.Value
+    static class TermosVaga {
+        Set<String> obrigatorias;
+        Set<String> desejaveis;
+        Set<String> palavrasTitulo;
+    }
+}
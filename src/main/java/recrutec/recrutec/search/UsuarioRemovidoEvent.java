@@ -0,0 +1,11 @@
+package recrutec.recrutec.search;
+
+import lombok.Value;
+
+/**
+ * Publicado pelo UserService depois que um usuário é removido
+ */
+@Value
+public class UsuarioRemovidoEvent {
+    Long id;
+}
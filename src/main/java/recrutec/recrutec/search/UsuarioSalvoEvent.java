@@ -0,0 +1,13 @@
+package recrutec.recrutec.search;
+
+import lombok.Value;
+import recrutec.recrutec.model.User;
+
+/**
+ * Publicado pelo UserService depois que um usuário é criado ou atualizado,
+ * para que os índices em memória reflitam o seu estado atual
+ */
+@Value
+public class UsuarioSalvoEvent {
+    User usuario;
+}
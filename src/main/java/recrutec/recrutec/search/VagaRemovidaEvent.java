@@ -0,0 +1,11 @@
+package recrutec.recrutec.search;
+
+import lombok.Value;
+
+/**
+ * Publicado pelo VagaService depois que uma vaga é removida
+ */
+@Value
+public class VagaRemovidaEvent {
+    Long id;
+}
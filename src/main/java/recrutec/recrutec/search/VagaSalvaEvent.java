@@ -0,0 +1,13 @@
+package recrutec.recrutec.search;
+
+import lombok.Value;
+import recrutec.recrutec.model.Vaga;
+
+/**
+ * Publicado pelo VagaService depois que uma vaga é criada ou atualizada,
+ * para que os dados em memória derivados das vagas reflitam o seu estado atual
+ */
+@Value
+public class VagaSalvaEvent {
+    Vaga vaga;
+}
@@ -0,0 +1,120 @@
+package recrutec.recrutec.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import recrutec.recrutec.exception.ServiceOverloadedException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder que executa o hashing e a verificação de senhas em um pool próprio.
+ *
+ * Com BCrypt de custo 12, cada operação ocupa um núcleo por centenas de milissegundos.
+ * Feitas direto na thread da requisição, um pico de logins ou cadastros ocupa todas as
+ * threads do Tomcat e trava também as leituras baratas. Aqui:
+ *
+ * - No máximo "threads" operações rodam ao mesmo tempo; as demais esperam em uma fila limitada.
+ * - Com a fila cheia, a operação é recusada na hora com ServiceOverloadedException (503 com
+ *   Retry-After), liberando a thread da requisição em vez de enfileirar sem limite.
+ * - Métricas: senhas.hash.fila (tamanho da fila), senhas.hash.ativas, senhas.hash.espera
+ *   (tempo na fila), senhas.hash.execucao e senhas.hash.rejeitadas.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer espera;
+    private final Timer execucao;
+    private final Counter rejeitadas;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("senhas.hash.fila", executor, pool -> pool.getQueue().size())
+                .description("Operações de senha aguardando uma thread do pool")
+                .register(meterRegistry);
+        Gauge.builder("senhas.hash.ativas", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações de senha em execução")
+                .register(meterRegistry);
+        this.espera = Timer.builder("senhas.hash.espera")
+                .description("Tempo de espera na fila antes do hashing ou da verificação")
+                .register(meterRegistry);
+        this.execucao = Timer.builder("senhas.hash.execucao")
+                .description("Duração do hashing ou da verificação de uma senha")
+                .register(meterRegistry);
+        this.rejeitadas = Counter.builder("senhas.hash.rejeitadas")
+                .description("Operações de senha recusadas com a fila cheia")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Só inspeciona o prefixo do hash, não precisa do pool
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T executar(Callable<T> operacao) {
+        long enfileirada = System.nanoTime();
+        Future<T> resultado;
+        try {
+            resultado = executor.submit(() -> {
+                espera.record(System.nanoTime() - enfileirada, TimeUnit.NANOSECONDS);
+                return execucao.recordCallable(operacao);
+            });
+        } catch (RejectedExecutionException ex) {
+            rejeitadas.increment();
+            log.warn("Fila de hashing de senhas cheia ({} aguardando); operação recusada",
+                    executor.getQueue().size());
+            throw new ServiceOverloadedException(
+                    "Servidor ocupado processando autenticações. Tente novamente em instantes.", retryAfterSeconds);
+        }
+
+        try {
+            return resultado.get();
+        } catch (InterruptedException ex) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o hashing da senha", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha no hashing da senha", ex.getCause());
+        }
+    }
+}
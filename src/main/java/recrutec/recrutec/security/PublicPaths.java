@@ -0,0 +1,95 @@
+package recrutec.recrutec.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+
+/**
+ * Caminhos que não precisam passar pela cadeia completa de segurança.
+ *
+ * Usado pelo SecurityConfig (atalhos da cadeia de filtros) e pelo JwtAuthenticationFilter,
+ * que também é registrado como filtro do servlet e por isso roda fora da cadeia.
+ */
+public final class PublicPaths {
+
+    /**
+     * Recursos estáticos (CSS, JavaScript, imagens): servidos sem nenhum filtro do Spring Security.
+     * Páginas HTML dentro destes caminhos ficam de fora (ver PUBLIC_PAGES).
+     */
+    public static final String[] STATIC_RESOURCES = {
+            "/static/**",
+            "/css/**",
+            "/js/**",
+            "/images/**",
+            "/favicon.ico",
+
+            // Arquivos da interface do Swagger (o /v3/api-docs é gerado e continua na cadeia)
+            "/swagger-ui/**",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    /**
+     * Páginas HTML estáticas: sem autenticação, mas ainda pela cadeia de segurança para
+     * receberem os headers de segurança (X-Frame-Options, X-Content-Type-Options...)
+     */
+    public static final String[] PUBLIC_PAGES = {
+            "/*.html",
+            "/swagger-ui/**/*.html"
+    };
+
+    /**
+     * Endpoints públicos da API: sem token, não há o que autenticar
+     */
+    public static final String[] PUBLIC_API = {
+            "/api/public/vagas/**",
+            "/api/vagas/public/**",
+            "/api/public/termos/**"
+    };
+
+    public static final RequestMatcher PUBLIC_PAGE_MATCHER = matcher(PUBLIC_PAGES);
+
+    public static final RequestMatcher STATIC_RESOURCE_MATCHER = new AndRequestMatcher(
+            matcher(STATIC_RESOURCES), new NegatedRequestMatcher(PUBLIC_PAGE_MATCHER));
+
+    private static final RequestMatcher PUBLIC_API_MATCHER = matcher(PUBLIC_API);
+
+    /**
+     * Requisições a endpoints públicos da API que não trazem o header Authorization.
+     * Com o header, a requisição segue pela cadeia completa para que o token seja verificado.
+     */
+    public static final RequestMatcher ANONYMOUS_PUBLIC_API_MATCHER = PublicPaths::isAnonymousPublicApi;
+
+    /**
+     * Requisições atendidas pela cadeia enxuta: páginas HTML e endpoints públicos da API sem token
+     */
+    public static final RequestMatcher PUBLIC_CHAIN_MATCHER =
+            new OrRequestMatcher(PUBLIC_PAGE_MATCHER, ANONYMOUS_PUBLIC_API_MATCHER);
+
+    private PublicPaths() {
+    }
+
+    public static boolean isStaticResource(HttpServletRequest request) {
+        return STATIC_RESOURCE_MATCHER.matches(request);
+    }
+
+    public static boolean isPublicPage(HttpServletRequest request) {
+        return PUBLIC_PAGE_MATCHER.matches(request);
+    }
+
+    public static boolean isAnonymousPublicApi(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) == null && PUBLIC_API_MATCHER.matches(request);
+    }
+
+    private static RequestMatcher matcher(String... patterns) {
+        return new OrRequestMatcher(Arrays.stream(patterns)
+                .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+                .toList());
+    }
+}
@@ -1,14 +1,19 @@
 package recrutec.recrutec.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -38,6 +43,7 @@ import java.util.List;
  * - Autorização baseada em roles
  * - CORS para aplicações front-end
  * - Tratamento de exceções de segurança
+ * - Atalhos para recursos estáticos e endpoints públicos (security.bypass.enabled)
  */
 @Configuration
 @EnableWebSecurity
@@ -49,8 +55,47 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final UserDetailsService userDetailsService;
 
+    /**
+     * CSS, JavaScript e imagens não passam por nenhum filtro do Spring Security; páginas HTML
+     * ficam na cadeia enxuta para manter os headers de segurança.
+     * Sem o atalho, continuam liberados pela cadeia principal (ver getPublicEndpoints).
+     * 
+     * @return WebSecurityCustomizer que ignora os recursos estáticos
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.bypass.enabled", havingValue = "true", matchIfMissing = true)
+    public WebSecurityCustomizer staticResourcesBypass() {
+        return web -> web.ignoring().requestMatchers(PublicPaths.STATIC_RESOURCE_MATCHER);
+    }
+
+    /**
+     * Cadeia enxuta para páginas HTML e endpoints públicos da API chamados sem token: sem o
+     * filtro JWT e sem tratamento de autenticação, mantendo CORS e os headers de segurança.
+     * Chamadas à API com o header Authorization seguem pela cadeia principal.
+     * 
+     * @param http Objeto HttpSecurity para configuração
+     * @return SecurityFilterChain avaliada antes da cadeia principal
+     * @throws Exception Em caso de erro na configuração
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "security.bypass.enabled", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain publicApiFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(PublicPaths.PUBLIC_CHAIN_MATCHER)
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .sessionManagement(session -> 
+                    session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+
     /**
      * Configuração principal da cadeia de filtros de segurança
+     * (sem securityMatcher: é avaliada por último e atende todas as demais requisições)
      * 
      * @param http Objeto HttpSecurity para configuração
      * @return SecurityFilterChain configurada
@@ -81,6 +126,9 @@ public class SecurityConfig {
                     // Endpoints administrativos - apenas ADMINs
                     .requestMatchers("/api/admin/**").hasRole("ADMIN")
                     
+                    // Métricas e demais endpoints do actuator - apenas ADMINs
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+                    
                     // Endpoints de recrutadores - ADMINs e RECRUTADOREs
                     .requestMatchers("/api/recrutador/**").hasAnyRole("ADMIN", "RECRUTADOR")
                     
@@ -112,6 +160,10 @@ public class SecurityConfig {
                 
                 // Endpoints públicos de vagas (visualização)
                 "/api/public/vagas/**",
+                "/api/vagas/public/**",
+
+                // Autocompletar de habilidades e áreas (usado no formulário de cadastro)
+                "/api/public/termos/**",
                 
                 // Documentação da API (Swagger/OpenAPI)
                 "/swagger-ui/**",
@@ -185,25 +237,38 @@ public class SecurityConfig {
     }
 
     /**
-     * Bean para codificação de senhas usando BCrypt
+     * Bean para codificação de senhas usando BCrypt, executada em um pool limitado
+     * (ver BoundedPasswordEncoder) para não ocupar as threads das requisições
      * 
+     * @param threads Operações simultâneas; 0 usa o número de processadores
+     * @param queueCapacity Operações aguardando antes de recusar com 503
+     * @param retryAfterSeconds Valor do Retry-After enviado quando a fila está cheia
+     * @param meterRegistry Registro das métricas da fila
      * @return PasswordEncoder configurado com BCrypt
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // Força 12 rounds para maior segurança
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(12), // Força 12 rounds para maior segurança
+                poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     /**
      * Configuração do AuthenticationManager para autenticação de usuários
      * 
+     * @param passwordEncoder Encoder usado para verificar as senhas
      * @return AuthenticationManager configurado
      */
     @Bean
-    public AuthenticationManager authenticationManager() {
+    public AuthenticationManager authenticationManager(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         
         return new ProviderManager(authProvider);
     }
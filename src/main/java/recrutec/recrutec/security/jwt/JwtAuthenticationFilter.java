@@ -4,23 +4,20 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import recrutec.recrutec.security.PublicPaths;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Filtro de autenticação JWT que intercepta todas as requisições HTTP.
@@ -30,19 +27,26 @@ import java.util.stream.Collectors;
  * - Open/Closed: Extensível para novos tipos de autenticação sem modificar o código
  * - Liskov Substitution: Pode ser substituído por outros filtros de autenticação
  * - Interface Segregation: Usa apenas as interfaces necessárias do Spring Security
- * - Dependency Inversion: Depende da abstração JwtTokenProvider
+ * - Dependency Inversion: Depende da abstração VerifiedTokenCache (que usa o JwtTokenProvider)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final boolean bypassEnabled;
 
     // Prefixo padrão para tokens Bearer
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
+    public JwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${security.bypass.enabled:true}") boolean bypassEnabled) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.bypassEnabled = bypassEnabled;
+    }
+
     /**
      * Método principal do filtro que processa cada requisição HTTP
      * 
@@ -62,11 +66,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Extrai o token JWT da requisição
             String jwt = extractTokenFromRequest(request);
 
-            // Valida e processa o token se presente
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                authenticateUser(jwt, request);
-            } else if (jwt != null) {
-                log.debug("Token JWT inválido ou expirado na requisição: {}", request.getRequestURI());
+            // Verifica o token (ou reaproveita uma verificação anterior) e autentica a partir dele
+            if (jwt != null) {
+                Optional<VerifiedTokenCache.VerifiedToken> token = verifiedTokenCache.verify(jwt);
+                if (token.isPresent()) {
+                    authenticateUser(token.get(), request);
+                } else {
+                    log.debug("Token JWT inválido ou expirado na requisição: {}", request.getRequestURI());
+                }
             }
         } catch (Exception ex) {
             log.error("Erro ao processar autenticação JWT: {}", ex.getMessage());
@@ -95,33 +102,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Autentica o usuário baseado no token JWT válido
+     * Autentica o usuário baseado no token JWT já verificado
      * 
-     * @param jwt Token JWT válido
+     * @param verified Token verificado, com o principal já montado
      * @param request Requisição HTTP para detalhes de autenticação
      */
-    private void authenticateUser(String jwt, HttpServletRequest request) {
+    private void authenticateUser(VerifiedTokenCache.VerifiedToken verified, HttpServletRequest request) {
         // Verifica se é um access token (não refresh token)
-        if (!jwtTokenProvider.isAccessToken(jwt)) {
+        if (!verified.getToken().isAccessToken()) {
             log.debug("Token não é um access token válido");
             return;
         }
 
-        // Extrai informações do usuário do token
-        String username = jwtTokenProvider.getUsernameFromToken(jwt);
-        String rolesString = jwtTokenProvider.getRolesFromToken(jwt);
-
-        // Converte roles de string para lista de authorities
-        List<SimpleGrantedAuthority> authorities = parseRoles(rolesString);
-
-        // Cria UserDetails com as informações extraídas
-        UserDetails userDetails = User.builder()
-                .username(username)
-                .password("") // Senha não é necessária para autenticação por token
-                .authorities(authorities)
-                .build();
-
-        // Cria o token de autenticação do Spring Security
+        // Principal e authorities são compartilhados entre requisições; o token de autenticação é novo a cada uma
+        UserDetails userDetails = verified.getPrincipal();
         UsernamePasswordAuthenticationToken authentication = 
                 new UsernamePasswordAuthenticationToken(
                         userDetails, 
@@ -135,55 +129,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Define a autenticação no contexto de segurança
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("Usuário {} autenticado com sucesso via JWT", username);
-    }
-
-    /**
-     * Converte a string de roles em uma lista de SimpleGrantedAuthority
-     * 
-     * @param rolesString String com roles separadas por vírgula
-     * @return Lista de authorities para o Spring Security
-     */
-    private List<SimpleGrantedAuthority> parseRoles(String rolesString) {
-        if (!StringUtils.hasText(rolesString)) {
-            return List.of();
-        }
-
-        return Arrays.stream(rolesString.split(","))
-                .map(String::trim)
-                .filter(StringUtils::hasText)
-                .map(role -> {
-                    // Adiciona prefixo ROLE_ se não estiver presente
-                    if (!role.startsWith("ROLE_")) {
-                        role = "ROLE_" + role;
-                    }
-                    return new SimpleGrantedAuthority(role);
-                })
-                .collect(Collectors.toList());
+        log.debug("Usuário {} autenticado com sucesso via JWT", userDetails.getUsername());
     }
 
     /**
      * Determina se o filtro deve ser aplicado à requisição atual.
-     * Por padrão, aplica a todas as requisições, mas pode ser sobrescrito
-     * para pular certas URLs (como recursos estáticos).
+     * Com security.bypass.enabled, pula recursos estáticos, páginas HTML e endpoints públicos
+     * chamados sem token (não há o que autenticar). Isso vale também para a execução como filtro
+     * do servlet, fora da cadeia do Spring Security.
      * 
      * @param request Requisição HTTP
-     * @return true se o filtro deve ser aplicado, false caso contrário
+     * @return true se o filtro não deve ser aplicado, false caso contrário
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        
-        // Exemplos de caminhos que podem ser ignorados pelo filtro
-        // Descomente e ajuste conforme necessário
-        /*
-        return path.startsWith("/api/public/") || 
-               path.startsWith("/swagger-") ||
-               path.startsWith("/v3/api-docs") ||
-               path.startsWith("/webjars/") ||
-               path.equals("/favicon.ico");
-        */
-        
-        return false; // Aplica o filtro a todas as requisições por padrão
+        return bypassEnabled
+                && (PublicPaths.isStaticResource(request) || PublicPaths.isPublicPage(request)
+                        || PublicPaths.isAnonymousPublicApi(request));
     }
 }
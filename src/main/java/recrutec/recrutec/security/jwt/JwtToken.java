@@ -0,0 +1,48 @@
+package recrutec.recrutec.security.jwt;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Visão imutável de um token JWT já verificado (assinatura e expiração).
+ *
+ * Produzida uma única vez por JwtTokenProvider.verifyToken, para que quem usa o token
+ * (ex.: JwtAuthenticationFilter) não precise verificá-lo de novo para cada claim.
+ */
+@Value
+public class JwtToken {
+
+    String username;
+    // Roles como gravadas no token, sem espaços e sem itens vazios
+    List<String> roles;
+    Type type;
+    Instant expiration;
+
+    public boolean isAccessToken() {
+        return type == Type.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return type == Type.REFRESH;
+    }
+
+    /**
+     * Tipo do token (claim "type"); UNKNOWN para valores ausentes ou desconhecidos
+     */
+    public enum Type {
+        ACCESS, REFRESH, UNKNOWN;
+
+        static Type of(String claim) {
+            if (claim != null) {
+                for (Type type : values()) {
+                    if (type.name().equals(claim)) {
+                        return type;
+                    }
+                }
+            }
+            return UNKNOWN;
+        }
+    }
+}
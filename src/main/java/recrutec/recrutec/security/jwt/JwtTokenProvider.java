@@ -11,7 +11,10 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +30,8 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    // Imutável e thread-safe: construído uma vez e reaproveitado em todas as verificações
+    private final JwtParser parser;
     private final long jwtExpiration;
     private final long refreshExpiration;
 
@@ -39,6 +44,7 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-expiration}") long refreshExpiration) {
         
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
     }
@@ -131,15 +137,19 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Valida se o token JWT é válido (assinatura e expiração)
-     * 
-     * @param token Token JWT a ser validado
-     * @return true se o token for válido, false caso contrário
+     * Verifica o token uma única vez (assinatura e expiração) e extrai todas as claims usadas pela aplicação
+     *
+     * @param token Token JWT
+     * @return Visão imutável do token ou empty se ele for inválido
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtToken> verifyToken(String token) {
         try {
-            getClaimsFromToken(token);
-            return true;
+            Claims claims = getClaimsFromToken(token);
+            return Optional.of(new JwtToken(
+                    claims.getSubject(),
+                    parseRoles(claims.get("roles", String.class)),
+                    JwtToken.Type.of(claims.get("type", String.class)),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
         } catch (SecurityException ex) {
             log.error("Token JWT com assinatura inválida: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -150,8 +160,21 @@ public class JwtTokenProvider {
             log.error("Token JWT não suportado: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("Token JWT vazio: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            // Ex.: assinatura que não confere com a chave
+            log.error("Token JWT inválido: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Valida se o token JWT é válido (assinatura e expiração)
+     * 
+     * @param token Token JWT a ser validado
+     * @return true se o token for válido, false caso contrário
+     */
+    public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
     }
 
     /**
@@ -179,11 +202,20 @@ public class JwtTokenProvider {
      * @throws JwtException se o token for inválido
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Separa a claim de roles (separadas por vírgula)
+     */
+    private static List<String> parseRoles(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
     }
 
     /**
@@ -0,0 +1,161 @@
+package recrutec.recrutec.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache de access tokens já verificados, usado pelo JwtAuthenticationFilter.
+ *
+ * Clientes reenviam o mesmo access token em muitas requisições até ele expirar. Um hit
+ * devolve o principal e as authorities já montados, sem decodificar o token, ler o JSON
+ * nem recalcular o HMAC.
+ *
+ * - A chave é o SHA-256 do token, para que o cache não guarde o token em si.
+ * - Cada entrada expira no exp do próprio token. O total de entradas é limitado.
+ * - Tokens inválidos e refresh tokens nunca entram no cache.
+ * - Leituras não usam lock. Requisições simultâneas com um token ainda fora do cache podem
+ *   verificá-lo mais de uma vez; só a primeira entrada é guardada.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+
+    @Autowired
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry) {
+        this(jwtTokenProvider, enabled, maximumSize, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // Relógio (para o exp do token) e ticker (para o Caffeine) injetáveis nos testes
+    VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, boolean enabled, long maximumSize,
+                       MeterRegistry meterRegistry, Clock clock, Ticker ticker) {
+
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiration(clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        // Expõe hits, misses e evictions em /actuator/metrics (cache.gets, cache.evictions...)
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "jwt.tokens.verificados");
+    }
+
+    /**
+     * Verifica o token, reaproveitando uma verificação anterior quando houver
+     *
+     * @param token Token JWT recebido na requisição
+     * @return Token verificado com o principal já montado ou empty se ele for inválido
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!enabled) {
+            return jwtTokenProvider.verifyToken(token).map(VerifiedToken::of);
+        }
+        String key = digest(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.verifyToken(token).map(VerifiedToken::of);
+        verified.filter(VerifiedToken::isCacheable)
+                .ifPresent(value -> tokens.asMap().putIfAbsent(key, value));
+        return verified;
+    }
+
+    /**
+     * Quantidade aproximada de tokens em cache
+     */
+    public long size() {
+        return tokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            // MessageDigest não é thread-safe: uma instância por chamada
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+
+    /**
+     * Token verificado com o principal do Spring Security já montado (ambos imutáveis)
+     */
+    @lombok.Value
+    public static class VerifiedToken {
+        JwtToken token;
+        UserDetails principal;
+
+        static VerifiedToken of(JwtToken token) {
+            List<SimpleGrantedAuthority> authorities = token.getRoles().stream()
+                    // Adiciona prefixo ROLE_ se não estiver presente
+                    .map(role -> new SimpleGrantedAuthority(role.startsWith("ROLE_") ? role : "ROLE_" + role))
+                    .toList();
+            UserDetails principal = User.builder()
+                    .username(token.getUsername())
+                    .password("") // Senha não é necessária para autenticação por token
+                    .authorities(authorities)
+                    .build();
+            return new VerifiedToken(token, principal);
+        }
+
+        boolean isCacheable() {
+            return token.isAccessToken() && token.getExpiration() != null;
+        }
+    }
+
+    // Cada entrada vive até o exp do token; leituras e substituições não alteram esse prazo
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        private final Clock clock;
+
+        UntilTokenExpiration(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.getToken().getExpiration());
+            return Math.max(remaining.toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -15,6 +15,9 @@ import recrutec.recrutec.dto.AuthResponseDTO;
 import recrutec.recrutec.dto.LoginRequestDTO;
 import recrutec.recrutec.dto.RefreshTokenRequestDTO;
 import recrutec.recrutec.exception.ResourceNotFoundException;
+import recrutec.recrutec.exception.ServiceOverloadedException;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.security.CustomUserDetailsService;
 import recrutec.recrutec.security.jwt.JwtTokenProvider;
 
 import java.util.Optional;
@@ -44,6 +47,7 @@ public class AuthenticationService {
      * @return Response com tokens JWT e informações do usuário
      * @throws BadCredentialsException Se as credenciais estão incorretas
      * @throws DisabledException Se a conta do usuário está desabilitada
+     * @throws ServiceOverloadedException Se a fila de verificação de senhas está cheia
      */
     public AuthResponseDTO authenticate(LoginRequestDTO loginRequest) {
         log.debug("Tentando autenticar usuário: {}", loginRequest.getEmail());
@@ -61,8 +65,8 @@ public class AuthenticationService {
             String accessToken = jwtTokenProvider.generateAccessToken(authentication);
             String refreshToken = jwtTokenProvider.generateRefreshToken(loginRequest.getEmail());
 
-            // Obtém informações do usuário
-            AuthResponseDTO.UserInfoDTO userInfo = getUserInfo(loginRequest.getEmail());
+            // Obtém informações do usuário já carregado pelo AuthenticationManager
+            AuthResponseDTO.UserInfoDTO userInfo = getUserInfo(authentication.getPrincipal(), loginRequest.getEmail());
 
             // Calcula tempo de expiração em segundos
             long expiresIn = jwtTokenProvider.getAccessTokenExpiration() / 1000;
@@ -78,7 +82,14 @@ public class AuthenticationService {
         } catch (DisabledException ex) {
             log.warn("Tentativa de login com conta desabilitada: {}", loginRequest.getEmail());
             throw new DisabledException("Conta de usuário desabilitada");
+        } catch (ServiceOverloadedException ex) {
+            // Fila de verificação de senhas cheia: não é erro de credencial, o cliente deve tentar de novo
+            throw ex;
         } catch (Exception ex) {
+            // Para e-mails inexistentes o Spring também verifica uma senha (contra timing attack) e embrulha a recusa
+            if (ex.getCause() instanceof ServiceOverloadedException overloaded) {
+                throw overloaded;
+            }
             log.error("Erro durante autenticação para usuário {}: {}", loginRequest.getEmail(), ex.getMessage());
             throw new BadCredentialsException("Erro durante autenticação");
         }
@@ -123,8 +134,8 @@ public class AuthenticationService {
             // Gera novo refresh token (opcional - pode manter o mesmo)
             String newRefreshToken = jwtTokenProvider.generateRefreshToken(username);
 
-            // Obtém informações do usuário
-            AuthResponseDTO.UserInfoDTO userInfo = getUserInfo(username);
+            // Obtém informações do usuário carregado acima
+            AuthResponseDTO.UserInfoDTO userInfo = getUserInfo(userDetails, username);
 
             long expiresIn = jwtTokenProvider.getAccessTokenExpiration() / 1000;
 
@@ -168,17 +179,25 @@ public class AuthenticationService {
     }
 
     /**
-     * Obtém informações básicas do usuário pelo email
-     * Delegado para UserLookupService seguindo SRP
+     * Obtém informações básicas do usuário autenticado
+     * Usa a entidade já carregada no CustomUserPrincipal; só consulta o banco pelo email
+     * quando o principal vem de outra implementação de UserDetails
      *
+     * @param principal Principal devolvido pela autenticação ou pelo UserDetailsService
      * @param email Email do usuário
      * @return Informações básicas do usuário
-     * @throws UsernameNotFoundException Se o usuário não for encontrado
+     * @throws ResourceNotFoundException Se o usuário não for encontrado
      */
-    private AuthResponseDTO.UserInfoDTO getUserInfo(String email) {
+    private AuthResponseDTO.UserInfoDTO getUserInfo(Object principal, String email) {
+        if (principal instanceof CustomUserDetailsService.CustomUserPrincipal userPrincipal) {
+            return toUserInfo(userPrincipal.getUser());
+        }
         return userService.findByEmail(email)
-                .map(user -> new AuthResponseDTO.UserInfoDTO(
-                        user.getId(), user.getNome(), user.getEmail(), user.getRole().name()))
+                .map(this::toUserInfo)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", "email", email));
     }
+
+    private AuthResponseDTO.UserInfoDTO toUserInfo(User user) {
+        return new AuthResponseDTO.UserInfoDTO(user.getId(), user.getNome(), user.getEmail(), user.getRole().name());
+    }
 }
@@ -0,0 +1,240 @@
+package recrutec.recrutec.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.search.IndiceCandidatosCarregadoEvent;
+import recrutec.recrutec.search.UsuarioRemovidoEvent;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache das páginas de buscas de candidatos (por habilidade, por área e combinada).
+ *
+ * A chave usa os critérios normalizados (sem caixa nem acentos, termos ordenados e sem
+ * repetição), então "Java", " java " e "JAVA" na mesma posição do cursor compartilham a entrada.
+ * Cada página guarda o intervalo de ids que cobre e os ids que contém: quando um candidato
+ * é salvo ou removido, só saem as páginas que o contêm ou em cujo intervalo ele entraria
+ * por ter termos de todos os critérios da chave.
+ *
+ * Só os ids de cada página ficam em cache: os candidatos são carregados do banco a cada
+ * requisição, então entidades JPA não são compartilhadas entre requisições.
+ */
+@Component
+public class BuscaCandidatosCache {
+
+    private final Cache<Chave, PaginaEmCache> paginas;
+    private final Counter invalidacoes;
+
+    // Incrementada a cada escrita; cargas que cruzam uma escrita não são guardadas
+    private final AtomicLong geracao = new AtomicLong();
+
+    public BuscaCandidatosCache(
+            @Value("${candidatos.cache.busca.tamanho-maximo:5000}") long tamanhoMaximo,
+            @Value("${candidatos.cache.busca.ttl-segundos:120}") long ttlSegundos,
+            MeterRegistry meterRegistry) {
+
+        this.paginas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+
+        // Expõe hits, misses e evictions em /actuator/metrics (cache.gets, cache.evictions...)
+        CaffeineCacheMetrics.monitor(meterRegistry, paginas, "candidatos.busca");
+        Gauge.builder("candidatos.busca.cache.taxa.acerto", paginas, cache -> cache.stats().hitRate())
+                .description("Fração das buscas de candidatos atendidas pelo cache")
+                .register(meterRegistry);
+        this.invalidacoes = Counter.builder("candidatos.busca.cache.invalidacoes")
+                .description("Páginas removidas do cache de buscas de candidatos por alterações de candidatos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtém os ids de uma página da busca, consultando o índice apenas em caso de miss
+     *
+     * @param chave Critérios normalizados e posição da página
+     * @param consulta Busca no índice até tamanho + 1 ids a partir da posição da chave
+     * @return Ids encontrados (imutável), incluindo o buscado a mais
+     */
+    public List<Long> idsDaPagina(Chave chave, Supplier<List<Long>> consulta) {
+        PaginaEmCache emCache = paginas.getIfPresent(chave);
+        if (emCache != null) {
+            return emCache.getIds();
+        }
+
+        long geracaoInicial = geracao.get();
+        List<Long> ids = List.copyOf(consulta.get());
+        guardar(chave, PaginaEmCache.de(ids, chave.getAposId(), chave.getTamanho()), geracaoInicial);
+        return ids;
+    }
+
+    /**
+     * Quantidade de páginas em cache
+     */
+    public long tamanho() {
+        return paginas.estimatedSize();
+    }
+
+    @EventListener
+    public void aoSalvarUsuario(UsuarioSalvoEvent evento) {
+        User usuario = evento.getUsuario();
+        geracao.incrementAndGet();
+        Map<IndiceCandidatos.Campo, Set<String>> termos = new EnumMap<>(IndiceCandidatos.Campo.class);
+        if (usuario.isCandidato()) {
+            for (IndiceCandidatos.Campo campo : IndiceCandidatos.Campo.values()) {
+                termos.put(campo, campo.termos(usuario));
+            }
+        }
+        removerPaginas((chave, pagina) -> pagina.contem(usuario.getId())
+                || (usuario.isCandidato() && pagina.cobre(usuario.getId()) && chave.alcanca(termos)));
+    }
+
+    @EventListener
+    public void aoRemoverUsuario(UsuarioRemovidoEvent evento) {
+        geracao.incrementAndGet();
+        removerPaginas((chave, pagina) -> pagina.contem(evento.getId()));
+    }
+
+    @EventListener
+    public void aoCarregarCandidatos(IndiceCandidatosCarregadoEvent evento) {
+        geracao.incrementAndGet();
+        paginas.invalidateAll();
+    }
+
+    /**
+     * Guarda uma página carregada se nenhuma escrita aconteceu desde o início da carga.
+     *
+     * A geração é conferida dentro do compute e de novo depois que a página fica visível:
+     * uma invalidação que incrementou a geração depois da primeira conferência ou encontra
+     * a página no mapa e a remove, ou é vista pela segunda conferência, que a retira aqui.
+     */
+    private void guardar(Chave chave, PaginaEmCache pagina, long geracaoInicial) {
+        paginas.asMap().compute(chave, (k, atual) -> geracao.get() == geracaoInicial ? pagina : atual);
+        if (geracao.get() != geracaoInicial) {
+            paginas.asMap().remove(chave, pagina);
+        }
+    }
+
+    private void removerPaginas(BiPredicate<Chave, PaginaEmCache> afetada) {
+        paginas.asMap().entrySet().removeIf(entrada -> {
+            boolean remover = afetada.test(entrada.getKey(), entrada.getValue());
+            if (remover) {
+                invalidacoes.increment();
+            }
+            return remover;
+        });
+    }
+
+    /**
+     * Critérios normalizados de uma busca de candidatos e a posição da página
+     */
+    @lombok.Value
+    public static class Chave {
+        Map<IndiceCandidatos.Campo, List<String>> criterios;
+        boolean todasHabilidades;
+        long aposId;
+        int tamanho;
+
+        /**
+         * Chave da busca por um único termo de um campo (ex.: candidatos por habilidade)
+         */
+        public static Chave de(IndiceCandidatos.Campo campo, String termo, long aposId, int tamanho) {
+            Map<IndiceCandidatos.Campo, List<String>> criterios = new EnumMap<>(IndiceCandidatos.Campo.class);
+            incluir(criterios, campo, termo != null ? List.of(termo) : List.of());
+            return new Chave(Collections.unmodifiableMap(criterios), true, aposId, tamanho);
+        }
+
+        /**
+         * Chave da busca combinada
+         */
+        public static Chave de(FiltroCandidatos filtro, long aposId, int tamanho) {
+            Map<IndiceCandidatos.Campo, List<String>> criterios = new EnumMap<>(IndiceCandidatos.Campo.class);
+            incluir(criterios, IndiceCandidatos.Campo.AREA_INTERESSE, filtro.getAreas());
+            incluir(criterios, IndiceCandidatos.Campo.HABILIDADE, filtro.getHabilidades());
+            incluir(criterios, IndiceCandidatos.Campo.CERTIFICADO, filtro.getCertificados());
+            incluir(criterios, IndiceCandidatos.Campo.PCD, filtro.getPcd());
+            incluir(criterios, IndiceCandidatos.Campo.NOME,
+                    filtro.getNome() != null ? List.of(filtro.getNome()) : List.of());
+            // Com até uma habilidade, "todas" e "qualquer uma" dão o mesmo resultado
+            boolean todas = filtro.isTodasHabilidades()
+                    || criterios.getOrDefault(IndiceCandidatos.Campo.HABILIDADE, List.of()).size() <= 1;
+            return new Chave(Collections.unmodifiableMap(criterios), todas, aposId, tamanho);
+        }
+
+        /**
+         * Se o candidato com esses termos pode estar no resultado: ele precisa ter algum termo
+         * de cada critério (no nome, uma palavra começando pelo termo). Sem critérios, todos estão.
+         */
+        boolean alcanca(Map<IndiceCandidatos.Campo, Set<String>> termos) {
+            for (Map.Entry<IndiceCandidatos.Campo, List<String>> criterio : criterios.entrySet()) {
+                Set<String> doCandidato = termos.getOrDefault(criterio.getKey(), Set.of());
+                Predicate<String> atende = criterio.getKey() == IndiceCandidatos.Campo.NOME
+                        ? prefixo -> doCandidato.stream().anyMatch(palavra -> palavra.startsWith(prefixo))
+                        : doCandidato::contains;
+                if (criterio.getValue().stream().noneMatch(atende)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void incluir(Map<IndiceCandidatos.Campo, List<String>> criterios, IndiceCandidatos.Campo campo,
+                                    Collection<String> valores) {
+            Set<String> termos = new TreeSet<>();
+            if (valores != null) {
+                valores.forEach(valor -> termos.addAll(campo.termos(valor)));
+            }
+            if (!termos.isEmpty()) {
+                criterios.put(campo, List.copyOf(termos));
+            }
+        }
+    }
+
+    /**
+     * Ids de uma página em cache e o intervalo (aposId, fim] que ela cobre.
+     * fim é null quando a página chegou ao final do resultado.
+     */
+    @lombok.Value
+    static class PaginaEmCache {
+        // Inclui o id buscado a mais: se ele sair, a página pode deixar de ter próxima
+        List<Long> ids;
+        long aposId;
+        Long fim;
+
+        static PaginaEmCache de(List<Long> ids, long aposId, int tamanho) {
+            Long fim = ids.size() > tamanho ? ids.stream().sorted().toList().get(tamanho - 1) : null;
+            return new PaginaEmCache(ids, aposId, fim);
+        }
+
+        boolean contem(Long id) {
+            return ids.contains(id);
+        }
+
+        // Um candidato com este id entraria na página (ordem crescente de id)
+        boolean cobre(Long id) {
+            return id > aposId && (fim == null || id <= fim);
+        }
+    }
+}
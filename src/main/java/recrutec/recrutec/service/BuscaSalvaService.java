@@ -0,0 +1,127 @@
+package recrutec.recrutec.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.dto.AlertaBuscaDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.exception.InvalidDataException;
+import recrutec.recrutec.exception.ResourceNotFoundException;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.AlertaBuscaRepository;
+import recrutec.recrutec.repository.BuscaSalvaRepository;
+import recrutec.recrutec.search.IndiceBuscasSalvas;
+import recrutec.recrutec.search.NormalizadorTermos;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
+import recrutec.recrutec.util.CursorCodec;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Buscas de candidatos salvas pelos recrutadores e os alertas de novos candidatos correspondentes.
+ *
+ * Os alertas são incrementais: quando um candidato se cadastra ou altera o perfil, só ele
+ * é avaliado, e só contra as buscas que o IndiceBuscasSalvas aponta.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BuscaSalvaService {
+
+    private final BuscaSalvaRepository buscaSalvaRepository;
+    private final AlertaBuscaRepository alertaBuscaRepository;
+    private final IndiceBuscasSalvas indiceBuscasSalvas;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Salva uma nova busca do recrutador; ela passa a gerar alertas a partir daqui
+     *
+     * @param busca Critérios da busca
+     * @param recrutador Dono da busca
+     * @return Busca salva
+     */
+    public BuscaSalva salvar(BuscaSalva busca, User recrutador) {
+        if (vazio(busca.getAreas()) && vazio(busca.getHabilidades()) && vazio(busca.getCertificados())
+                && vazio(busca.getPcd()) && NormalizadorTermos.normalizar(busca.getNome()) == null) {
+            throw new InvalidDataException("Informe ao menos um critério para a busca");
+        }
+        busca.setId(null);
+        busca.setDataCriacao(null);
+        busca.setRecrutador(recrutador);
+        BuscaSalva salva = buscaSalvaRepository.save(busca);
+        indiceBuscasSalvas.adicionar(salva);
+        log.info("Busca salva {} criada pelo recrutador {}", salva.getId(), recrutador.getId());
+        return salva;
+    }
+
+    // Buscas do recrutador, das mais novas às mais antigas
+    public List<BuscaSalva> listar(Long recrutadorId) {
+        return buscaSalvaRepository.findByRecrutadorIdOrderByIdDesc(recrutadorId);
+    }
+
+    /**
+     * Remove uma busca do recrutador junto com os seus alertas
+     *
+     * @throws ResourceNotFoundException se a busca não existir ou for de outro recrutador
+     */
+    public void remover(Long id, Long recrutadorId) {
+        BuscaSalva busca = buscaSalvaRepository.findByIdAndRecrutadorId(id, recrutadorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Busca salva", "id", id));
+        indiceBuscasSalvas.remover(id);
+        buscaSalvaRepository.delete(busca);
+    }
+
+    // Alertas das buscas do recrutador, dos mais novos aos mais antigos, paginados por cursor
+    public CursorPageDTO<AlertaBuscaDTO> listarAlertas(Long recrutadorId, String cursor, int tamanho) {
+        Long antes = CursorCodec.decodeId(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return CursorPageDTO.of(alertaBuscaRepository.findPaginaAlertas(recrutadorId,
+                        antes != null ? antes : Long.MAX_VALUE, Limit.of(tamanhoValido + 1)), tamanhoValido,
+                alerta -> CursorCodec.encodeId(alerta.getId()));
+    }
+
+    /**
+     * Registra os alertas do candidato salvo. Roda depois do commit do cadastro: uma falha
+     * aqui não desfaz o cadastro nem a edição do perfil.
+     *
+     * Cada alerta é gravado em transação própria, então uma busca removida enquanto os
+     * alertas eram registrados é pulada sem perder os demais.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void aoSalvarUsuario(UsuarioSalvoEvent evento) {
+        User usuario = evento.getUsuario();
+        if (!usuario.isCandidato()) {
+            return;
+        }
+        List<Long> buscas = indiceBuscasSalvas.correspondentes(usuario);
+        // REQUIRES_NEW: depois do commit, a transação do cadastro ainda está associada à thread
+        TransactionTemplate porAlerta = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        porAlerta.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int novos = 0;
+        for (Long buscaId : buscas) {
+            try {
+                Integer registrado = porAlerta.execute(status ->
+                        alertaBuscaRepository.registrar(buscaId, usuario.getId()));
+                novos += registrado != null ? registrado : 0;
+            } catch (DataIntegrityViolationException ex) {
+                log.debug("Busca salva {} removida durante o registro de alertas do candidato {}",
+                        buscaId, usuario.getId());
+            }
+        }
+        if (novos > 0) {
+            log.debug("Candidato {} gerou {} alertas de buscas salvas", usuario.getId(), novos);
+        }
+    }
+
+    private static boolean vazio(Collection<String> valores) {
+        return valores == null || valores.stream().allMatch(valor -> NormalizadorTermos.normalizar(valor) == null);
+    }
+}
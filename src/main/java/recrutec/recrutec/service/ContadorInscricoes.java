@@ -0,0 +1,171 @@
+package recrutec.recrutec.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.repository.VagaRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Total de inscrições por vaga, acumulado em memória e gravado no banco em lotes.
+ *
+ * Cada inscrição confirmada incrementa o LongAdder da vaga, sem lock e sem escrever na
+ * linha da vaga. Periodicamente os incrementos pendentes são somados à coluna
+ * vaga.total_inscricoes em um único batch.
+ *
+ * Incrementos ainda não gravados se perdem se a aplicação cair, por isso os totais
+ * são reconciliados com a tabela de inscrições na inicialização, antes de o servidor
+ * começar a receber requisições.
+ *
+ * Pensado para uma única instância da aplicação: a reconciliação sobrescreve os totais
+ * com a contagem da tabela, e apagaria deltas ainda pendentes em outra instância, que
+ * seriam somados de novo na gravação seguinte dela.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContadorInscricoes implements SmartInitializingSingleton {
+
+    private static final String SOMAR_INSCRICOES =
+            "UPDATE vaga SET total_inscricoes = total_inscricoes + ? WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, Acumulado> acumulados = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VagaRepository vagaRepository;
+    private final VagaPublicaCache vagaPublicaCache;
+
+    /**
+     * Registra uma nova inscrição na vaga. Dentro de uma transação, o incremento só
+     * acontece depois do commit, para que uma inscrição desfeita não entre no total.
+     *
+     * @param vagaId Id da vaga
+     */
+    public void incrementar(Long vagaId) {
+        aposCommit(() -> somar(vagaId));
+    }
+
+    private void somar(Long vagaId) {
+        // Incremento dentro do compute: não corre com a remoção de entradas já gravadas em descarregar()
+        acumulados.compute(vagaId, (id, acumulado) -> {
+            Acumulado atual = acumulado != null ? acumulado : new Acumulado();
+            atual.inscricoes.increment();
+            return atual;
+        });
+    }
+
+    /**
+     * Descarta os incrementos de uma vaga removida. Dentro de uma transação, o descarte só
+     * acontece depois do commit, para que uma remoção desfeita não perca incrementos pendentes.
+     *
+     * @param vagaId Id da vaga
+     */
+    public void descartar(Long vagaId) {
+        aposCommit(() -> acumulados.remove(vagaId));
+    }
+
+    // Executa a ação depois do commit da transação atual, ou imediatamente fora de uma transação
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    /**
+     * Grava no banco, em um único batch, os incrementos acumulados desde a última gravação
+     *
+     * @return Quantidade de vagas atualizadas
+     */
+    @Scheduled(fixedDelayString = "${vagas.contadores.intervalo-ms:5000}")
+    public synchronized int descarregar() {
+        // O total lido pode não incluir incrementos simultâneos; eles entram na próxima gravação
+        List<Descarga> descargas = new ArrayList<>();
+        acumulados.forEach((vagaId, acumulado) -> {
+            long total = acumulado.inscricoes.sum();
+            if (total != acumulado.gravado) {
+                descargas.add(new Descarga(vagaId, acumulado, total));
+            }
+        });
+        if (descargas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> lote = new ArrayList<>(descargas.size());
+        descargas.forEach(descarga -> lote.add(new Object[]{descarga.delta(), descarga.getVagaId()}));
+        // Tudo ou nada: uma falha parcial somaria os mesmos deltas de novo na próxima execução
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SOMAR_INSCRICOES, lote));
+
+        descargas.forEach(descarga -> {
+            descarga.getAcumulado().gravado = descarga.getTotal();
+            // O total de inscritos faz parte das respostas públicas da vaga
+            vagaPublicaCache.invalidarConteudo(descarga.getVagaId());
+            // Sem incrementos novos desde a leitura, a entrada não tem mais nada a gravar
+            acumulados.computeIfPresent(descarga.getVagaId(), (id, acumulado) ->
+                    acumulado.inscricoes.sum() == acumulado.gravado ? null : acumulado);
+        });
+        return descargas.size();
+    }
+
+    // Vagas com contagem em memória
+    int vagasAcumuladas() {
+        return acumulados.size();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconciliar();
+    }
+
+    /**
+     * Recalcula os totais a partir da tabela de inscrições, corrigindo incrementos perdidos
+     * em uma parada anterior
+     */
+    public void reconciliar() {
+        Integer corrigidas = transactionTemplate.execute(status -> vagaRepository.reconciliarTotaisInscricoes());
+        if (corrigidas != null && corrigidas > 0) {
+            log.warn("Total de inscrições corrigido em {} vaga(s) na reconciliação", corrigidas);
+        }
+    }
+
+    // Grava os incrementos pendentes antes de encerrar a aplicação
+    @PreDestroy
+    public void encerrar() {
+        descarregar();
+    }
+
+    private static class Acumulado {
+        private final LongAdder inscricoes = new LongAdder();
+        // Total já somado no banco; lido e escrito apenas dentro de descarregar()
+        private long gravado;
+    }
+
+    @lombok.Value
+    private static class Descarga {
+        Long vagaId;
+        Acumulado acumulado;
+        long total;
+
+        long delta() {
+            return total - acumulado.gravado;
+        }
+    }
+}
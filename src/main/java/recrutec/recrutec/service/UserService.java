@@ -1,9 +1,15 @@
 package recrutec.recrutec.service;
 
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
+import recrutec.recrutec.dto.UsuarioBuscaDTO;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -26,19 +32,23 @@ public interface UserService {
     User save(User user);
 
     /**
-     * Lista todos os usuários
+     * Lista todos os usuários, paginados por cursor
      *
-     * @return Lista de usuários
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de usuários
      */
-    List<User> findAll();
+    CursorPageDTO<User> findAll(String cursor, int tamanho);
 
     /**
-     * Lista usuários por role
+     * Lista usuários por role, paginados por cursor
      *
      * @param role Role dos usuários
-     * @return Lista de usuários com o role especificado
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de usuários com o role especificado
      */
-    List<User> findByRole(Role role);
+    CursorPageDTO<User> findByRole(Role role, String cursor, int tamanho);
 
     /**
      * Busca usuário por ID
@@ -56,6 +66,14 @@ public interface UserService {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Calcula o ETag do perfil do usuário a partir da sua versão, sem carregar o usuário
+     *
+     * @param email Email do usuário
+     * @return Optional com o ETag ou vazio se o usuário não existir
+     */
+    Optional<String> findEtagByEmail(String email);
+
     /**
      * Busca usuário por email e senha (para login legado)
      *
@@ -72,6 +90,18 @@ public interface UserService {
      */
     void deleteById(Long id);
 
+    /**
+     * Busca usuários por nome ou email por similaridade, sem diferenciar maiúsculas nem acentos,
+     * do mais ao menos parecido (typeahead da administração)
+     *
+     * @param termo Trecho do nome ou email
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de usuários com a relevância de cada um
+     * @throws recrutec.recrutec.exception.InvalidDataException Se o termo estiver vazio ou for longo demais
+     */
+    CursorPageDTO<UsuarioBuscaDTO> buscarPorNomeOuEmail(String termo, String cursor, int tamanho);
+
     /**
      * Verifica se existe usuário com o email
      *
@@ -83,20 +113,54 @@ public interface UserService {
     // Métodos específicos para candidatos
 
     /**
-     * Busca candidatos por área de interesse
+     * Busca candidatos por área de interesse, paginados por cursor
      *
      * @param area Área de interesse
-     * @return Lista de candidatos
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de candidatos
      */
-    List<User> findCandidatosByAreaInteresse(String area);
+    CursorPageDTO<User> findCandidatosByAreaInteresse(String area, String cursor, int tamanho);
 
     /**
-     * Busca candidatos por habilidade
+     * Busca candidatos por habilidade, paginados por cursor
      *
      * @param habilidade Habilidade
-     * @return Lista de candidatos
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de candidatos
+     */
+    CursorPageDTO<User> findCandidatosByHabilidade(String habilidade, String cursor, int tamanho);
+
+    /**
+     * Busca candidatos que atendem a qualquer combinação de área, habilidades, certificados, PCD e nome,
+     * paginados por cursor
+     *
+     * @param filtro Critérios da busca (critérios vazios não filtram)
+     * @param cursor Cursor da página anterior (null para a primeira página)
+     * @param tamanho Tamanho da página
+     * @return Página de candidatos
+     */
+    CursorPageDTO<User> buscarCandidatos(FiltroCandidatos filtro, String cursor, int tamanho);
+
+    /**
+     * Contagens por habilidade, área de interesse, certificado e PCD dos candidatos que atendem aos filtros
+     *
+     * @param filtros Termos filtrados por campo: termos do mesmo campo se somam, campos diferentes se restringem
+     * @param limitePorCampo Quantidade máxima de termos por campo
+     * @return Total de candidatos filtrados e as contagens de cada campo
+     */
+    FacetasCandidatosDTO facetasCandidatos(Map<IndiceCandidatos.Campo, List<String>> filtros, int limitePorCampo);
+
+    /**
+     * Sugestões de termos já usados pelos candidatos que começam com o prefixo, dos mais aos menos frequentes
+     *
+     * @param campo Campo dos termos (habilidade ou área de interesse)
+     * @param prefixo Início do termo digitado
+     * @param limite Quantidade máxima de sugestões
+     * @return Termos sugeridos
      */
-    List<User> findCandidatosByHabilidade(String habilidade);
+    List<String> sugerirTermos(IndiceCandidatos.Campo campo, String prefixo, int limite);
 
     // Métodos específicos para recrutadores
 
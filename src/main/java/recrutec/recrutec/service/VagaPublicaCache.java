@@ -0,0 +1,277 @@
+package recrutec.recrutec.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.util.CursorCodec;
+import recrutec.recrutec.util.EtagUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache das respostas públicas de vagas, já serializadas em JSON.
+ *
+ * Cada página da listagem é guardada junto com o intervalo do keyset que ela cobre
+ * e os ids que contém, de forma que uma escrita invalida apenas as páginas que
+ * realmente mudariam. Como a paginação é por cursor, inserir uma vaga não desloca
+ * o conteúdo das páginas seguintes.
+ *
+ * Alterações no recrutador de uma vaga não invalidam o cache; elas aparecem
+ * quando a entrada expira pelo TTL.
+ *
+ * As respostas incluem diasDesdePostagem, calculado sobre a data atual, por isso
+ * todas as entradas são descartadas na virada do dia.
+ */
+@Component
+public class VagaPublicaCache {
+
+    private final Cache<PaginaChave, PaginaEmCache> paginas;
+    private final Cache<Long, Resposta> detalhes;
+    private final ObjectMapper objectMapper;
+    private final Counter invalidacoes;
+
+    // Incrementada a cada escrita; cargas que cruzam uma escrita não são guardadas
+    private final AtomicLong geracao = new AtomicLong();
+
+    // Dia em que as entradas atuais foram serializadas
+    private final Clock relogio;
+    private final AtomicReference<LocalDate> dia;
+
+    @Autowired
+    public VagaPublicaCache(
+            @Value("${vagas.cache.publico.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${vagas.cache.publico.ttl-segundos:300}") long ttlSegundos,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this(tamanhoMaximo, ttlSegundos, objectMapper, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    // Relógio injetável nos testes
+    VagaPublicaCache(long tamanhoMaximo, long ttlSegundos, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                     Clock relogio) {
+
+        this.paginas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        this.detalhes = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        this.objectMapper = objectMapper;
+        this.relogio = relogio;
+        this.dia = new AtomicReference<>(LocalDate.now(relogio));
+
+        // Expõe hits, misses e evictions em /actuator/metrics (cache.gets, cache.evictions...)
+        CaffeineCacheMetrics.monitor(meterRegistry, paginas, "vagas.publicas.paginas");
+        CaffeineCacheMetrics.monitor(meterRegistry, detalhes, "vagas.publicas.detalhes");
+        this.invalidacoes = Counter.builder("vagas.publicas.cache.invalidacoes")
+                .description("Entradas removidas do cache público de vagas por escritas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtém uma página da listagem pública, consultando o banco apenas em caso de miss
+     *
+     * @param inicio Posição do keyset a partir da qual a página começa (exclusiva)
+     * @param tamanho Tamanho da página já validado
+     * @param consulta Consulta que busca até tamanho + 1 vagas a partir de inicio
+     * @param montar Monta a resposta paginada a partir do resultado da consulta
+     * @return JSON da página e seu ETag, calculado sobre o conteúdo
+     */
+    public Resposta pagina(CursorCodec.DataIdCursor inicio, int tamanho, Supplier<List<VagaResumoDTO>> consulta,
+                           Function<List<VagaResumoDTO>, CursorPageDTO<?>> montar) {
+        descartarSeVirouODia();
+        PaginaChave chave = new PaginaChave(inicio, tamanho);
+        PaginaEmCache emCache = paginas.getIfPresent(chave);
+        if (emCache != null) {
+            return emCache.getResposta();
+        }
+
+        long geracaoInicial = geracao.get();
+        List<VagaResumoDTO> vagas = consulta.get();
+        byte[] json = serializar(montar.apply(vagas));
+        emCache = PaginaEmCache.de(new Resposta(json, EtagUtils.doConteudo(json)), inicio, vagas, tamanho);
+        guardar(paginas, chave, emCache, geracaoInicial);
+        return emCache.getResposta();
+    }
+
+    /**
+     * Obtém o detalhe de uma vaga, consultando o banco apenas em caso de miss
+     *
+     * @param id Id da vaga
+     * @param consulta Consulta da vaga no banco
+     * @param etag Calcula o ETag da vaga carregada
+     * @return JSON da vaga ou empty se ela não existir (ausências não são guardadas)
+     */
+    public Optional<Resposta> detalhe(Long id, Supplier<Optional<VagaDetalheDTO>> consulta,
+                                      Function<VagaDetalheDTO, String> etag) {
+        descartarSeVirouODia();
+        Resposta emCache = detalhes.getIfPresent(id);
+        if (emCache != null) {
+            return Optional.of(emCache);
+        }
+
+        long geracaoInicial = geracao.get();
+        Optional<Resposta> carregado = consulta.get().map(vaga -> new Resposta(serializar(vaga), etag.apply(vaga)));
+        carregado.ifPresent(resposta -> guardar(detalhes, id, resposta, geracaoInicial));
+        return carregado;
+    }
+
+    /**
+     * ETag do detalhe de uma vaga, se ele estiver em cache (não conta como acesso nas métricas)
+     *
+     * @param id Id da vaga
+     * @return ETag em cache ou empty
+     */
+    public Optional<String> etagDetalhe(Long id) {
+        descartarSeVirouODia();
+        return Optional.ofNullable(detalhes.policy().getIfPresentQuietly(id)).map(Resposta::getEtag);
+    }
+
+    /**
+     * Invalida as entradas afetadas por uma vaga criada ou alterada
+     *
+     * @param vaga Vaga já persistida
+     */
+    public void invalidar(Vaga vaga) {
+        geracao.incrementAndGet();
+        detalhes.invalidate(vaga.getId());
+        boolean aberta = Vaga.STATUS_ABERTA.equals(vaga.getStatus());
+        removerPaginas(pagina -> pagina.contem(vaga.getId())
+                || (aberta && pagina.cobre(vaga.getDataPostagem(), vaga.getId())));
+    }
+
+    /**
+     * Invalida as entradas que contêm uma vaga removida ou cujo total de inscritos mudou.
+     * A posição da vaga na listagem não muda, então nenhuma outra página é afetada.
+     *
+     * @param id Id da vaga
+     */
+    public void invalidarConteudo(Long id) {
+        geracao.incrementAndGet();
+        detalhes.invalidate(id);
+        removerPaginas(pagina -> pagina.contem(id));
+    }
+
+    // Na virada do dia diasDesdePostagem muda em todas as respostas; cargas em andamento também são descartadas
+    private void descartarSeVirouODia() {
+        LocalDate hoje = LocalDate.now(relogio);
+        LocalDate anterior = dia.get();
+        if (!hoje.equals(anterior) && dia.compareAndSet(anterior, hoje)) {
+            geracao.incrementAndGet();
+            detalhes.invalidateAll();
+            paginas.invalidateAll();
+        }
+    }
+
+    /**
+     * Guarda uma entrada carregada se nenhuma escrita aconteceu desde o início da carga.
+     *
+     * A geração é conferida dentro do compute e de novo depois que a entrada fica visível:
+     * uma invalidação que incrementou a geração depois da primeira conferência ou encontra
+     * a entrada no mapa e a remove, ou é vista pela segunda conferência, que a retira aqui.
+     */
+    private <K, V> void guardar(Cache<K, V> cache, K chave, V valor, long geracaoInicial) {
+        cache.asMap().compute(chave, (k, atual) -> geracao.get() == geracaoInicial ? valor : atual);
+        if (geracao.get() != geracaoInicial) {
+            cache.asMap().remove(chave, valor);
+        }
+    }
+
+    private void removerPaginas(Predicate<PaginaEmCache> afetada) {
+        paginas.asMap().values().removeIf(pagina -> {
+            boolean remover = afetada.test(pagina);
+            if (remover) {
+                invalidacoes.increment();
+            }
+            return remover;
+        });
+    }
+
+    private byte[] serializar(Object valor) {
+        try {
+            return objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Erro ao serializar resposta pública de vagas", ex);
+        }
+    }
+
+    /**
+     * Resposta serializada e seu ETag
+     */
+    @lombok.Value
+    public static class Resposta {
+        byte[] json;
+        String etag;
+    }
+
+    @lombok.Value
+    static class PaginaChave {
+        CursorCodec.DataIdCursor inicio;
+        int tamanho;
+    }
+
+    /**
+     * Página serializada e o intervalo (inicio, fim] do keyset que ela cobre.
+     * fim é null quando a página chegou ao final da listagem.
+     */
+    @lombok.Value
+    static class PaginaEmCache {
+        Resposta resposta;
+        Set<Long> ids;
+        CursorCodec.DataIdCursor inicio;
+        CursorCodec.DataIdCursor fim;
+
+        static PaginaEmCache de(Resposta resposta, CursorCodec.DataIdCursor inicio, List<VagaResumoDTO> vagas,
+                                int tamanho) {
+            // Inclui a vaga buscada a mais: removê-la pode mudar a indicação de próxima página
+            Set<Long> ids = new HashSet<>();
+            vagas.forEach(vaga -> ids.add(vaga.getId()));
+            CursorCodec.DataIdCursor fim = null;
+            if (vagas.size() > tamanho) {
+                VagaResumoDTO ultima = vagas.get(tamanho - 1);
+                fim = new CursorCodec.DataIdCursor(ultima.getDataPostagem(), ultima.getId());
+            }
+            return new PaginaEmCache(resposta, Set.copyOf(ids), inicio, fim);
+        }
+
+        boolean contem(Long id) {
+            return ids.contains(id);
+        }
+
+        // Uma vaga aberta nesta posição entraria na página (ordem decrescente por data e id)
+        boolean cobre(LocalDate data, Long id) {
+            return comparar(data, id, inicio) < 0 && (fim == null || comparar(data, id, fim) > 0);
+        }
+
+        private static int comparar(LocalDate data, Long id, CursorCodec.DataIdCursor posicao) {
+            int porData = data.compareTo(posicao.getData());
+            return porData != 0 ? porData : id.compareTo(posicao.getId());
+        }
+    }
+}
@@ -1,45 +1,158 @@
 package recrutec.recrutec.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import recrutec.recrutec.exception.ResourceNotFoundException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import recrutec.recrutec.dto.CandidatoCompativelDTO;
+import recrutec.recrutec.dto.CandidatoInscritoDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.exception.InvalidDataException;
+import recrutec.recrutec.model.InscricaoId;
 import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.repository.InscricaoRepository;
+import recrutec.recrutec.repository.UserRepository;
 import recrutec.recrutec.repository.VagaRepository;
+import recrutec.recrutec.search.MotorCompatibilidade;
+import recrutec.recrutec.search.RecomendadorVagas;
+import recrutec.recrutec.search.VagaRemovidaEvent;
+import recrutec.recrutec.search.VagaSalvaEvent;
+import recrutec.recrutec.util.CursorCodec;
+import recrutec.recrutec.util.EtagUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class VagaService {
 
+    // Posição inicial do keyset: antes de qualquer vaga na ordem decrescente (data, id)
+    private static final CursorCodec.DataIdCursor INICIO = new CursorCodec.DataIdCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    // Profundidade máxima da paginação da busca; o ranking considera todas as correspondências
+    private static final int MAXIMO_RESULTADOS_BUSCA = 1000;
+    private static final int TAMANHO_MAXIMO_TERMO = 200;
+
+    // Candidatos compatíveis devolvidos por consulta ao motor (não há paginação: é um ranking)
+    private static final int MAXIMO_CANDIDATOS_COMPATIVEIS = 100;
+
     @Autowired
     private VagaRepository vagaRepository;
 
-    // Salvar nova vaga
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private VagaPublicaCache vagaPublicaCache;
+
+    @Autowired
+    private ContadorInscricoes contadorInscricoes;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MotorCompatibilidade motorCompatibilidade;
+
+    @Autowired
+    private RecomendadorVagas recomendadorVagas;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Salvar nova vaga e invalidar apenas as respostas públicas afetadas por ela
     public Vaga salvarVaga(Vaga vaga) {
-        return vagaRepository.save(vaga);
+        Vaga salva = vagaRepository.save(vaga);
+        vagaPublicaCache.invalidar(salva);
+        eventPublisher.publishEvent(new VagaSalvaEvent(salva));
+        return salva;
+    }
+
+    // Listar todas as vagas, paginadas por cursor
+    public CursorPageDTO<VagaResumoDTO> listarVagas(String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return pagina(vagaRepository.findPagina(posicao.getData(), posicao.getId(), Limit.of(tamanhoValido + 1)),
+                tamanhoValido);
+    }
+
+    // Listar apenas vagas abertas (para endpoint público), filtradas e paginadas no banco
+    public CursorPageDTO<VagaResumoDTO> listarVagasAbertas(String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return pagina(vagaRepository.findPaginaByStatus(Vaga.STATUS_ABERTA,
+                posicao.getData(), posicao.getId(), Limit.of(tamanhoValido + 1)), tamanhoValido);
     }
 
-    // Listar todas as vagas
-    public List<Vaga> listarVagas() {
-        return vagaRepository.findAll();
+    // Busca textual nas vagas abertas, ordenada por relevância e frescor; os resumos vêm em uma segunda consulta
+    public CursorPageDTO<VagaResumoDTO> buscarVagasAbertas(String termo, String cursor, int tamanho) {
+        if (termo == null || termo.isBlank()) {
+            throw new InvalidDataException("Informe o termo de busca");
+        }
+        if (termo.length() > TAMANHO_MAXIMO_TERMO) {
+            throw new InvalidDataException("O termo de busca deve ter no máximo " + TAMANHO_MAXIMO_TERMO + " caracteres");
+        }
+        int inicio = CursorCodec.decodePosicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        if (inicio >= MAXIMO_RESULTADOS_BUSCA) {
+            return new CursorPageDTO<>(List.of(), 0, null);
+        }
+
+        List<Long> ids = vagaRepository.buscarIdsAbertas(termo.strip(), inicio,
+                Math.min(tamanhoValido + 1, MAXIMO_RESULTADOS_BUSCA - inicio));
+        if (ids.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), 0, null);
+        }
+        Map<Long, VagaResumoDTO> resumos = vagaRepository.findResumosByIdIn(ids).stream()
+                .collect(Collectors.toMap(VagaResumoDTO::getId, Function.identity()));
+        List<VagaResumoDTO> vagas = ids.stream().map(resumos::get).filter(Objects::nonNull).toList();
+        return CursorPageDTO.of(vagas, tamanhoValido, vaga -> CursorCodec.encodePosicao(inicio + tamanhoValido));
     }
 
-    // Listar apenas vagas abertas (para endpoint público)
-    public List<Vaga> listarVagasAbertas() {
-        return vagaRepository.findAll().stream()
-                .filter(vaga -> "Aberta".equals(vaga.getStatus()))
-                .collect(Collectors.toList());
+    // Listagem pública de vagas abertas já serializada, servida do cache quando possível
+    public VagaPublicaCache.Resposta listarVagasAbertasPublicas(String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return vagaPublicaCache.pagina(posicao, tamanhoValido,
+                () -> vagaRepository.findPaginaByStatus(Vaga.STATUS_ABERTA,
+                        posicao.getData(), posicao.getId(), Limit.of(tamanhoValido + 1)),
+                vagas -> pagina(vagas, tamanhoValido));
     }
 
-    // Listar vagas por email do recrutador (agora usando User)
-    public List<Vaga> listarVagasPorRecrutadorEmail(String email) {
-        return vagaRepository.findAll().stream()
-                .filter(vaga -> vaga.getRecrutador() != null &&
-                               email.equals(vaga.getRecrutador().getEmail()) &&
-                               vaga.getRecrutador().isRecrutador()) // Garantir que é recrutador
-                .collect(Collectors.toList());
+    // Listar vagas de um recrutador pelo id, opcionalmente filtradas por status
+    public CursorPageDTO<VagaResumoDTO> listarVagasPorRecrutador(Long recrutadorId, String status, String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        Limit limite = Limit.of(tamanhoValido + 1);
+
+        List<VagaResumoDTO> vagas = (status == null || status.isBlank())
+                ? vagaRepository.findPaginaByRecrutadorId(recrutadorId, posicao.getData(), posicao.getId(), limite)
+                : vagaRepository.findPaginaByRecrutadorIdAndStatus(recrutadorId, status,
+                        posicao.getData(), posicao.getId(), limite);
+        return pagina(vagas, tamanhoValido);
     }
 
     // Buscar vaga por ID
@@ -47,8 +160,231 @@ public class VagaService {
         return vagaRepository.findById(id);
     }
 
-    // Deletar vaga por ID
+    // Detalhe de uma vaga em uma única consulta, sem carregar o grafo da entidade
+    public Optional<VagaDetalheDTO> buscarDetalheVaga(Long id) {
+        return vagaRepository.findDetalheById(id).map(this::comHabilidades);
+    }
+
+    // Detalhe público de uma vaga já serializado, servido do cache quando possível
+    public Optional<VagaPublicaCache.Resposta> buscarVagaPublica(Long id) {
+        return vagaPublicaCache.detalhe(id, () -> vagaRepository.findDetalheById(id).map(this::comHabilidades),
+                vaga -> etagVaga(vaga.getId(), vaga.getVersao(), vaga.getVersaoRecrutador(), vaga.getTotalInscritos()));
+    }
+
+    // ETag do detalhe de uma vaga: do cache quando presente, senão pela coluna de versão
+    public Optional<String> buscarEtagVaga(Long id) {
+        Optional<String> emCache = vagaPublicaCache.etagDetalhe(id);
+        if (emCache.isPresent()) {
+            return emCache;
+        }
+        return vagaRepository.findVersaoById(id)
+                .map(versao -> etagVaga(versao.getId(), versao.getVersao(), versao.getVersaoRecrutador(),
+                        versao.getTotalInscricoes()));
+    }
+
+    // ETags das listagens: só as versões das mesmas linhas (cursor e tamanho + 1) que a página traria,
+    // pelo mesmo índice da consulta paginada; o 304 evita montar e serializar os resumos
+    public String etagListarVagas(String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return etagLista("todas", tamanhoValido, vagaRepository.findVersoesPagina(
+                posicao.getData(), posicao.getId(), Limit.of(tamanhoValido + 1)));
+    }
+
+    public String etagListarVagasAbertas(String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return etagLista("abertas", tamanhoValido, vagaRepository.findVersoesPaginaByStatus(Vaga.STATUS_ABERTA,
+                posicao.getData(), posicao.getId(), Limit.of(tamanhoValido + 1)));
+    }
+
+    public String etagListarVagasPorRecrutador(Long recrutadorId, String status, String cursor, int tamanho) {
+        CursorCodec.DataIdCursor posicao = posicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        Limit limite = Limit.of(tamanhoValido + 1);
+        if (status == null || status.isBlank()) {
+            return etagLista("recrutador" + recrutadorId, tamanhoValido, vagaRepository.findVersoesPaginaByRecrutadorId(
+                    recrutadorId, posicao.getData(), posicao.getId(), limite));
+        }
+        // O status entra apenas como hash para manter o ETag em ASCII
+        return etagLista("recrutador" + recrutadorId + "s" + Integer.toHexString(status.hashCode()), tamanhoValido,
+                vagaRepository.findVersoesPaginaByRecrutadorIdAndStatus(
+                        recrutadorId, status, posicao.getData(), posicao.getId(), limite));
+    }
+
+    // Deletar vaga por ID, junto com as suas inscrições
+    @Transactional
     public void deletarVaga(Long id) {
+        inscricaoRepository.deleteByVagaId(id);
         vagaRepository.deleteById(id);
+        contadorInscricoes.descartar(id);
+        // Só depois do commit: invalidar antes deixaria uma leitura concorrente guardar a vaga de novo
+        aposCommit(() -> vagaPublicaCache.invalidarConteudo(id));
+        eventPublisher.publishEvent(new VagaRemovidaEvent(id));
+    }
+
+    /**
+     * Inscrever candidato com um único INSERT idempotente, sem lock na vaga.
+     * Quando nada é inserido, o motivo é identificado depois da escrita para que
+     * requisições repetidas recebam sempre a mesma resposta.
+     */
+    @Transactional
+    public ResultadoInscricao inscreverCandidato(Long vagaId, Long candidatoId) {
+        if (inscricaoRepository.inscrever(vagaId, candidatoId) > 0) {
+            // Contado após o commit e gravado em lote pelo contador, que também invalida as respostas públicas
+            contadorInscricoes.incrementar(vagaId);
+            return ResultadoInscricao.CRIADA;
+        }
+        if (inscricaoRepository.existsById(new InscricaoId(vagaId, candidatoId))) {
+            return ResultadoInscricao.JA_INSCRITO;
+        }
+        return vagaRepository.findStatusById(vagaId)
+                .map(status -> ResultadoInscricao.VAGA_FECHADA)
+                .orElse(ResultadoInscricao.VAGA_NAO_ENCONTRADA);
+    }
+
+    // Candidatos inscritos em uma vaga, paginados por cursor (id do candidato)
+    public CursorPageDTO<CandidatoInscritoDTO> listarCandidatosInscritos(Long vagaId, String cursor, int tamanho) {
+        Long apos = CursorCodec.decodeId(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return CursorPageDTO.of(inscricaoRepository.findPaginaCandidatos(vagaId, apos != null ? apos : 0L,
+                        Limit.of(tamanhoValido + 1)), tamanhoValido,
+                candidato -> CursorCodec.encodeId(candidato.getId()));
+    }
+
+    /**
+     * Escreve todos os candidatos inscritos em uma vaga como um array JSON, um candidato por vez.
+     * As linhas vêm do banco em lotes por um cursor, então a memória usada não depende do total de inscritos.
+     */
+    @Transactional(readOnly = true)
+    public void exportarCandidatosInscritos(Long vagaId, OutputStream saida) throws IOException {
+        try (Stream<CandidatoInscritoDTO> candidatos = inscricaoRepository.streamCandidatos(vagaId);
+             JsonGenerator json = objectMapper.getFactory().createGenerator(saida)) {
+            // Quem fecha a resposta HTTP é o Spring
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Sem flush a cada candidato: a saída recebe blocos do tamanho do buffer do gerador
+            ObjectWriter escritor = objectMapper.writerFor(CandidatoInscritoDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            json.writeStartArray();
+            Iterator<CandidatoInscritoDTO> iterador = candidatos.iterator();
+            while (iterador.hasNext()) {
+                escritor.writeValue(json, iterador.next());
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Candidatos mais compatíveis com as habilidades da vaga, do mais ao menos compatível.
+     * O ranking sai do MotorCompatibilidade em memória; o banco só é consultado para as
+     * habilidades da vaga e para o contato dos candidatos ranqueados.
+     */
+    public List<CandidatoCompativelDTO> listarCandidatosCompativeis(Long vagaId, int limite) {
+        Map<Boolean, List<String>> habilidades = habilidades(vagaId);
+        List<String> obrigatorias = habilidades.get(true);
+        List<String> desejaveis = habilidades.get(false);
+        int limiteValido = Math.min(Math.max(limite, 1), MAXIMO_CANDIDATOS_COMPATIVEIS);
+        List<MotorCompatibilidade.Compatibilidade> ranking =
+                motorCompatibilidade.melhores(obrigatorias, desejaveis, limiteValido);
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserRepository.ContatoUsuario> contatos = userRepository.findContatosByIdIn(
+                        ranking.stream().map(MotorCompatibilidade.Compatibilidade::getCandidatoId).toList())
+                .stream()
+                .collect(Collectors.toMap(UserRepository.ContatoUsuario::getId, Function.identity()));
+        // Um candidato removido entre a carga do motor e esta consulta simplesmente não aparece
+        return ranking.stream()
+                .filter(item -> contatos.containsKey(item.getCandidatoId()))
+                .map(item -> {
+                    UserRepository.ContatoUsuario contato = contatos.get(item.getCandidatoId());
+                    return new CandidatoCompativelDTO(contato.getId(), contato.getNome(), contato.getEmail(),
+                            item.getPontuacao(), item.getObrigatoriasAtendidas(), item.getTotalObrigatorias(),
+                            item.getDesejaveisAtendidas(), item.getTotalDesejaveis());
+                })
+                .toList();
+    }
+
+    /**
+     * Vagas abertas recomendadas para o candidato, da mais à menos compatível com o seu perfil.
+     * O ranking já vem pronto do RecomendadorVagas; o banco só é consultado para os resumos.
+     */
+    public List<VagaResumoDTO> listarVagasRecomendadas(Long candidatoId, int limite) {
+        int limiteValido = Math.min(Math.max(limite, 1), RecomendadorVagas.TAMANHO_RANKING);
+        List<Long> ids = recomendadorVagas.recomendadas(candidatoId, limiteValido);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, VagaResumoDTO> resumos = vagaRepository.findResumosByIdIn(ids).stream()
+                .collect(Collectors.toMap(VagaResumoDTO::getId, Function.identity()));
+        // Uma vaga removida entre a atualização do ranking e esta consulta simplesmente não aparece
+        return ids.stream().map(resumos::get).filter(Objects::nonNull).toList();
+    }
+
+    // Completa o detalhe com as habilidades da vaga, que não cabem na constructor expression
+    private VagaDetalheDTO comHabilidades(VagaDetalheDTO detalhe) {
+        Map<Boolean, List<String>> habilidades = habilidades(detalhe.getId());
+        detalhe.setHabilidadesObrigatorias(habilidades.get(true));
+        detalhe.setHabilidadesDesejaveis(habilidades.get(false));
+        return detalhe;
+    }
+
+    // Habilidades da vaga separadas em obrigatórias (true) e desejáveis (false), lidas em uma única consulta
+    private Map<Boolean, List<String>> habilidades(Long vagaId) {
+        return vagaRepository.findHabilidadesById(vagaId).stream()
+                .collect(Collectors.partitioningBy(VagaRepository.HabilidadeVaga::getObrigatoria,
+                        Collectors.mapping(VagaRepository.HabilidadeVaga::getHabilidade, Collectors.toList())));
+    }
+
+    // O dia entra nos ETags porque diasDesdePostagem, presente no corpo, muda com a data atual
+    private String etagVaga(Long id, long versao, Long versaoRecrutador, long totalInscricoes) {
+        return EtagUtils.forte("vaga", id, versao, versaoRecrutador != null ? versaoRecrutador : 0, totalInscricoes,
+                LocalDate.now().toEpochDay());
+    }
+
+    private String etagLista(String escopo, int tamanho, List<VagaRepository.VersaoVaga> versoes) {
+        // Qualquer inclusão, remoção ou alteração na janela da página muda o resumo
+        String resumo = versoes.stream()
+                .map(v -> v.getId() + "." + v.getVersao() + "." + v.getVersaoRecrutador() + "." + v.getTotalInscricoes())
+                .collect(Collectors.joining(","));
+        return EtagUtils.forte(escopo, tamanho, LocalDate.now().toEpochDay(),
+                DigestUtils.md5DigestAsHex(resumo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Executa a ação depois do commit da transação atual, ou imediatamente fora de uma transação
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    // Decodifica o cursor recebido; sem cursor a listagem começa pela vaga mais recente
+    private CursorCodec.DataIdCursor posicao(String cursor) {
+        CursorCodec.DataIdCursor posicao = CursorCodec.decodeDataId(cursor);
+        return posicao != null ? posicao : INICIO;
+    }
+
+    // Monta a página a partir da consulta que buscou uma vaga a mais que o tamanho
+    private CursorPageDTO<VagaResumoDTO> pagina(List<VagaResumoDTO> vagas, int tamanho) {
+        return CursorPageDTO.of(vagas, tamanho,
+                vaga -> CursorCodec.encodeDataId(vaga.getDataPostagem(), vaga.getId()));
+    }
+
+    /**
+     * Resultado de uma tentativa de inscrição
+     */
+    public enum ResultadoInscricao {
+        CRIADA,
+        JA_INSCRITO,
+        VAGA_FECHADA,
+        VAGA_NAO_ENCONTRADA
     }
 }
@@ -2,19 +2,36 @@ package recrutec.recrutec.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import recrutec.recrutec.dto.CandidatoRegisterDTO;
+import recrutec.recrutec.dto.ContagemFacetaDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
 import recrutec.recrutec.dto.RecrutadorRegisterDTO;
+import recrutec.recrutec.dto.UsuarioBuscaDTO;
 import recrutec.recrutec.exception.InvalidDataException;
 import recrutec.recrutec.exception.ResourceAlreadyExistsException;
 import recrutec.recrutec.exception.ResourceNotFoundException;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
 import recrutec.recrutec.repository.UserRepository;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.search.NormalizadorTermos;
+import recrutec.recrutec.search.UsuarioRemovidoEvent;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
+import recrutec.recrutec.service.BuscaCandidatosCache;
 import recrutec.recrutec.service.UserService;
+import recrutec.recrutec.util.CursorCodec;
+import recrutec.recrutec.util.EtagUtils;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,8 +48,21 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    // A busca por nome/email só percorre os primeiros resultados; além disso o termo precisa ser refinado
+    private static final int MAXIMO_RESULTADOS_BUSCA = 200;
+    private static final int TAMANHO_MAXIMO_TERMO = 100;
+    // Abaixo disso quase todo usuário é parecido com o termo; o typeahead só começa a sugerir a partir daqui
+    private static final int TAMANHO_MINIMO_TERMO = 3;
+    private static final int MAXIMO_TERMOS_POR_FACETA = 100;
+    // As sugestões são públicas: um termo usado por um único candidato pode identificá-lo
+    private static final int MINIMO_CANDIDATOS_SUGESTAO = 2;
+    private static final int MAXIMO_SUGESTOES = 20;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final IndiceCandidatos indiceCandidatos;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BuscaCandidatosCache buscaCandidatosCache;
 
     @Override
     public User save(User user) {
@@ -47,19 +77,26 @@ public class UserServiceImpl implements UserService {
         log.info("Usuário salvo com sucesso: {} (ID: {}, Role: {})",
                 savedUser.getEmail(), savedUser.getId(), savedUser.getRole());
 
+        // Mantém os índices em memória (habilidades, áreas...) com o estado salvo
+        eventPublisher.publishEvent(new UsuarioSalvoEvent(savedUser));
+
         return savedUser;
     }
 
     @Override
-    public List<User> findAll() {
-        log.debug("Listando todos os usuários");
-        return userRepository.findAll();
+    public CursorPageDTO<User> findAll(String cursor, int tamanho) {
+        log.debug("Listando usuários após cursor: {}", cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return pagina(userRepository.findByIdGreaterThanOrderByIdAsc(
+                aposId(cursor), Limit.of(tamanhoValido + 1)), tamanhoValido);
     }
 
     @Override
-    public List<User> findByRole(Role role) {
+    public CursorPageDTO<User> findByRole(Role role, String cursor, int tamanho) {
         log.debug("Listando usuários por role: {}", role);
-        return userRepository.findByRole(role);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        return pagina(userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(
+                role, aposId(cursor), Limit.of(tamanhoValido + 1)), tamanhoValido);
     }
 
     @Override
@@ -74,6 +111,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByEmail(email);
     }
 
+    @Override
+    public Optional<String> findEtagByEmail(String email) {
+        return userRepository.findVersaoByEmail(email)
+                .map(versao -> EtagUtils.forte("usuario", versao.getId(), versao.getVersao()));
+    }
+
     @Override
     public Optional<User> findByEmailAndSenha(String email, String senha) {
         log.debug("Buscando usuário por email e senha: {}", email);
@@ -84,9 +127,34 @@ public class UserServiceImpl implements UserService {
     public void deleteById(Long id) {
         log.debug("Deletando usuário por ID: {}", id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UsuarioRemovidoEvent(id));
         log.info("Usuário deletado com sucesso: ID {}", id);
     }
 
+    @Override
+    public CursorPageDTO<UsuarioBuscaDTO> buscarPorNomeOuEmail(String termo, String cursor, int tamanho) {
+        String normalizado = NormalizadorTermos.normalizar(termo);
+        if (normalizado == null) {
+            throw new InvalidDataException("Informe o termo de busca");
+        }
+        if (normalizado.length() > TAMANHO_MAXIMO_TERMO) {
+            throw new InvalidDataException("O termo de busca deve ter no máximo " + TAMANHO_MAXIMO_TERMO + " caracteres");
+        }
+        int inicio = CursorCodec.decodePosicao(cursor);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        if (normalizado.length() < TAMANHO_MINIMO_TERMO || inicio >= MAXIMO_RESULTADOS_BUSCA) {
+            return new CursorPageDTO<>(List.of(), 0, null);
+        }
+
+        log.debug("Buscando usuários por nome ou email: {}", normalizado);
+        List<UsuarioBuscaDTO> usuarios = userRepository.buscarPorNomeOuEmail(normalizado, inicio,
+                        Math.min(tamanhoValido + 1, MAXIMO_RESULTADOS_BUSCA - inicio)).stream()
+                .map(u -> new UsuarioBuscaDTO(u.getId(), u.getNome(), u.getEmail(), Role.valueOf(u.getRole()),
+                        u.getRelevancia()))
+                .toList();
+        return CursorPageDTO.of(usuarios, tamanhoValido, u -> CursorCodec.encodePosicao(inicio + tamanhoValido));
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         log.debug("Verificando se existe usuário com email: {}", email);
@@ -96,15 +164,40 @@ public class UserServiceImpl implements UserService {
     // Métodos específicos para candidatos
 
     @Override
-    public List<User> findCandidatosByAreaInteresse(String area) {
+    public CursorPageDTO<User> findCandidatosByAreaInteresse(String area, String cursor, int tamanho) {
         log.debug("Buscando candidatos por área de interesse: {}", area);
-        return userRepository.findCandidatosByAreaInteresse(area);
+        return paginaDoIndice(IndiceCandidatos.Campo.AREA_INTERESSE, area, cursor, tamanho);
     }
 
     @Override
-    public List<User> findCandidatosByHabilidade(String habilidade) {
+    public CursorPageDTO<User> findCandidatosByHabilidade(String habilidade, String cursor, int tamanho) {
         log.debug("Buscando candidatos por habilidade: {}", habilidade);
-        return userRepository.findCandidatosByHabilidade(habilidade);
+        return paginaDoIndice(IndiceCandidatos.Campo.HABILIDADE, habilidade, cursor, tamanho);
+    }
+
+    @Override
+    public CursorPageDTO<User> buscarCandidatos(FiltroCandidatos filtro, String cursor, int tamanho) {
+        log.debug("Buscando candidatos com filtros: {}", filtro);
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        long apos = aposId(cursor);
+        List<Long> ids = buscaCandidatosCache.idsDaPagina(BuscaCandidatosCache.Chave.de(filtro, apos, tamanhoValido),
+                () -> indiceCandidatos.buscar(filtro, apos, tamanhoValido + 1));
+        return carregarPagina(ids, tamanhoValido);
+    }
+
+    @Override
+    public FacetasCandidatosDTO facetasCandidatos(Map<IndiceCandidatos.Campo, List<String>> filtros, int limitePorCampo) {
+        log.debug("Calculando facetas de candidatos com filtros: {}", filtros);
+        int limiteValido = Math.min(Math.max(limitePorCampo, 1), MAXIMO_TERMOS_POR_FACETA);
+        return indiceCandidatos.facetas(filtros, limiteValido);
+    }
+
+    @Override
+    public List<String> sugerirTermos(IndiceCandidatos.Campo campo, String prefixo, int limite) {
+        int limiteValido = Math.min(Math.max(limite, 1), MAXIMO_SUGESTOES);
+        return indiceCandidatos.sugerir(campo, prefixo, MINIMO_CANDIDATOS_SUGESTAO, limiteValido).stream()
+                .map(ContagemFacetaDTO::getTermo)
+                .toList();
     }
 
     // Métodos específicos para recrutadores
@@ -221,6 +314,57 @@ public class UserServiceImpl implements UserService {
         return savedRecrutador;
     }
 
+    /**
+     * Obtém o id a partir do qual a listagem continua (0 para a primeira página)
+     */
+    private Long aposId(String cursor) {
+        Long id = CursorCodec.decodeId(cursor);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * Busca a página de ids no índice em memória e carrega apenas esses usuários pela chave primária.
+     * Os ids de páginas repetidas saem do BuscaCandidatosCache.
+     */
+    private CursorPageDTO<User> paginaDoIndice(IndiceCandidatos.Campo campo, String termo, String cursor, int tamanho) {
+        int tamanhoValido = CursorPageDTO.limitarTamanho(tamanho);
+        long apos = aposId(cursor);
+        BuscaCandidatosCache.Chave chave = BuscaCandidatosCache.Chave.de(campo, termo, apos, tamanhoValido);
+        // Termo vazio depois de normalizado não encontra ninguém (e não pode dividir a chave da busca sem filtros)
+        if (chave.getCriterios().isEmpty()) {
+            return pagina(List.of(), tamanhoValido);
+        }
+        List<Long> ids = buscaCandidatosCache.idsDaPagina(chave,
+                () -> indiceCandidatos.buscar(campo, termo, apos, tamanhoValido + 1));
+        return carregarPagina(ids, tamanhoValido);
+    }
+
+    /**
+     * Carrega, na ordem dos ids, os usuários de uma página obtida do índice.
+     * As coleções são inicializadas aqui para que a serialização não dependa da sessão que carregou os usuários.
+     */
+    private CursorPageDTO<User> carregarPagina(List<Long> ids, int tamanho) {
+        if (ids.isEmpty()) {
+            return pagina(List.of(), tamanho);
+        }
+        List<User> usuarios = userRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(User::getId))
+                .toList();
+        usuarios.forEach(usuario -> {
+            Hibernate.initialize(usuario.getHabilidades());
+            Hibernate.initialize(usuario.getAreaInteresse());
+            Hibernate.initialize(usuario.getCertificados());
+        });
+        return pagina(usuarios, tamanho);
+    }
+
+    /**
+     * Monta a página a partir da consulta que buscou um usuário a mais que o tamanho
+     */
+    private CursorPageDTO<User> pagina(List<User> usuarios, int tamanho) {
+        return CursorPageDTO.of(usuarios, tamanho, user -> CursorCodec.encodeId(user.getId()));
+    }
+
     /**
      * Valida dados de registro
      *
@@ -0,0 +1,150 @@
+package recrutec.recrutec.util;
+
+import lombok.Value;
+import recrutec.recrutec.exception.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica os cursores opacos usados na paginação por keyset.
+ *
+ * O cliente recebe o cursor como uma string Base64 (URL-safe) e apenas o devolve
+ * na próxima requisição, portanto o formato interno pode mudar sem quebrar a API.
+ */
+public final class CursorCodec {
+
+    private static final String PREFIXO_ID = "i";
+    private static final String PREFIXO_DATA_ID = "d";
+    private static final String PREFIXO_POSICAO = "p";
+    private static final String SEPARADOR = ":";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Codifica um cursor posicionado após o id informado
+     *
+     * @param id Id do último item da página
+     * @return Cursor opaco
+     */
+    public static String encodeId(Long id) {
+        return encode(PREFIXO_ID + SEPARADOR + id);
+    }
+
+    /**
+     * Decodifica um cursor de id
+     *
+     * @param cursor Cursor recebido do cliente
+     * @return Id do último item já entregue ou null se o cursor estiver vazio
+     * @throws InvalidDataException Se o cursor não for válido
+     */
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] partes = decode(cursor, PREFIXO_ID, 2);
+        try {
+            return Long.parseLong(partes[1]);
+        } catch (NumberFormatException ex) {
+            throw cursorInvalido();
+        }
+    }
+
+    /**
+     * Codifica um cursor posicionado após o par (data, id)
+     *
+     * @param data Data do último item da página
+     * @param id Id do último item da página
+     * @return Cursor opaco
+     */
+    public static String encodeDataId(LocalDate data, Long id) {
+        return encode(PREFIXO_DATA_ID + SEPARADOR + data + SEPARADOR + id);
+    }
+
+    /**
+     * Decodifica um cursor de (data, id)
+     *
+     * @param cursor Cursor recebido do cliente
+     * @return Posição do último item já entregue ou null se o cursor estiver vazio
+     * @throws InvalidDataException Se o cursor não for válido
+     */
+    public static DataIdCursor decodeDataId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] partes = decode(cursor, PREFIXO_DATA_ID, 3);
+        try {
+            return new DataIdCursor(LocalDate.parse(partes[1]), Long.parseLong(partes[2]));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw cursorInvalido();
+        }
+    }
+
+    /**
+     * Codifica um cursor de posição, usado em listagens ordenadas por relevância
+     * (a ordem não tem chave estável para keyset)
+     *
+     * @param posicao Quantidade de itens já entregues
+     * @return Cursor opaco
+     */
+    public static String encodePosicao(int posicao) {
+        return encode(PREFIXO_POSICAO + SEPARADOR + posicao);
+    }
+
+    /**
+     * Decodifica um cursor de posição
+     *
+     * @param cursor Cursor recebido do cliente
+     * @return Quantidade de itens já entregues ou 0 se o cursor estiver vazio
+     * @throws InvalidDataException Se o cursor não for válido
+     */
+    public static int decodePosicao(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        String[] partes = decode(cursor, PREFIXO_POSICAO, 2);
+        try {
+            int posicao = Integer.parseInt(partes[1]);
+            if (posicao < 0) {
+                throw cursorInvalido();
+            }
+            return posicao;
+        } catch (NumberFormatException ex) {
+            throw cursorInvalido();
+        }
+    }
+
+    private static String encode(String valor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, String prefixoEsperado, int partesEsperadas) {
+        String valor;
+        try {
+            valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw cursorInvalido();
+        }
+        String[] partes = valor.split(SEPARADOR);
+        if (partes.length != partesEsperadas || !prefixoEsperado.equals(partes[0])) {
+            throw cursorInvalido();
+        }
+        return partes;
+    }
+
+    private static InvalidDataException cursorInvalido() {
+        return new InvalidDataException("Cursor de paginação inválido");
+    }
+
+    /**
+     * Posição de um cursor ordenado por data e id
+     */
+    @Value
+    public static class DataIdCursor {
+        LocalDate data;
+        Long id;
+    }
+}
@@ -0,0 +1,40 @@
+package recrutec.recrutec.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Monta os ETags fortes usados nas requisições condicionais (If-None-Match).
+ *
+ * Os ETags de entidades são derivados da coluna de versão, portanto podem ser
+ * calculados com uma consulta barata sem carregar nem serializar a entidade.
+ */
+public final class EtagUtils {
+
+    private EtagUtils() {
+    }
+
+    /**
+     * Monta um ETag forte a partir das partes que identificam a versão do recurso
+     *
+     * @param partes Identificadores e versões do recurso
+     * @return ETag entre aspas, pronto para o header
+     */
+    public static String forte(Object... partes) {
+        return Arrays.stream(partes)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /**
+     * Monta um ETag forte a partir do conteúdo já serializado da resposta
+     *
+     * @param conteudo Corpo da resposta
+     * @return ETag entre aspas, pronto para o header
+     */
+    public static String doConteudo(byte[] conteudo) {
+        return "\"0" + DigestUtils.md5DigestAsHex(conteudo) + "\"";
+    }
+}
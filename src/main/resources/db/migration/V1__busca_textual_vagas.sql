@@ -0,0 +1,10 @@
+-- Busca textual de vagas (configuração portuguese).
+-- O título pesa mais que a descrição; a coluna é gerada, então o Postgres a mantém
+-- atualizada em todo INSERT/UPDATE sem código na aplicação.
+ALTER TABLE vaga ADD COLUMN IF NOT EXISTS busca tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(titulo, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(descricao, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_vaga_busca ON vaga USING GIN (busca);
@@ -0,0 +1,16 @@
+-- Busca de usuários por nome/email (tela de administração) por similaridade de trigramas,
+-- sem diferenciar maiúsculas nem acentos.
+-- As extensões exigem um usuário com permissão de CREATE no banco (ou já instaladas pelo DBA).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE (depende do search_path) e não pode ser usada em índices;
+-- fixar o dicionário torna o resultado determinístico e permite declarar IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- GiST (e não GIN) para que ORDER BY distância ... LIMIT percorra o índice em ordem de
+-- similaridade (KNN) e pare ao completar a página, mesmo para termos muito comuns.
+CREATE INDEX IF NOT EXISTS idx_users_busca_trgm ON users
+    USING GIST ((lower(f_unaccent(nome || ' ' || email))) gist_trgm_ops);
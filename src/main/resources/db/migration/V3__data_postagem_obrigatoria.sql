@@ -0,0 +1,8 @@
+-- A paginação por keyset compara (data_postagem, id); uma vaga com data_postagem nula
+-- nunca satisfaz o predicado e some de todas as listagens.
+-- Vagas antigas sem data ficam com a data mais antiga conhecida, no fim da listagem.
+UPDATE vaga
+SET data_postagem = COALESCE((SELECT MIN(data_postagem) FROM vaga), CURRENT_DATE)
+WHERE data_postagem IS NULL;
+
+ALTER TABLE vaga ALTER COLUMN data_postagem SET NOT NULL;
@@ -64,6 +64,60 @@ document.getElementById('candidatoForm').addEventListener('submit', async functi
     }
 });
 
+// Autocompletar de áreas e habilidades com termos já usados por outros candidatos
+configurarAutocompletar('areaInteresse', 'areas');
+configurarAutocompletar('habilidades', 'habilidades');
+
+/**
+ * Liga um campo de valores separados por vírgula a uma lista de sugestões (datalist)
+ */
+function configurarAutocompletar(inputId, campo) {
+    const input = document.getElementById(inputId);
+    const lista = document.createElement('datalist');
+    lista.id = `${inputId}-sugestoes`;
+    input.after(lista);
+    input.setAttribute('list', lista.id);
+    input.setAttribute('autocomplete', 'off');
+
+    let espera;
+    input.addEventListener('input', () => {
+        clearTimeout(espera);
+        espera = setTimeout(() => atualizarSugestoes(input, lista, campo), 150);
+    });
+}
+
+/**
+ * Busca sugestões para o último item digitado e preenche a lista
+ */
+async function atualizarSugestoes(input, lista, campo) {
+    const valor = input.value;
+    const partes = valor.split(',');
+    const prefixo = partes.pop().trim();
+    if (prefixo.length === 0) {
+        lista.innerHTML = '';
+        return;
+    }
+
+    try {
+        const response = await fetch(
+            `${API_BASE_URL}/public/termos/${campo}?prefixo=${encodeURIComponent(prefixo)}`);
+        // Ignora respostas atrasadas: o usuário já digitou outra coisa
+        if (!response.ok || input.value !== valor) {
+            return;
+        }
+        const termos = await response.json();
+        const anteriores = partes.length > 0 ? partes.join(',') + ', ' : '';
+        lista.innerHTML = '';
+        termos.forEach(termo => {
+            const opcao = document.createElement('option');
+            opcao.value = anteriores + termo;
+            lista.appendChild(opcao);
+        });
+    } catch (error) {
+        console.error('Erro ao buscar sugestões:', error);
+    }
+}
+
 /**
  * Converte uma string com valores separados por vírgula em array
  * Remove espaços em branco e valores vazios
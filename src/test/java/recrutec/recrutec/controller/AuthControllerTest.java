@@ -13,8 +13,10 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import recrutec.recrutec.dto.*;
 import recrutec.recrutec.exception.ResourceAlreadyExistsException;
+import recrutec.recrutec.exception.ServiceOverloadedException;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
+import recrutec.recrutec.security.jwt.VerifiedTokenCache;
 import recrutec.recrutec.service.AuthenticationService;
 import recrutec.recrutec.service.UserService;
 
@@ -44,6 +46,10 @@ class AuthControllerTest {
     @MockBean
     private UserService userService;
 
+    // Dependência do JwtAuthenticationFilter, que o @WebMvcTest registra junto com o controller
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -132,6 +138,22 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Email ou senha inválidos"));
     }
 
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o pool de senhas está cheio")
+    void deveRetornar503QuandoPoolDeSenhasEstaCheio() throws Exception {
+        // Given
+        given(userService.registerCandidato(any(CandidatoRegisterDTO.class)))
+                .willThrow(new ServiceOverloadedException("Servidor ocupado", 2));
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/register/candidato")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(candidatoRegisterDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(503));
+    }
+
     @Test
     @DisplayName("Deve registrar candidato com sucesso")
     void deveRegistrarCandidatoComSucesso() throws Exception {
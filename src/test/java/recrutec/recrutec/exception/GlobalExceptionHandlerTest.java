@@ -7,9 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
@@ -88,6 +90,43 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getPath()).isEqualTo("/api/test");
     }
 
+    @Test
+    @DisplayName("Deve tratar conflito de versão como 409")
+    void deveTratarConflitoDeVersaoComo409() {
+        // Given
+        ObjectOptimisticLockingFailureException exception =
+                new ObjectOptimisticLockingFailureException(Object.class, 1L);
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler
+                .handleOptimisticLockingFailureException(exception, webRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getError()).isEqualTo("Concurrent Modification");
+        assertThat(response.getBody().getPath()).isEqualTo("/api/test");
+    }
+
+    @Test
+    @DisplayName("Deve tratar sobrecarga como 503 com Retry-After")
+    void deveTratarSobrecargaComo503() {
+        // Given
+        ServiceOverloadedException exception = new ServiceOverloadedException("Servidor ocupado", 2);
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler
+                .handleServiceOverloadedException(exception, webRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+        assertThat(response.getBody().getMessage()).isEqualTo("Servidor ocupado");
+    }
+
     @Test
     @DisplayName("Deve tratar InvalidDataException corretamente")
     void deveTratarInvalidDataExceptionCorretamente() {
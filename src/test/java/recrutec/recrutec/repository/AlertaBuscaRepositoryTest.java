@@ -0,0 +1,121 @@
+package recrutec.recrutec.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import recrutec.recrutec.dto.AlertaBuscaDTO;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do AlertaBuscaRepository.
+ *
+ * Usa o H2 configurado em modo PostgreSQL (sem substituir o datasource) porque o
+ * registro do alerta é um INSERT ... ON CONFLICT DO NOTHING nativo.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("AlertaBuscaRepository - Testes de Integração")
+class AlertaBuscaRepositoryTest {
+
+    @Autowired
+    private AlertaBuscaRepository alertaBuscaRepository;
+
+    @Autowired
+    private BuscaSalvaRepository buscaSalvaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User recrutador;
+    private BuscaSalva busca;
+
+    @BeforeEach
+    void setUp() {
+        recrutador = salvarUsuario("recrutador@empresa.com", Role.RECRUTADOR);
+        busca = salvarBusca(recrutador, "Backend Java");
+    }
+
+    @Test
+    @DisplayName("Deve registrar um único alerta por candidato e busca")
+    void deveRegistrarUmAlertaPorCandidatoEBusca() {
+        // Given
+        User candidato = salvarUsuario("candidato@email.com", Role.CANDIDATO);
+
+        // When
+        int primeiro = alertaBuscaRepository.registrar(busca.getId(), candidato.getId());
+        int repetido = alertaBuscaRepository.registrar(busca.getId(), candidato.getId());
+
+        // Then
+        assertThat(primeiro).isEqualTo(1);
+        assertThat(repetido).isZero();
+        assertThat(alertaBuscaRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve registrar alerta para uma busca que já foi removida")
+    void naoDeveRegistrarAlertaDeBuscaRemovida() {
+        // Given
+        User candidato = salvarUsuario("candidato@email.com", Role.CANDIDATO);
+        Long removida = busca.getId();
+        buscaSalvaRepository.delete(busca);
+        buscaSalvaRepository.flush();
+
+        // When
+        int registrados = alertaBuscaRepository.registrar(removida, candidato.getId());
+
+        // Then
+        assertThat(registrados).isZero();
+        assertThat(alertaBuscaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os alertas do recrutador dos mais novos aos mais antigos")
+    void devePaginarAlertasDoRecrutador() {
+        // Given
+        User ana = salvarUsuario("ana@email.com", Role.CANDIDATO);
+        User bruno = salvarUsuario("bruno@email.com", Role.CANDIDATO);
+        BuscaSalva deOutroRecrutador = salvarBusca(salvarUsuario("outro@empresa.com", Role.RECRUTADOR), "Dados");
+        alertaBuscaRepository.registrar(busca.getId(), ana.getId());
+        alertaBuscaRepository.registrar(deOutroRecrutador.getId(), ana.getId());
+        alertaBuscaRepository.registrar(busca.getId(), bruno.getId());
+
+        // When
+        List<AlertaBuscaDTO> primeira = alertaBuscaRepository.findPaginaAlertas(recrutador.getId(), Long.MAX_VALUE,
+                Limit.of(1));
+        List<AlertaBuscaDTO> segunda = alertaBuscaRepository.findPaginaAlertas(recrutador.getId(),
+                primeira.get(0).getId(), Limit.of(10));
+
+        // Then
+        assertThat(primeira).extracting(AlertaBuscaDTO::getCandidatoEmail).containsExactly("bruno@email.com");
+        assertThat(primeira.get(0).getBuscaTitulo()).isEqualTo("Backend Java");
+        assertThat(primeira.get(0).getDataCriacao()).isNotNull();
+        assertThat(segunda).extracting(AlertaBuscaDTO::getCandidatoEmail).containsExactly("ana@email.com");
+    }
+
+    private BuscaSalva salvarBusca(User dono, String titulo) {
+        BuscaSalva nova = new BuscaSalva();
+        nova.setTitulo(titulo);
+        nova.setRecrutador(dono);
+        nova.setHabilidades(List.of("Java"));
+        return buscaSalvaRepository.saveAndFlush(nova);
+    }
+
+    private User salvarUsuario(String email, Role role) {
+        User user = new User();
+        user.setNome(email);
+        user.setEmail(email);
+        user.setSenha("senha");
+        user.setRole(role);
+        return userRepository.saveAndFlush(user);
+    }
+}
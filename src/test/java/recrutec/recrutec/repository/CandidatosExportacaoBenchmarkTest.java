@@ -0,0 +1,125 @@
+package recrutec.recrutec.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.search.MotorCompatibilidade;
+import recrutec.recrutec.search.RecomendadorVagas;
+import recrutec.recrutec.service.ContadorInscricoes;
+import recrutec.recrutec.service.VagaPublicaCache;
+import recrutec.recrutec.service.VagaService;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da exportação de candidatos inscritos.
+ *
+ * Exporta 50 mil candidatos de uma vaga e confere que o JSON é escrito aos poucos,
+ * em blocos do tamanho do buffer do gerador, em vez de montado inteiro em memória.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(VagaService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("VagaService - Benchmark da exportação de candidatos")
+class CandidatosExportacaoBenchmarkTest {
+
+    private static final int CANDIDATOS = 50_000;
+    // Maior bloco aceitável em uma única escrita: o buffer do gerador JSON é de 8 KB
+    private static final int MAIOR_ESCRITA = 16 * 1024;
+
+    @Autowired
+    private VagaService vagaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private VagaPublicaCache vagaPublicaCache;
+
+    @MockBean
+    private ContadorInscricoes contadorInscricoes;
+
+    @MockBean
+    private MotorCompatibilidade motorCompatibilidade;
+
+    @MockBean
+    private RecomendadorVagas recomendadorVagas;
+
+    @Test
+    @DisplayName("Deve exportar 50 mil candidatos escrevendo a resposta de forma incremental")
+    void deveExportarCandidatosDeFormaIncremental() throws Exception {
+        Long vagaId = inserirVagaComCandidatos();
+        SaidaContada saida = new SaidaContada();
+
+        long inicio = System.nanoTime();
+        vagaService.exportarCandidatosInscritos(vagaId, saida);
+        double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        System.out.printf("[benchmark] candidatos=%,d bytes=%,d escritas=%,d maior=%,d tempo=%.1f ms%n",
+                CANDIDATOS, saida.bytes, saida.escritas, saida.maiorEscrita, ms);
+
+        assertThat(saida.objetos).isEqualTo(CANDIDATOS);
+        assertThat(saida.escritas).isBetween(100, CANDIDATOS / 10);
+        assertThat(saida.maiorEscrita).isLessThanOrEqualTo(MAIOR_ESCRITA);
+    }
+
+    private Long inserirVagaComCandidatos() {
+        jdbcTemplate.update("INSERT INTO users (nome, email, senha, role, empresa) VALUES (?, ?, ?, ?, ?)",
+                "Recrutador", "recrutador@exportacao.com", "senha", "RECRUTADOR", "Empresa");
+        Long recrutadorId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = ?", Long.class, "recrutador@exportacao.com");
+        jdbcTemplate.update("INSERT INTO vaga (titulo, descricao, status, recrutador_id, data_postagem) "
+                + "VALUES (?, ?, ?, ?, CURRENT_DATE)", "Vaga", "Descrição", Vaga.STATUS_ABERTA, recrutadorId);
+        Long vagaId = jdbcTemplate.queryForObject(
+                "SELECT id FROM vaga WHERE recrutador_id = ?", Long.class, recrutadorId);
+
+        List<Object[]> linhas = new ArrayList<>(CANDIDATOS);
+        for (int i = 0; i < CANDIDATOS; i++) {
+            linhas.add(new Object[]{"Candidato " + i, "candidato" + i + "@exportacao.com", "senha", "CANDIDATO"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (nome, email, senha, role) VALUES (?, ?, ?, ?)", linhas);
+        jdbcTemplate.update("INSERT INTO inscricoes (vaga_id, user_id, data_inscricao, status) "
+                + "SELECT ?, id, CURRENT_TIMESTAMP, 'INSCRITO' FROM users WHERE role = 'CANDIDATO'", vagaId);
+        return vagaId;
+    }
+
+    // Descarta o conteúdo, guardando apenas o tamanho das escritas e quantos objetos foram escritos
+    private static class SaidaContada extends OutputStream {
+        private long bytes;
+        private int escritas;
+        private int maiorEscrita;
+        private int objetos;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            escritas++;
+            maiorEscrita = Math.max(maiorEscrita, len);
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '{') {
+                    objetos++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package recrutec.recrutec.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.search.MotorCompatibilidade;
+import recrutec.recrutec.search.RecomendadorVagas;
+import recrutec.recrutec.service.ContadorInscricoes;
+import recrutec.recrutec.service.VagaPublicaCache;
+import recrutec.recrutec.service.VagaService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de estresse das inscrições concorrentes.
+ *
+ * Dispara 10 mil inscrições em paralelo na mesma vaga, metade delas repetidas,
+ * e confere que o total final (tabela e contador) é exato e que cada tentativa
+ * recebe a resposta esperada. Roda fora da transação do teste para que cada inscrição seja
+ * confirmada de fato, como em produção.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VagaService.class, ContadorInscricoes.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Inscrições - Teste de Concorrência")
+class InscricaoConcorrenciaTest {
+
+    private static final int CANDIDATOS = 5_000;
+    private static final int TENTATIVAS_POR_CANDIDATO = 2;
+    private static final int THREADS = 32;
+    private static final String DOMINIO = "@estresse.com";
+
+    @Autowired
+    private VagaService vagaService;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private ContadorInscricoes contadorInscricoes;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private VagaPublicaCache vagaPublicaCache;
+
+    @MockBean
+    private MotorCompatibilidade motorCompatibilidade;
+
+    @MockBean
+    private RecomendadorVagas recomendadorVagas;
+
+    private Long vagaId;
+    private List<Long> candidatos;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (nome, email, senha, role, empresa) VALUES (?, ?, ?, ?, ?)",
+                "Recrutador", "recrutador" + DOMINIO, "senha", "RECRUTADOR", "Empresa");
+        Long recrutadorId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = ?", Long.class, "recrutador" + DOMINIO);
+        jdbcTemplate.update("INSERT INTO vaga (titulo, descricao, status, recrutador_id, data_postagem) "
+                + "VALUES (?, ?, ?, ?, CURRENT_DATE)", "Vaga concorrida", "Descrição", Vaga.STATUS_ABERTA, recrutadorId);
+        vagaId = jdbcTemplate.queryForObject(
+                "SELECT id FROM vaga WHERE recrutador_id = ?", Long.class, recrutadorId);
+
+        List<Object[]> linhas = new ArrayList<>(CANDIDATOS);
+        for (int i = 0; i < CANDIDATOS; i++) {
+            linhas.add(new Object[]{"Candidato " + i, "candidato" + i + DOMINIO, "senha", "CANDIDATO"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (nome, email, senha, role) VALUES (?, ?, ?, ?)", linhas);
+        candidatos = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE role = 'CANDIDATO' AND email LIKE ?", Long.class, "%" + DOMINIO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM inscricoes WHERE vaga_id = ?", vagaId);
+        jdbcTemplate.update("DELETE FROM vaga WHERE id = ?", vagaId);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", "%" + DOMINIO);
+    }
+
+    @Test
+    @DisplayName("Deve registrar exatamente uma inscrição por candidato sob 10 mil tentativas paralelas")
+    void deveRegistrarInscricoesExatasSobConcorrencia() throws Exception {
+        // Given
+        List<Callable<VagaService.ResultadoInscricao>> tentativas = new ArrayList<>();
+        for (int i = 0; i < TENTATIVAS_POR_CANDIDATO; i++) {
+            for (Long candidatoId : candidatos) {
+                tentativas.add(() -> vagaService.inscreverCandidato(vagaId, candidatoId));
+            }
+        }
+        Collections.shuffle(tentativas);
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long inicio = System.nanoTime();
+        List<Future<VagaService.ResultadoInscricao>> futuros;
+        try {
+            futuros = executor.invokeAll(tentativas);
+        } finally {
+            executor.shutdown();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        Map<VagaService.ResultadoInscricao, Integer> resultados = new EnumMap<>(VagaService.ResultadoInscricao.class);
+        for (Future<VagaService.ResultadoInscricao> futuro : futuros) {
+            resultados.merge(futuro.get(), 1, Integer::sum);
+        }
+        double porSegundo = tentativas.size() / segundos;
+        System.out.printf("[estresse] tentativas=%,d tempo=%.2f s vazao=%,.0f inscricoes/s%n",
+                tentativas.size(), segundos, porSegundo);
+
+        contadorInscricoes.descarregar();
+
+        // Then
+        assertThat(candidatos).hasSize(CANDIDATOS);
+        assertThat(inscricaoRepository.countByVagaId(vagaId)).isEqualTo(CANDIDATOS);
+        assertThat(jdbcTemplate.queryForObject("SELECT total_inscricoes FROM vaga WHERE id = ?", Long.class, vagaId))
+                .isEqualTo(CANDIDATOS);
+        assertThat(resultados).containsOnlyKeys(
+                VagaService.ResultadoInscricao.CRIADA, VagaService.ResultadoInscricao.JA_INSCRITO);
+        assertThat(resultados.get(VagaService.ResultadoInscricao.CRIADA)).isEqualTo(CANDIDATOS);
+        assertThat(resultados.get(VagaService.ResultadoInscricao.JA_INSCRITO))
+                .isEqualTo(CANDIDATOS * (TENTATIVAS_POR_CANDIDATO - 1));
+        // Piso folgado: inscrições da mesma vaga não podem ficar serializadas atrás de um lock
+        assertThat(porSegundo).isGreaterThan(100);
+    }
+}
@@ -0,0 +1,152 @@
+package recrutec.recrutec.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import recrutec.recrutec.dto.CandidatoInscritoDTO;
+import recrutec.recrutec.model.Inscricao;
+import recrutec.recrutec.model.InscricaoId;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.StatusInscricao;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.model.Vaga;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do InscricaoRepository.
+ *
+ * Usa o H2 configurado em modo PostgreSQL (sem substituir o datasource) porque a
+ * inscrição é um INSERT ... SELECT ... ON CONFLICT DO NOTHING nativo.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("InscricaoRepository - Testes de Integração")
+class InscricaoRepositoryTest {
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vaga vaga;
+    private User candidato;
+
+    @BeforeEach
+    void setUp() {
+        User recrutador = salvarUsuario("recrutador@empresa.com", Role.RECRUTADOR);
+        candidato = salvarUsuario("candidato@email.com", Role.CANDIDATO);
+
+        vaga = new Vaga();
+        vaga.setTitulo("Desenvolvedor Java");
+        vaga.setStatus(Vaga.STATUS_ABERTA);
+        vaga.setRecrutador(recrutador);
+        vaga = vagaRepository.saveAndFlush(vaga);
+    }
+
+    @Test
+    @DisplayName("Deve criar a inscrição com status e data preenchidos")
+    void deveCriarInscricao() {
+        // When
+        int criadas = inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+
+        // Then
+        assertThat(criadas).isEqualTo(1);
+        Inscricao inscricao = inscricaoRepository.findById(new InscricaoId(vaga.getId(), candidato.getId()))
+                .orElseThrow();
+        assertThat(inscricao.getStatus()).isEqualTo(StatusInscricao.INSCRITO);
+        assertThat(inscricao.getDataInscricao()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Não deve duplicar a inscrição nem lançar erro quando o candidato já está inscrito")
+    void naoDeveDuplicarInscricao() {
+        // Given
+        inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+
+        // When
+        int criadas = inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+
+        // Then
+        assertThat(criadas).isZero();
+        assertThat(inscricaoRepository.countByVagaId(vaga.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve inscrever em vaga que não está aberta")
+    void naoDeveInscreverEmVagaFechada() {
+        // Given
+        vaga.setStatus("Fechada");
+        vagaRepository.saveAndFlush(vaga);
+
+        // When
+        int criadas = inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+
+        // Then
+        assertThat(criadas).isZero();
+        assertThat(inscricaoRepository.countByVagaId(vaga.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os candidatos inscritos por id e remover as inscrições da vaga")
+    void devePaginarERemoverInscricoesDaVaga() {
+        // Given
+        User outro = salvarUsuario("outro@email.com", Role.CANDIDATO);
+        inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+        inscricaoRepository.inscrever(vaga.getId(), outro.getId());
+
+        // When
+        List<CandidatoInscritoDTO> primeira = inscricaoRepository.findPaginaCandidatos(vaga.getId(), 0L, Limit.of(1));
+        List<CandidatoInscritoDTO> segunda = inscricaoRepository.findPaginaCandidatos(
+                vaga.getId(), primeira.get(0).getId(), Limit.of(1));
+        int removidas = inscricaoRepository.deleteByVagaId(vaga.getId());
+
+        // Then
+        assertThat(primeira).singleElement().satisfies(c -> {
+            assertThat(c.getEmail()).isEqualTo("candidato@email.com");
+            assertThat(c.getStatus()).isEqualTo(StatusInscricao.INSCRITO);
+            assertThat(c.getDataInscricao()).isNotNull();
+        });
+        assertThat(segunda).extracting(CandidatoInscritoDTO::getEmail).containsExactly("outro@email.com");
+        assertThat(removidas).isEqualTo(2);
+        assertThat(inscricaoRepository.countByVagaId(vaga.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os candidatos inscritos por stream em ordem de id")
+    void devePercorrerCandidatosPorStream() {
+        // Given
+        User outro = salvarUsuario("outro@email.com", Role.CANDIDATO);
+        inscricaoRepository.inscrever(vaga.getId(), outro.getId());
+        inscricaoRepository.inscrever(vaga.getId(), candidato.getId());
+
+        // When
+        List<String> emails;
+        try (Stream<CandidatoInscritoDTO> candidatos = inscricaoRepository.streamCandidatos(vaga.getId())) {
+            emails = candidatos.map(CandidatoInscritoDTO::getEmail).toList();
+        }
+
+        // Then
+        assertThat(emails).containsExactly("candidato@email.com", "outro@email.com");
+    }
+
+    private User salvarUsuario(String email, Role role) {
+        User user = new User();
+        user.setNome(email);
+        user.setEmail(email);
+        user.setSenha("senha");
+        user.setRole(role);
+        return userRepository.saveAndFlush(user);
+    }
+}
@@ -0,0 +1,129 @@
+package recrutec.recrutec.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.model.Vaga;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da consulta de vagas por recrutador.
+ *
+ * Mede a latência da consulta do painel do recrutador enquanto o total de vagas
+ * da tabela cresce. Com o índice em recrutador_id a latência deve permanecer estável.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@DisplayName("VagaRepository - Benchmark de consultas por recrutador")
+class VagaRepositoryBenchmarkTest {
+
+    private static final int RECRUTADORES = 200;
+    private static final int VAGAS_DO_RECRUTADOR = 50;
+    private static final int TAMANHO_PAGINA = 20;
+    private static final int[] TOTAIS_DE_VAGAS = {1_000, 10_000, 100_000};
+    private static final int AQUECIMENTO = 30;
+    private static final int MEDICOES = 200;
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Latência da consulta por recrutador deve ser estável com o crescimento da tabela")
+    void latenciaDeveSerEstavelComCrescimentoDaTabela() {
+        List<Long> recrutadores = inserirRecrutadores();
+        Long recrutadorAlvo = recrutadores.get(0);
+        List<Long> outrosRecrutadores = recrutadores.subList(1, recrutadores.size());
+
+        inserirVagas(List.of(recrutadorAlvo), VAGAS_DO_RECRUTADOR);
+        int totalInserido = VAGAS_DO_RECRUTADOR;
+
+        Map<Integer, Double> medianas = new LinkedHashMap<>();
+        for (int total : TOTAIS_DE_VAGAS) {
+            inserirVagas(outrosRecrutadores, total - totalInserido);
+            totalInserido = total;
+            medianas.put(total, medirMedianaMs(recrutadorAlvo));
+        }
+
+        medianas.forEach((total, mediana) ->
+                System.out.printf("[benchmark] vagas=%,d mediana=%.3f ms%n", total, mediana));
+
+        double menor = medianas.get(TOTAIS_DE_VAGAS[0]);
+        double maior = medianas.get(TOTAIS_DE_VAGAS[TOTAIS_DE_VAGAS.length - 1]);
+        // 100x mais linhas na tabela não deve multiplicar a latência (margem para ruído de medição)
+        assertThat(maior).isLessThan(menor * 3 + 1.0);
+    }
+
+    private double medirMedianaMs(Long recrutadorId) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            consultar(recrutadorId);
+        }
+
+        double[] amostras = new double[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            List<VagaResumoDTO> pagina = consultar(recrutadorId);
+            amostras[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+            assertThat(pagina).hasSize(TAMANHO_PAGINA);
+        }
+
+        Arrays.sort(amostras);
+        return amostras[MEDICOES / 2];
+    }
+
+    private List<VagaResumoDTO> consultar(Long recrutadorId) {
+        List<VagaResumoDTO> pagina = vagaRepository.findPaginaByRecrutadorIdAndStatus(recrutadorId, Vaga.STATUS_ABERTA,
+                LocalDate.of(9999, 12, 31), Long.MAX_VALUE, Limit.of(TAMANHO_PAGINA));
+        entityManager.clear();
+        return pagina;
+    }
+
+    private List<Long> inserirRecrutadores() {
+        List<Object[]> linhas = new ArrayList<>();
+        for (int i = 0; i < RECRUTADORES; i++) {
+            linhas.add(new Object[]{"Recrutador " + i, "recrutador" + i + "@empresa.com", "senha", "RECRUTADOR", "Empresa " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (nome, email, senha, role, empresa) VALUES (?, ?, ?, ?, ?)", linhas);
+        return jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+    }
+
+    private void inserirVagas(List<Long> recrutadores, int quantidade) {
+        LocalDate hoje = LocalDate.now();
+        List<Object[]> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            String status = i % 3 == 0 ? "Fechada" : Vaga.STATUS_ABERTA;
+            Long recrutador = recrutadores.get(i % recrutadores.size());
+            linhas.add(new Object[]{"Vaga " + i, "Descrição da vaga " + i, status, recrutador,
+                    Date.valueOf(hoje.minusDays(i % 365))});
+        }
+        // Vagas do recrutador alvo ficam sempre abertas para que o total esperado seja fixo
+        if (recrutadores.size() == 1) {
+            linhas.forEach(linha -> linha[2] = Vaga.STATUS_ABERTA);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO vaga (titulo, descricao, status, recrutador_id, data_postagem) VALUES (?, ?, ?, ?, ?)",
+                linhas);
+    }
+}
@@ -0,0 +1,230 @@
+package recrutec.recrutec.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.model.Inscricao;
+import recrutec.recrutec.model.InscricaoId;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.StatusInscricao;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.model.Vaga;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração das consultas paginadas por keyset do VagaRepository
+ */
+@DataJpaTest
+@DisplayName("VagaRepository - Testes de Integração")
+class VagaRepositoryTest {
+
+    private static final LocalDate INICIO = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    private User recrutador;
+
+    @BeforeEach
+    void setUp() {
+        recrutador = new User();
+        recrutador.setNome("Recrutador Silva");
+        recrutador.setEmail("recrutador@empresa.com");
+        recrutador.setSenha("senha");
+        recrutador.setRole(Role.RECRUTADOR);
+        recrutador = userRepository.save(recrutador);
+
+        // Várias vagas na mesma data para exercitar o desempate por id
+        for (int i = 0; i < 7; i++) {
+            salvarVaga("Vaga " + i, i % 2 == 0 ? "Aberta" : "Fechada", LocalDate.of(2024, 5, 10 - i / 3));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as vagas por keyset sem repetir nem pular itens")
+    void devePercorrerTodasAsVagasPorKeyset() {
+        // When
+        List<VagaResumoDTO> percorridas = new ArrayList<>();
+        LocalDate data = INICIO;
+        Long id = Long.MAX_VALUE;
+        List<VagaResumoDTO> pagina;
+        do {
+            pagina = vagaRepository.findPagina(data, id, Limit.of(3));
+            percorridas.addAll(pagina);
+            if (!pagina.isEmpty()) {
+                VagaResumoDTO ultima = pagina.get(pagina.size() - 1);
+                data = ultima.getDataPostagem();
+                id = ultima.getId();
+            }
+        } while (pagina.size() == 3);
+
+        // Then
+        assertThat(percorridas).hasSize(7);
+        assertThat(percorridas).extracting(VagaResumoDTO::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < percorridas.size(); i++) {
+            VagaResumoDTO anterior = percorridas.get(i - 1);
+            VagaResumoDTO atual = percorridas.get(i);
+            assertThat(atual.getDataPostagem()).isBeforeOrEqualTo(anterior.getDataPostagem());
+            if (atual.getDataPostagem().equals(anterior.getDataPostagem())) {
+                assertThat(atual.getId()).isLessThan(anterior.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas vagas com o status informado")
+    void deveListarApenasVagasComStatus() {
+        // When
+        List<VagaResumoDTO> abertas = vagaRepository.findPaginaByStatus("Aberta", INICIO, Long.MAX_VALUE, Limit.of(10));
+
+        // Then
+        assertThat(abertas).hasSize(4).extracting(VagaResumoDTO::getStatus).containsOnly("Aberta");
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas vagas do recrutador informado")
+    void deveListarApenasVagasDoRecrutador() {
+        // Given
+        User outro = new User();
+        outro.setNome("Outro");
+        outro.setEmail("outro@empresa.com");
+        outro.setSenha("senha");
+        outro.setRole(Role.RECRUTADOR);
+        outro = userRepository.save(outro);
+        Vaga vagaDoOutro = new Vaga();
+        vagaDoOutro.setTitulo("Vaga do outro");
+        vagaDoOutro.setStatus("Aberta");
+        vagaDoOutro.setRecrutador(outro);
+        vagaRepository.save(vagaDoOutro);
+
+        // When
+        List<VagaResumoDTO> vagas = vagaRepository.findPaginaByRecrutadorIdAndStatus(
+                recrutador.getId(), "Aberta", INICIO, Long.MAX_VALUE, Limit.of(10));
+
+        // Then
+        assertThat(vagas).hasSize(4)
+                .allSatisfy(vaga -> assertThat(vaga.getRecrutadorId()).isEqualTo(recrutador.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve trazer as versões só da janela da página e refletir a alteração de uma vaga")
+    void deveAlterarVersoesDaPaginaQuandoVagaMuda() {
+        // Given
+        List<VagaRepository.VersaoVaga> antes = vagaRepository.findVersoesPaginaByStatus(
+                "Aberta", INICIO, Long.MAX_VALUE, Limit.of(3));
+        Vaga vaga = vagaRepository.findById(antes.get(0).getId()).orElseThrow();
+
+        // When
+        vaga.setTitulo("Título alterado");
+        vagaRepository.saveAndFlush(vaga);
+        List<VagaRepository.VersaoVaga> depois = vagaRepository.findVersoesPaginaByStatus(
+                "Aberta", INICIO, Long.MAX_VALUE, Limit.of(3));
+
+        // Then: mesmas linhas e ordem da consulta paginada
+        assertThat(depois).extracting(VagaRepository.VersaoVaga::getId)
+                .containsExactlyElementsOf(vagaRepository.findPaginaByStatus("Aberta", INICIO, Long.MAX_VALUE,
+                        Limit.of(3)).stream().map(VagaResumoDTO::getId).toList());
+        assertThat(depois.get(0).getVersao()).isEqualTo(antes.get(0).getVersao() + 1);
+        assertThat(vagaRepository.findVersaoById(vaga.getId()))
+                .hasValueSatisfying(versao -> assertThat(versao.getVersao()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar o total de inscritos e retorná-lo no detalhe e na listagem")
+    void deveRetornarDetalheComTotalDeInscritos() {
+        // Given
+        User candidato = new User();
+        candidato.setNome("Candidato");
+        candidato.setEmail("candidato@email.com");
+        candidato.setSenha("senha");
+        candidato.setRole(Role.CANDIDATO);
+        candidato = userRepository.save(candidato);
+        Vaga vaga = vagaRepository.findPagina(INICIO, Long.MAX_VALUE, Limit.of(1)).stream()
+                .map(resumo -> vagaRepository.findById(resumo.getId()).orElseThrow())
+                .findFirst().orElseThrow();
+        Inscricao inscricao = new Inscricao();
+        inscricao.setId(new InscricaoId(vaga.getId(), candidato.getId()));
+        inscricao.setVaga(vaga);
+        inscricao.setCandidato(candidato);
+        inscricao.setDataInscricao(LocalDateTime.now());
+        inscricao.setStatus(StatusInscricao.INSCRITO);
+        inscricaoRepository.saveAndFlush(inscricao);
+
+        // When
+        int corrigidas = vagaRepository.reconciliarTotaisInscricoes();
+        Optional<VagaDetalheDTO> detalhe = vagaRepository.findDetalheById(vaga.getId());
+        List<VagaResumoDTO> pagina = vagaRepository.findPagina(INICIO, Long.MAX_VALUE, Limit.of(1));
+
+        // Then
+        assertThat(corrigidas).isEqualTo(1);
+        assertThat(vagaRepository.reconciliarTotaisInscricoes()).isZero();
+        assertThat(detalhe).hasValueSatisfying(d -> {
+            assertThat(d.getTotalInscritos()).isEqualTo(1L);
+            assertThat(d.getRecrutadorNome()).isEqualTo("Recrutador Silva");
+            assertThat(d.getRecrutadorEmail()).isEqualTo("recrutador@empresa.com");
+        });
+        assertThat(pagina.get(0).getTotalInscritos()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os resumos das vagas informadas pelo id")
+    void deveCarregarResumosPorId() {
+        // Given
+        List<Long> ids = vagaRepository.findPagina(INICIO, Long.MAX_VALUE, Limit.of(2)).stream()
+                .map(VagaResumoDTO::getId).toList();
+
+        // When
+        List<VagaResumoDTO> resumos = vagaRepository.findResumosByIdIn(ids);
+
+        // Then
+        assertThat(resumos).extracting(VagaResumoDTO::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(resumos).allSatisfy(resumo -> assertThat(resumo.getRecrutadorNome()).isEqualTo("Recrutador Silva"));
+    }
+
+    @Test
+    @DisplayName("Deve ler as habilidades obrigatórias e desejáveis de uma vaga em uma única consulta")
+    void deveLerHabilidadesDaVagaEmUmaConsulta() {
+        // Given
+        Vaga vaga = new Vaga();
+        vaga.setTitulo("Dev Backend");
+        vaga.setStatus(Vaga.STATUS_ABERTA);
+        vaga.setRecrutador(recrutador);
+        vaga.setHabilidadesObrigatorias(List.of("Java", "SQL"));
+        vaga.setHabilidadesDesejaveis(List.of("Docker"));
+        Long id = vagaRepository.saveAndFlush(vaga).getId();
+
+        // When
+        List<VagaRepository.HabilidadeVaga> habilidades = vagaRepository.findHabilidadesById(id);
+
+        // Then
+        assertThat(habilidades).extracting(h -> h.getObrigatoria() + ":" + h.getHabilidade())
+                .containsExactlyInAnyOrder("true:Java", "true:SQL", "false:Docker");
+    }
+
+    private void salvarVaga(String titulo, String status, LocalDate dataPostagem) {
+        Vaga vaga = new Vaga();
+        vaga.setTitulo(titulo);
+        vaga.setStatus(status);
+        vaga.setDataPostagem(dataPostagem);
+        vaga.setRecrutador(recrutador);
+        vagaRepository.save(vaga);
+    }
+}
@@ -0,0 +1,146 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.BuscaSalvaRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Testes unitários para IndiceBuscasSalvas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndiceBuscasSalvas - Testes Unitários")
+class IndiceBuscasSalvasTest {
+
+    @Mock
+    private BuscaSalvaRepository buscaSalvaRepository;
+
+    @Mock
+    private IndiceCandidatos indiceCandidatos;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IndiceBuscasSalvas indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceBuscasSalvas(buscaSalvaRepository, indiceCandidatos,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Deve avaliar todos os critérios da busca, não só a âncora")
+    void deveAvaliarTodosOsCriterios() {
+        // Given
+        indice.adicionar(busca(1L, List.of("Backend"), List.of("Java", "Spring"), true));
+        indice.adicionar(busca(2L, List.of("Backend"), List.of("Kotlin", "Spring"), false));
+        indice.adicionar(busca(3L, List.of("Dados"), List.of(), true));
+
+        // When / Then
+        assertThat(indice.correspondentes(candidato(10L, "Ana", List.of("java", "SPRING"), List.of("backend"))))
+                .containsExactly(1L, 2L);
+        assertThat(indice.correspondentes(candidato(11L, "Bruno", List.of("Java"), List.of("Backend"))))
+                .isEmpty();
+        assertThat(indice.correspondentes(candidato(12L, "Caio", List.of("Spring"), List.of("Dados"))))
+                .containsExactly(3L);
+        assertThat(indice.correspondentes(candidato(13L, "Davi", List.of("Kotlin"), List.of("Análise"))))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ancorar a busca no critério que menos candidatos atendem")
+    void deveAncorarNoCriterioMaisSeletivo() {
+        // Given
+        given(indiceCandidatos.contar(IndiceCandidatos.Campo.AREA_INTERESSE, "backend")).willReturn(5000);
+        given(indiceCandidatos.contar(IndiceCandidatos.Campo.HABILIDADE, "java")).willReturn(3000);
+        given(indiceCandidatos.contar(IndiceCandidatos.Campo.HABILIDADE, "rust")).willReturn(40);
+
+        // When
+        indice.adicionar(busca(1L, List.of("Backend"), List.of("Java", "Rust"), true));
+
+        // Then: só a habilidade mais rara alcança a busca
+        IndiceBuscasSalvas.Predicado predicado = indice.predicadoDa(1L);
+        assertThat(predicado.getCampoAncora()).isEqualTo(IndiceCandidatos.Campo.HABILIDADE);
+        assertThat(predicado.getTermosAncora()).containsExactly("rust");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar buscas por nome pelos prefixos das palavras e esquecer buscas removidas")
+    void deveBuscarPorNomeERemoverBuscas() {
+        // Given
+        BuscaSalva porNome = busca(1L, List.of(), List.of(), true);
+        porNome.setNome("Mar Sil");
+        indice.adicionar(porNome);
+        indice.adicionar(busca(2L, List.of("Backend"), List.of(), true));
+
+        // When
+        List<Long> antes = indice.correspondentes(candidato(10L, "Mariana da Silva", List.of(), List.of("Backend")));
+        indice.remover(2L);
+        List<Long> depois = indice.correspondentes(candidato(10L, "Mariana da Silva", List.of(), List.of("Backend")));
+
+        // Then
+        assertThat(antes).containsExactly(1L, 2L);
+        assertThat(depois).containsExactly(1L);
+        assertThat(indice.correspondentes(candidato(11L, "Marcos Souza", List.of(), List.of()))).isEmpty();
+        assertThat(indice.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve esquecer as buscas de um recrutador removido")
+    void deveEsquecerBuscasDeRecrutadorRemovido() {
+        // Given
+        BuscaSalva doRemovido = busca(1L, List.of("Backend"), List.of(), true);
+        doRemovido.setRecrutador(recrutador(5L));
+        BuscaSalva deOutro = busca(2L, List.of("Backend"), List.of(), true);
+        deOutro.setRecrutador(recrutador(6L));
+        indice.adicionar(doRemovido);
+        indice.adicionar(deOutro);
+
+        // When
+        indice.aoRemoverUsuario(new UsuarioRemovidoEvent(5L));
+
+        // Then
+        assertThat(indice.correspondentes(candidato(10L, "Ana", List.of(), List.of("Backend")))).containsExactly(2L);
+        assertThat(indice.tamanho()).isEqualTo(1);
+    }
+
+    private BuscaSalva busca(Long id, List<String> areas, List<String> habilidades, boolean todasHabilidades) {
+        BuscaSalva busca = new BuscaSalva();
+        busca.setId(id);
+        busca.setAreas(areas);
+        busca.setHabilidades(habilidades);
+        busca.setTodasHabilidades(todasHabilidades);
+        return busca;
+    }
+
+    private User recrutador(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(Role.RECRUTADOR);
+        return user;
+    }
+
+    private User candidato(Long id, String nome, List<String> habilidades, List<String> areas) {
+        User user = new User();
+        user.setId(id);
+        user.setNome(nome);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(habilidades);
+        user.setAreaInteresse(areas);
+        return user;
+    }
+}
@@ -0,0 +1,95 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark do autocompletar de habilidades.
+ *
+ * Indexa 100 mil candidatos com habilidades de um vocabulário de 20 mil termos e mede a
+ * latência das sugestões para prefixos de 1 a 3 letras (os mais amplos são os mais caros).
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("IndiceCandidatos - Benchmark do autocompletar")
+class IndiceCandidatosBenchmarkTest {
+
+    private static final int CANDIDATOS = 100_000;
+    private static final int VOCABULARIO = 20_000;
+    private static final int HABILIDADES_POR_CANDIDATO = 8;
+    private static final int AQUECIMENTO = 2_000;
+    private static final int MEDICOES = 5_000;
+
+    @Test
+    @DisplayName("Sugestões devem sair em menos de um milissegundo")
+    void sugestoesDevemSairEmMenosDeUmMilissegundo() {
+        IndiceCandidatos indice = new IndiceCandidatos(null,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), event -> { });
+        Random random = new Random(11);
+        List<String> vocabulario = new ArrayList<>(VOCABULARIO);
+        for (int i = 0; i < VOCABULARIO; i++) {
+            vocabulario.add(palavra(random));
+        }
+        for (long id = 1; id <= CANDIDATOS; id++) {
+            List<String> habilidades = new ArrayList<>(HABILIDADES_POR_CANDIDATO);
+            for (int i = 0; i < HABILIDADES_POR_CANDIDATO; i++) {
+                double r = random.nextDouble();
+                habilidades.add(vocabulario.get((int) (r * r * VOCABULARIO)));
+            }
+            User user = new User();
+            user.setId(id);
+            user.setRole(Role.CANDIDATO);
+            user.setHabilidades(habilidades);
+            indice.indexar(user);
+        }
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, prefixo(random), 2, 10);
+        }
+        double[] amostras = new double[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            String prefixo = prefixo(random);
+            long inicio = System.nanoTime();
+            indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, prefixo, 2, 10);
+            amostras[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+        }
+
+        Arrays.sort(amostras);
+        double mediana = amostras[MEDICOES / 2];
+        double p99 = amostras[MEDICOES * 99 / 100];
+        System.out.printf("[benchmark] vocabulario=%,d mediana=%.4f ms p99=%.4f ms%n", VOCABULARIO, mediana, p99);
+        assertThat(p99).isLessThan(1.0);
+    }
+
+    private static String prefixo(Random random) {
+        StringBuilder prefixo = new StringBuilder();
+        int tamanho = 1 + random.nextInt(3);
+        for (int i = 0; i < tamanho; i++) {
+            prefixo.append((char) ('a' + random.nextInt(26)));
+        }
+        return prefixo.toString();
+    }
+
+    private static String palavra(Random random) {
+        StringBuilder palavra = new StringBuilder();
+        int tamanho = 4 + random.nextInt(8);
+        for (int i = 0; i < tamanho; i++) {
+            palavra.append((char) ('a' + random.nextInt(26)));
+        }
+        return palavra.toString();
+    }
+}
@@ -0,0 +1,288 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.dto.ContagemFacetaDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.UserRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * Testes unitários para IndiceCandidatos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndiceCandidatos - Testes Unitários")
+class IndiceCandidatosTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private IndiceCandidatos indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceCandidatos(userRepository, new TransactionTemplate(transactionManager), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o índice do banco com termos normalizados")
+    void deveCarregarIndiceDoBanco() {
+        // Given
+        given(userRepository.streamHabilidadesCandidatos()).willReturn(Stream.of(
+                termo(3L, "Java"), termo(1L, " java "), termo(2L, "Python"), termo(3L, "JAVA")));
+        given(userRepository.streamAreasInteresseCandidatos()).willReturn(Stream.of(termo(2L, "Análise de Dados")));
+
+        // When
+        indice.carregar();
+
+        // Then
+        assertThat(indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "JAVA", 0L, 10)).containsExactly(1L, 3L);
+        assertThat(indice.buscar(IndiceCandidatos.Campo.AREA_INTERESSE, "analise  de dados", 0L, 10))
+                .containsExactly(2L);
+        assertThat(indice.contar(IndiceCandidatos.Campo.HABILIDADE, "python")).isEqualTo(1);
+        then(eventPublisher).should().publishEvent(any(IndiceCandidatosCarregadoEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve paginar os ids a partir do cursor")
+    void devePaginarIdsAPartirDoCursor() {
+        // Given
+        for (long id = 1; id <= 10; id++) {
+            indice.indexar(candidato(id, List.of("Java"), List.of()));
+        }
+
+        // When
+        List<Long> primeira = indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "java", 0L, 4);
+        List<Long> segunda = indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "java", 4L, 4);
+        List<Long> ultima = indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "java", 8L, 4);
+
+        // Then
+        assertThat(primeira).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(segunda).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(ultima).containsExactly(9L, 10L);
+    }
+
+    @Test
+    @DisplayName("Deve trocar os termos de um candidato atualizado sem afetar os demais")
+    void deveAtualizarTermosDoCandidato() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Java", "SQL"), List.of("Backend")));
+        indice.indexar(candidato(2L, List.of("SQL"), List.of()));
+        List<Long> antesDaAtualizacao = indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "sql", 0L, 10);
+
+        // When
+        indice.aoSalvarUsuario(new UsuarioSalvoEvent(candidato(1L, List.of("Kotlin"), List.of("Backend"))));
+
+        // Then
+        assertThat(indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "java", 0L, 10)).isEmpty();
+        assertThat(indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "sql", 0L, 10)).containsExactly(2L);
+        assertThat(indice.buscar(IndiceCandidatos.Campo.HABILIDADE, "kotlin", 0L, 10)).containsExactly(1L);
+        assertThat(indice.buscar(IndiceCandidatos.Campo.AREA_INTERESSE, "backend", 0L, 10)).containsExactly(1L);
+        // Resultados já entregues não mudam: cada escrita publica uma cópia do bitmap
+        assertThat(antesDaAtualizacao).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve retirar do índice usuários removidos ou que deixaram de ser candidatos")
+    void deveRetirarUsuariosRemovidosOuSemPapelDeCandidato() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Java"), List.of()));
+        indice.indexar(candidato(2L, List.of("Java"), List.of()));
+        User virouRecrutador = candidato(2L, List.of("Java"), List.of());
+        virouRecrutador.setRole(Role.RECRUTADOR);
+
+        // When
+        indice.aoRemoverUsuario(new UsuarioRemovidoEvent(1L));
+        indice.aoSalvarUsuario(new UsuarioSalvoEvent(virouRecrutador));
+
+        // Then
+        assertThat(indice.contar(IndiceCandidatos.Campo.HABILIDADE, "java")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar os termos de cada campo sobre todos os candidatos quando não há filtro")
+    void deveContarFacetasSemFiltro() {
+        // Given
+        given(userRepository.streamIdsCandidatos()).willReturn(Stream.of(1L, 2L, 3L, 4L));
+        given(userRepository.streamHabilidadesCandidatos()).willReturn(Stream.of(
+                termo(1L, "Java"), termo(2L, "java"), termo(3L, "Python")));
+        given(userRepository.streamPcdCandidatos()).willReturn(Stream.of(termo(2L, "Auditiva")));
+        indice.carregar();
+
+        // When
+        FacetasCandidatosDTO facetas = indice.facetas(Map.of(), 10);
+
+        // Then: o candidato 4 não tem nenhum termo, mas conta no total
+        assertThat(facetas.getTotal()).isEqualTo(4);
+        assertThat(facetas.getFacetas().get("habilidade")).containsExactly(
+                new ContagemFacetaDTO("Java", 2), new ContagemFacetaDTO("Python", 1));
+        assertThat(facetas.getFacetas().get("pcd")).containsExactly(new ContagemFacetaDTO("Auditiva", 1));
+        assertThat(facetas.getFacetas().get("certificado")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve somar termos do mesmo campo, restringir entre campos e limitar os termos por campo")
+    void deveContarFacetasSobreCandidatosFiltrados() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Java", "SQL"), List.of("Backend")));
+        indice.indexar(candidato(2L, List.of("Kotlin", "SQL"), List.of("Backend")));
+        indice.indexar(candidato(3L, List.of("Java", "Docker"), List.of("DevOps")));
+        indice.indexar(candidato(4L, List.of("Python"), List.of("Backend")));
+
+        // When
+        FacetasCandidatosDTO facetas = indice.facetas(Map.of(
+                IndiceCandidatos.Campo.HABILIDADE, List.of("java", "KOTLIN"),
+                IndiceCandidatos.Campo.AREA_INTERESSE, List.of("backend")), 2);
+
+        // Then: candidatos 1 e 2
+        assertThat(facetas.getTotal()).isEqualTo(2);
+        assertThat(facetas.getFacetas().get("habilidade")).containsExactly(
+                new ContagemFacetaDTO("SQL", 2), new ContagemFacetaDTO("Java", 1));
+        assertThat(facetas.getFacetas().get("area")).containsExactly(new ContagemFacetaDTO("Backend", 2));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir termos pelo prefixo, sem acentos, dos mais aos menos frequentes")
+    void deveSugerirTermosPorPrefixo() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Java", "JavaScript", "Jenkins"), List.of()));
+        indice.indexar(candidato(2L, List.of("JavaScript", "Jenkins"), List.of()));
+        indice.indexar(candidato(3L, List.of("JavaScript", "Jira"), List.of()));
+        indice.indexar(candidato(4L, List.of("Java", "Kotlin"), List.of("Gestão")));
+
+        // When / Then
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "JA", 1, 10)).containsExactly(
+                new ContagemFacetaDTO("JavaScript", 3), new ContagemFacetaDTO("Java", 2));
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "j", 2, 2)).extracting(ContagemFacetaDTO::getTermo)
+                .containsExactly("JavaScript", "Java");
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "javascript", 1, 10)).hasSize(1);
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "ko", 1, 10))
+                .containsExactly(new ContagemFacetaDTO("Kotlin", 1));
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.AREA_INTERESSE, "gesta", 1, 10))
+                .containsExactly(new ContagemFacetaDTO("Gestão", 1));
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "z", 1, 10)).isEmpty();
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "  ", 1, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve incluir termos novos e retirar termos sem candidatos das sugestões")
+    void deveAtualizarSugestoesComOsCandidatos() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Rust"), List.of()));
+
+        // When
+        indice.indexar(candidato(2L, List.of("Ruby"), List.of()));
+        indice.aoRemoverUsuario(new UsuarioRemovidoEvent(1L));
+
+        // Then
+        assertThat(indice.sugerir(IndiceCandidatos.Campo.HABILIDADE, "ru", 1, 10))
+                .extracting(ContagemFacetaDTO::getTermo).containsExactly("Ruby");
+    }
+
+    @Test
+    @DisplayName("Deve combinar área, habilidades (todas ou qualquer uma), certificados e PCD")
+    void deveBuscarComCriteriosCombinados() {
+        // Given
+        indice.indexar(candidato(1L, List.of("Java", "Spring"), List.of("Backend")));
+        indice.indexar(candidato(2L, List.of("Java"), List.of("Backend")));
+        indice.indexar(candidato(3L, List.of("Spring", "Java"), List.of("DevOps")));
+        User comCertificado = candidato(4L, List.of("Kotlin"), List.of("Backend"));
+        comCertificado.setCertificados(List.of("AWS Cloud Practitioner"));
+        comCertificado.setPcd("Auditiva");
+        indice.indexar(comCertificado);
+
+        // When / Then
+        assertThat(indice.buscar(filtro(List.of("backend"), List.of("java", "SPRING"), true), 0L, 10))
+                .containsExactly(1L);
+        assertThat(indice.buscar(filtro(List.of("Backend"), List.of("Spring", "Kotlin"), false), 0L, 10))
+                .containsExactly(1L, 4L);
+        assertThat(indice.buscar(filtro(List.of(), List.of("java", "cobol"), true), 0L, 10)).isEmpty();
+        assertThat(indice.buscar(filtro(List.of(), List.of(), true), 1L, 10)).containsExactly(2L, 3L, 4L);
+
+        FiltroCandidatos certificadoEPcd = filtro(List.of(), List.of(), true);
+        certificadoEPcd.setCertificados(List.of("aws cloud practitioner"));
+        certificadoEPcd.setPcd(List.of("auditiva", "visual"));
+        assertThat(indice.buscar(certificadoEPcd, 0L, 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo início das palavras do nome junto com os demais critérios")
+    void deveBuscarPorNomeComOutrosCriterios() {
+        // Given
+        given(userRepository.streamIdsCandidatos()).willReturn(Stream.of(1L, 2L, 3L));
+        given(userRepository.streamHabilidadesCandidatos()).willReturn(Stream.of(
+                termo(1L, "Java"), termo(2L, "Java"), termo(3L, "Python")));
+        given(userRepository.streamNomesCandidatos()).willReturn(Stream.of(
+                termo(1L, "Ana Souza"), termo(2L, "Mariana Soares"), termo(3L, "Ana Paula Silva")));
+        indice.carregar();
+        FiltroCandidatos porNome = filtro(List.of(), List.of(), true);
+
+        // When / Then
+        porNome.setNome("ana");
+        assertThat(indice.buscar(porNome, 0L, 10)).containsExactly(1L, 3L);
+        porNome.setNome("  SO ana ");
+        assertThat(indice.buscar(porNome, 0L, 10)).containsExactly(1L);
+        porNome.setNome("José");
+        assertThat(indice.buscar(porNome, 0L, 10)).isEmpty();
+
+        FiltroCandidatos nomeEHabilidade = filtro(List.of(), List.of("python"), true);
+        nomeEHabilidade.setNome("ana s");
+        assertThat(indice.buscar(nomeEHabilidade, 0L, 10)).containsExactly(3L);
+        // O nome não vira faceta
+        assertThat(indice.facetas(Map.of(), 10).getFacetas()).doesNotContainKey("nome");
+    }
+
+    private User candidato(Long id, List<String> habilidades, List<String> areas) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(habilidades);
+        user.setAreaInteresse(areas);
+        return user;
+    }
+
+    private FiltroCandidatos filtro(List<String> areas, List<String> habilidades, boolean todasHabilidades) {
+        FiltroCandidatos filtro = new FiltroCandidatos();
+        filtro.setAreas(areas);
+        filtro.setHabilidades(habilidades);
+        filtro.setTodasHabilidades(todasHabilidades);
+        return filtro;
+    }
+
+    private UserRepository.TermoCandidato termo(Long id, String termo) {
+        return new UserRepository.TermoCandidato() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTermo() {
+                return termo;
+            }
+        };
+    }
+}
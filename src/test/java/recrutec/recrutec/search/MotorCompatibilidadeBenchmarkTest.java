@@ -0,0 +1,91 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark do ranking de candidatos para uma vaga.
+ *
+ * Carrega 500 mil candidatos com habilidades sorteadas de um vocabulário de 2 mil termos
+ * (alguns muito mais comuns que outros) e mede a latência do top-K para vagas variadas.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("MotorCompatibilidade - Benchmark do ranking de candidatos")
+class MotorCompatibilidadeBenchmarkTest {
+
+    private static final int CANDIDATOS = 500_000;
+    private static final int VOCABULARIO = 2_000;
+    private static final int HABILIDADES_POR_CANDIDATO = 12;
+    private static final int TOP_K = 50;
+    private static final int AQUECIMENTO = 20;
+    private static final int MEDICOES = 100;
+
+    @Test
+    @DisplayName("Top-K de 500 mil candidatos deve ficar bem abaixo de um segundo")
+    void topKDeveFicarAbaixoDeUmSegundo() {
+        MotorCompatibilidade motor = new MotorCompatibilidade(null,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        Random random = new Random(7);
+        long inicioCarga = System.nanoTime();
+        for (long id = 1; id <= CANDIDATOS; id++) {
+            motor.indexar(candidato(id, random));
+        }
+        System.out.printf("[benchmark] carga de %,d candidatos: %d ms%n",
+                CANDIDATOS, (System.nanoTime() - inicioCarga) / 1_000_000);
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            consultar(motor, random);
+        }
+        double[] amostras = new double[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            List<MotorCompatibilidade.Compatibilidade> resultado = consultar(motor, random);
+            amostras[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+            assertThat(resultado).hasSize(TOP_K);
+        }
+
+        Arrays.sort(amostras);
+        double mediana = amostras[MEDICOES / 2];
+        double p99 = amostras[MEDICOES * 99 / 100];
+        System.out.printf("[benchmark] candidatos=%,d mediana=%.2f ms p99=%.2f ms (%d núcleos)%n",
+                CANDIDATOS, mediana, p99, Runtime.getRuntime().availableProcessors());
+        assertThat(p99).isLessThan(250.0);
+    }
+
+    private List<MotorCompatibilidade.Compatibilidade> consultar(MotorCompatibilidade motor, Random random) {
+        return motor.melhores(sortear(random, 5), sortear(random, 5), TOP_K);
+    }
+
+    private User candidato(long id, Random random) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(sortear(random, HABILIDADES_POR_CANDIDATO));
+        return user;
+    }
+
+    // Distribuição enviesada: as habilidades de id baixo são bem mais frequentes
+    private List<String> sortear(Random random, int quantidade) {
+        List<String> habilidades = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            double r = random.nextDouble();
+            habilidades.add("habilidade" + (int) (r * r * VOCABULARIO));
+        }
+        return habilidades;
+    }
+}
@@ -0,0 +1,166 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Testes unitários para MotorCompatibilidade
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MotorCompatibilidade - Testes Unitários")
+class MotorCompatibilidadeTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MotorCompatibilidade motor;
+
+    @BeforeEach
+    void setUp() {
+        motor = new MotorCompatibilidade(userRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os candidatos do banco e pontuar obrigatórias acima das desejáveis")
+    void devePontuarObrigatoriasAcimaDasDesejaveis() {
+        // Given
+        given(userRepository.streamHabilidadesCandidatos()).willReturn(Stream.of(
+                termo(1L, "Java"), termo(1L, "Docker"), termo(1L, "Kubernetes"),
+                termo(2L, "java"), termo(2L, "SQL"),
+                termo(3L, "Docker"),
+                termo(4L, "Python")));
+        motor.carregar();
+
+        // When
+        List<MotorCompatibilidade.Compatibilidade> resultado =
+                motor.melhores(List.of("Java", "SQL", "Go"), List.of("Docker", "Kubernetes", "JAVA"), 10);
+
+        // Then: 2 = 3 + 3; 1 = 3 + 1 + 1; 3 = 1; o candidato 4 não tem nenhuma habilidade da vaga
+        assertThat(resultado).containsExactly(
+                new MotorCompatibilidade.Compatibilidade(2L, 6, 2, 3, 0, 2),
+                new MotorCompatibilidade.Compatibilidade(1L, 5, 1, 3, 2, 2),
+                new MotorCompatibilidade.Compatibilidade(3L, 1, 0, 3, 1, 2));
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo menor id e respeitar o limite")
+    void deveDesempatarPeloMenorId() {
+        // Given
+        for (long id = 10; id >= 1; id--) {
+            motor.indexar(candidato(id, "Java"));
+        }
+
+        // When
+        List<MotorCompatibilidade.Compatibilidade> resultado = motor.melhores(List.of("Java"), List.of(), 3);
+
+        // Then
+        assertThat(resultado).extracting(MotorCompatibilidade.Compatibilidade::getCandidatoId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações, remoções e mudanças de papel")
+    void deveRefletirAtualizacoesERemocoes() {
+        // Given
+        motor.indexar(candidato(1L, "Java"));
+        motor.indexar(candidato(2L, "Java"));
+        motor.indexar(candidato(3L, "Java"));
+        User virouRecrutador = candidato(3L, "Java");
+        virouRecrutador.setRole(Role.RECRUTADOR);
+
+        // When
+        motor.aoSalvarUsuario(new UsuarioSalvoEvent(candidato(1L, "Python")));
+        motor.aoRemoverUsuario(new UsuarioRemovidoEvent(2L));
+        motor.aoSalvarUsuario(new UsuarioSalvoEvent(virouRecrutador));
+        motor.indexar(candidato(4L, "Java"));
+
+        // Then: o candidato 4 reaproveita uma posição liberada
+        assertThat(motor.melhores(List.of("Java"), List.of(), 10))
+                .extracting(MotorCompatibilidade.Compatibilidade::getCandidatoId).containsExactly(4L);
+        assertThat(motor.melhores(List.of("Python"), List.of(), 10))
+                .extracting(MotorCompatibilidade.Compatibilidade::getCandidatoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("A varredura em paralelo deve devolver o mesmo ranking que a avaliação direta")
+    void varreduraParalelaDeveIgualarAvaliacaoDireta() {
+        // Given: candidatos suficientes para várias tarefas e habilidades em várias palavras do bitset
+        Random random = new Random(42);
+        List<User> candidatos = new ArrayList<>();
+        for (long id = 1; id <= MotorCompatibilidade.CANDIDATOS_POR_TAREFA * 3L; id++) {
+            String[] habilidades = new String[1 + random.nextInt(8)];
+            for (int i = 0; i < habilidades.length; i++) {
+                habilidades[i] = "habilidade" + random.nextInt(300);
+            }
+            User candidato = candidato(id, habilidades);
+            candidatos.add(candidato);
+            motor.indexar(candidato);
+        }
+        List<String> obrigatorias = List.of("habilidade3", "habilidade150", "habilidade299");
+        List<String> desejaveis = List.of("habilidade70", "habilidade200");
+
+        // When
+        List<MotorCompatibilidade.Compatibilidade> resultado = motor.melhores(obrigatorias, desejaveis, 50);
+
+        // Then
+        List<long[]> esperado = candidatos.stream()
+                .map(c -> new long[]{c.getId(), pontuar(c, obrigatorias, desejaveis)})
+                .filter(par -> par[1] > 0)
+                .sorted(Comparator.<long[]>comparingLong(par -> -par[1]).thenComparingLong(par -> par[0]))
+                .limit(50)
+                .toList();
+        assertThat(resultado).extracting(MotorCompatibilidade.Compatibilidade::getCandidatoId)
+                .containsExactlyElementsOf(esperado.stream().map(par -> par[0]).toList());
+        assertThat(resultado).extracting(MotorCompatibilidade.Compatibilidade::getPontuacao)
+                .containsExactlyElementsOf(esperado.stream().map(par -> (int) par[1]).toList());
+    }
+
+    private static long pontuar(User candidato, List<String> obrigatorias, List<String> desejaveis) {
+        List<String> habilidades = candidato.getHabilidades().stream().distinct().toList();
+        return habilidades.stream().filter(obrigatorias::contains).count() * MotorCompatibilidade.PESO_OBRIGATORIA
+                + habilidades.stream().filter(desejaveis::contains).count() * MotorCompatibilidade.PESO_DESEJAVEL;
+    }
+
+    private User candidato(Long id, String... habilidades) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(List.of(habilidades));
+        return user;
+    }
+
+    private UserRepository.TermoCandidato termo(Long id, String termo) {
+        return new UserRepository.TermoCandidato() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTermo() {
+                return termo;
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package recrutec.recrutec.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.repository.UserRepository;
+import recrutec.recrutec.repository.VagaRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Testes unitários para RecomendadorVagas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecomendadorVagas - Testes Unitários")
+class RecomendadorVagasTest {
+
+    @Mock
+    private VagaRepository vagaRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IndiceCandidatos indiceCandidatos;
+    private RecomendadorVagas recomendador;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        indiceCandidatos = new IndiceCandidatos(userRepository, transactionTemplate, evento -> { });
+        recomendador = new RecomendadorVagas(vagaRepository, indiceCandidatos, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve ranquear as vagas carregadas por habilidades obrigatórias, desejáveis e áreas no título")
+    void deveRanquearVagasCarregadas() {
+        // Given
+        given(vagaRepository.streamTitulosAbertas()).willReturn(Stream.of(
+                termo(1L, "Desenvolvedor Backend"), termo(2L, "Analista de Dados"), termo(3L, "Designer")));
+        given(vagaRepository.streamHabilidadesObrigatoriasAbertas()).willReturn(Stream.of(
+                termo(1L, "Java"), termo(1L, "SQL"), termo(2L, "sql"), termo(3L, "Figma")));
+        given(vagaRepository.streamHabilidadesDesejaveisAbertas()).willReturn(Stream.of(
+                termo(1L, "Docker"), termo(2L, "Python")));
+        indiceCandidatos.indexar(candidato(10L, List.of("Java", "SQL", "Python"), List.of("Backend")));
+        indiceCandidatos.indexar(candidato(11L, List.of("Python"), List.of("Dados")));
+
+        // When
+        recomendador.carregar();
+
+        // Then: vaga 1 = 3 + 3 + 2 (área no título); vaga 2 = 3 + 1 para o primeiro e 1 + 2 para o segundo
+        assertThat(recomendador.recomendadas(10L, 10)).containsExactly(1L, 2L);
+        assertThat(recomendador.recomendadas(10L, 1)).containsExactly(1L);
+        assertThat(recomendador.recomendadas(11L, 10)).containsExactly(2L);
+        assertThat(recomendador.recomendadas(99L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve encaixar vagas novas e retirar vagas fechadas ou removidas sem recarregar")
+    void deveAtualizarRankingsPorVaga() {
+        // Given
+        indiceCandidatos.indexar(candidato(10L, List.of("Java"), List.of()));
+        indiceCandidatos.indexar(candidato(11L, List.of("Kotlin"), List.of()));
+
+        // When
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(vaga(5L, "Desenvolvedor", Vaga.STATUS_ABERTA, List.of("Java"), List.of())));
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(
+                vaga(6L, "Desenvolvedor", Vaga.STATUS_ABERTA, List.of("Java"), List.of("Kotlin"))));
+
+        // Then: no empate, a vaga mais nova vem primeiro
+        assertThat(recomendador.recomendadas(10L, 10)).containsExactly(6L, 5L);
+        assertThat(recomendador.recomendadas(11L, 10)).containsExactly(6L);
+
+        // When
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(
+                vaga(6L, "Desenvolvedor", "Fechada", List.of("Java"), List.of("Kotlin"))));
+        recomendador.aoRemoverVaga(new VagaRemovidaEvent(5L));
+
+        // Then
+        assertThat(recomendador.recomendadas(10L, 10)).isEmpty();
+        assertThat(recomendador.recomendadas(11L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o ranking quando o candidato edita o perfil ou deixa de ser candidato")
+    void deveRecalcularRankingDoCandidato() {
+        // Given
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(vaga(5L, "Backend", Vaga.STATUS_ABERTA, List.of("Java"), List.of())));
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(vaga(6L, "Mobile", Vaga.STATUS_ABERTA, List.of("Kotlin"), List.of())));
+        User candidato = candidato(10L, List.of("Java"), List.of());
+        recomendador.aoSalvarUsuario(new UsuarioSalvoEvent(candidato));
+        List<Long> antes = recomendador.recomendadas(10L, 10);
+
+        // When
+        candidato.setHabilidades(List.of("Kotlin"));
+        candidato.setAreaInteresse(List.of("Backend"));
+        recomendador.aoSalvarUsuario(new UsuarioSalvoEvent(candidato));
+        List<Long> depois = recomendador.recomendadas(10L, 10);
+        candidato.setRole(Role.RECRUTADOR);
+        recomendador.aoSalvarUsuario(new UsuarioSalvoEvent(candidato));
+
+        // Then
+        assertThat(antes).containsExactly(5L);
+        assertThat(depois).containsExactly(6L, 5L);
+        assertThat(recomendador.recomendadas(10L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar vagas com id acima do intervalo dos rankings sem falhar")
+    void deveIgnorarVagaForaDoIntervalo() {
+        // Given
+        indiceCandidatos.indexar(candidato(10L, List.of("Java"), List.of()));
+        long idGrande = Integer.MAX_VALUE + 1L;
+
+        // When
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(vaga(idGrande, "Backend", Vaga.STATUS_ABERTA, List.of("Java"), List.of())));
+        recomendador.aoSalvarVaga(new VagaSalvaEvent(vaga(5L, "Backend", Vaga.STATUS_ABERTA, List.of("Java"), List.of())));
+
+        // Then
+        assertThat(recomendador.recomendadas(10L, 10)).containsExactly(5L);
+    }
+
+    private Vaga vaga(Long id, String titulo, String status, List<String> obrigatorias, List<String> desejaveis) {
+        Vaga vaga = new Vaga();
+        vaga.setId(id);
+        vaga.setTitulo(titulo);
+        vaga.setStatus(status);
+        vaga.setHabilidadesObrigatorias(obrigatorias);
+        vaga.setHabilidadesDesejaveis(desejaveis);
+        return vaga;
+    }
+
+    private User candidato(Long id, List<String> habilidades, List<String> areas) {
+        User user = new User();
+        user.setId(id);
+        user.setNome("Candidato " + id);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(habilidades);
+        user.setAreaInteresse(areas);
+        return user;
+    }
+
+    private VagaRepository.TermoVaga termo(Long id, String termo) {
+        return new VagaRepository.TermoVaga() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTermo() {
+                return termo;
+            }
+        };
+    }
+}
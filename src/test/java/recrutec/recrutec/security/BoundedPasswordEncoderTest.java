@@ -0,0 +1,99 @@
+package recrutec.recrutec.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import recrutec.recrutec.exception.ServiceOverloadedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para BoundedPasswordEncoder
+ */
+@DisplayName("BoundedPasswordEncoder - Testes Unitários")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve gerar e verificar hashes no pool, registrando espera e execução")
+    void deveGerarEVerificarHashesNoPool() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 1, meterRegistry);
+
+        // Act
+        String hash = encoder.encode("senha123");
+
+        // Assert
+        assertThat(encoder.matches("senha123", hash)).isTrue();
+        assertThat(encoder.matches("outraSenha", hash)).isFalse();
+        assertThat(meterRegistry.get("senhas.hash.espera").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("senhas.hash.execucao").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("senhas.hash.rejeitadas").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora quando o pool e a fila estão ocupados")
+    void deveRecusarComFilaCheia() throws Exception {
+        // Arrange: uma thread e uma vaga na fila, com a primeira operação presa no delegate
+        CountDownLatch liberar = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(bloqueante(liberar), 1, 1, 3, meterRegistry);
+        CompletableFuture<String> emExecucao = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        aguardar(() -> meterRegistry.get("senhas.hash.ativas").gauge().value() == 1);
+        CompletableFuture<String> naFila = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        aguardar(() -> meterRegistry.get("senhas.hash.fila").gauge().value() == 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.matches("c", "hash"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(meterRegistry.get("senhas.hash.rejeitadas").counter().count()).isEqualTo(1);
+
+        // As operações aceitas terminam normalmente quando o pool é liberado
+        liberar.countDown();
+        assertThat(emExecucao.get(5, TimeUnit.SECONDS)).isEqualTo("hash-a");
+        assertThat(naFila.get(5, TimeUnit.SECONDS)).isEqualTo("hash-b");
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("tempo esgotado aguardando o pool").isLessThan(limite);
+            Thread.sleep(10);
+        }
+    }
+
+    private static PasswordEncoder bloqueante(CountDownLatch liberar) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    liberar.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
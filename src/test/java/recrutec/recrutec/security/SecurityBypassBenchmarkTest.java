@@ -0,0 +1,135 @@
+package recrutec.recrutec.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import recrutec.recrutec.controller.VagaController;
+import recrutec.recrutec.security.jwt.JwtAuthenticationEntryPoint;
+import recrutec.recrutec.security.jwt.VerifiedTokenCache;
+import recrutec.recrutec.service.UserService;
+import recrutec.recrutec.service.VagaPublicaCache;
+import recrutec.recrutec.service.VagaService;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmark dos atalhos da cadeia de segurança (security.bypass.enabled).
+ *
+ * Mede o custo por requisição de um recurso estático e de uma listagem pública de vagas
+ * sem token, comparando a cadeia completa (como ficava antes, e como fica com o atalho
+ * desabilitado) com a configuração atual: estáticos ignorados pelo Spring Security e
+ * endpoints públicos sem token na cadeia enxuta.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@WebMvcTest(controllers = VagaController.class)
+// O slice @WebMvcTest não configura métricas; o SimpleMeterRegistry atende o PasswordEncoder do SecurityConfig
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, SimpleMeterRegistry.class})
+@DisplayName("SecurityConfig - Benchmark dos atalhos para estáticos e endpoints públicos")
+class SecurityBypassBenchmarkTest {
+
+    private static final int AQUECIMENTO = 5_000;
+    private static final int LOTES = 10;
+    private static final int REQUISICOES_POR_LOTE = 2_000;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private FilterChainProxy springSecurityFilterChain;
+
+    @Autowired
+    @Qualifier("securityFilterChain")
+    private SecurityFilterChain cadeiaPrincipal;
+
+    @MockBean
+    private VagaService vagaService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    @DisplayName("Estáticos e endpoints públicos sem token devem custar menos com os atalhos")
+    void atalhosDevemReduzirCustoPorRequisicao() throws Exception {
+        given(vagaService.listarVagasAbertasPublicas(any(), anyInt()))
+                .willReturn(new VagaPublicaCache.Resposta("[]".getBytes(), "\"0\""));
+
+        // Sem os atalhos: só a cadeia principal, para todas as requisições
+        MockMvc cadeiaCompleta = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new FilterChainProxy(cadeiaPrincipal))
+                .build();
+        MockMvc comAtalhos = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(springSecurityFilterChain)
+                .build();
+
+        double[] estatico = comparar(cadeiaCompleta, comAtalhos, "/js/script.js");
+        double[] publico = comparar(cadeiaCompleta, comAtalhos, "/api/vagas/public");
+
+        System.out.printf("[benchmark] /js/script.js: cadeia completa=%.2f us com atalho=%.2f us (%.1fx)%n",
+                estatico[0], estatico[1], estatico[0] / estatico[1]);
+        System.out.printf("[benchmark] /api/vagas/public: cadeia completa=%.2f us com atalho=%.2f us (%.1fx)%n",
+                publico[0], publico[1], publico[0] / publico[1]);
+        assertThat(estatico[1]).isLessThan(estatico[0]);
+        assertThat(publico[1]).isLessThan(publico[0]);
+    }
+
+    // Mediana do custo por requisição (em microssegundos) de cada configuração, em lotes intercalados
+    private double[] comparar(MockMvc antes, MockMvc depois, String caminho) throws Exception {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            requisitar(antes, caminho);
+            requisitar(depois, caminho);
+        }
+
+        double[] amostrasAntes = new double[LOTES];
+        double[] amostrasDepois = new double[LOTES];
+        for (int lote = 0; lote < LOTES; lote++) {
+            amostrasAntes[lote] = medir(antes, caminho);
+            amostrasDepois[lote] = medir(depois, caminho);
+        }
+        return new double[]{mediana(amostrasAntes), mediana(amostrasDepois)};
+    }
+
+    private double medir(MockMvc mockMvc, String caminho) throws Exception {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < REQUISICOES_POR_LOTE; i++) {
+            requisitar(mockMvc, caminho);
+        }
+        return (System.nanoTime() - inicio) / (double) REQUISICOES_POR_LOTE / 1_000;
+    }
+
+    private static void requisitar(MockMvc mockMvc, String caminho) throws Exception {
+        mockMvc.perform(get(caminho)).andExpect(status().isOk());
+    }
+
+    private static double mediana(double[] amostras) {
+        double[] ordenadas = amostras.clone();
+        Arrays.sort(ordenadas);
+        return ordenadas[ordenadas.length / 2];
+    }
+}
@@ -0,0 +1,64 @@
+package recrutec.recrutec.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import recrutec.recrutec.controller.VagaController;
+import recrutec.recrutec.security.jwt.JwtAuthenticationEntryPoint;
+import recrutec.recrutec.security.jwt.VerifiedTokenCache;
+import recrutec.recrutec.service.UserService;
+import recrutec.recrutec.service.VagaService;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Headers de segurança com os atalhos da cadeia (security.bypass.enabled) ligados
+ */
+@WebMvcTest(controllers = VagaController.class)
+// O slice @WebMvcTest não configura métricas; o SimpleMeterRegistry atende o PasswordEncoder do SecurityConfig
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, SimpleMeterRegistry.class})
+@DisplayName("SecurityConfig - Headers de segurança")
+class SecurityHeadersTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VagaService vagaService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Test
+    @DisplayName("Páginas HTML devem ser públicas e receber os headers de segurança")
+    void paginasHtmlDevemReceberHeadersDeSeguranca() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/gerenciar.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string("X-Frame-Options", "DENY"));
+    }
+
+    @Test
+    @DisplayName("Arquivos JavaScript devem ser servidos sem passar pelo Spring Security")
+    void arquivosJavaScriptDevemIgnorarSpringSecurity() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/js/script.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Frame-Options"));
+    }
+}
@@ -0,0 +1,76 @@
+package recrutec.recrutec.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários para JwtAuthenticationFilter
+ */
+@DisplayName("JwtAuthenticationFilter - Testes Unitários")
+class JwtAuthenticationFilterTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+
+    @Test
+    @DisplayName("Deve pular recursos estáticos, páginas HTML e endpoints públicos chamados sem token")
+    void devePularCaminhosPublicosSemToken() throws Exception {
+        // Arrange
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifiedTokenCache, true);
+
+        // Act & Assert
+        assertThat(filter.shouldNotFilter(request("/js/script.js", "Bearer abc"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/gerenciar.html", null))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/swagger-ui/index.html", null))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/api/vagas/public", null))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/api/public/termos/habilidades", null))).isTrue();
+
+        assertThat(filter.shouldNotFilter(request("/api/vagas/public/10", "Bearer abc"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/vagas", null))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/auth/me", null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token em endpoints públicos quando ele é enviado")
+    void deveVerificarTokenEmEndpointPublicoComToken() throws Exception {
+        // Arrange
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifiedTokenCache, true);
+
+        // Act
+        filter.doFilter(request("/api/vagas/public", null), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("/api/vagas/public", "Bearer abc"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verify(verifiedTokenCache, times(1)).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("Não deve pular nenhum caminho com o atalho desabilitado")
+    void naoDevePularComAtalhoDesabilitado() throws Exception {
+        // Arrange
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifiedTokenCache, false);
+
+        // Act & Assert
+        assertThat(filter.shouldNotFilter(request("/js/script.js", "Bearer abc"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/vagas/public", null))).isFalse();
+        verify(verifiedTokenCache, never()).verify(anyString());
+    }
+
+    private static MockHttpServletRequest request(String path, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
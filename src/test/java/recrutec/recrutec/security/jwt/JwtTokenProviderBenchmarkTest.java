@@ -0,0 +1,94 @@
+package recrutec.recrutec.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da verificação de tokens feita pelo JwtAuthenticationFilter a cada requisição.
+ *
+ * Compara o caminho antigo (validateToken, isAccessToken, getUsernameFromToken e
+ * getRolesFromToken: quatro parses e quatro verificações de HMAC) com uma única chamada
+ * a verifyToken, medindo o custo médio por requisição em lotes.
+ *
+ * Executar com: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("JwtTokenProvider - Benchmark da verificação por requisição")
+class JwtTokenProviderBenchmarkTest {
+
+    private static final int AQUECIMENTO = 20_000;
+    private static final int LOTES = 20;
+    private static final int REQUISICOES_POR_LOTE = 5_000;
+
+    // Evita que o JIT descarte o trabalho medido
+    private long consumidor;
+
+    @Test
+    @DisplayName("Uma verificação por requisição deve custar menos da metade das quatro anteriores")
+    void verificacaoUnicaDeveCustarMenosDaMetade() {
+        JwtTokenProvider provider = new JwtTokenProvider("testSecretKeyForJWTToken2024!@#$%^&*()_+", 3_600_000, 86_400_000);
+        UserDetails usuario = User.builder()
+                .username("candidato@email.com")
+                .password("senha")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_CANDIDATO")))
+                .build();
+        String token = provider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities()));
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            quatroVerificacoes(provider, token);
+            umaVerificacao(provider, token);
+        }
+
+        double[] antes = new double[LOTES];
+        double[] depois = new double[LOTES];
+        for (int lote = 0; lote < LOTES; lote++) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < REQUISICOES_POR_LOTE; i++) {
+                quatroVerificacoes(provider, token);
+            }
+            antes[lote] = (System.nanoTime() - inicio) / (double) REQUISICOES_POR_LOTE / 1_000;
+
+            inicio = System.nanoTime();
+            for (int i = 0; i < REQUISICOES_POR_LOTE; i++) {
+                umaVerificacao(provider, token);
+            }
+            depois[lote] = (System.nanoTime() - inicio) / (double) REQUISICOES_POR_LOTE / 1_000;
+        }
+
+        double medianaAntes = mediana(antes);
+        double medianaDepois = mediana(depois);
+        System.out.printf("[benchmark] por requisição: quatro verificações=%.2f us uma verificação=%.2f us (%.1fx)%n",
+                medianaAntes, medianaDepois, medianaAntes / medianaDepois);
+        assertThat(consumidor).isPositive();
+        assertThat(medianaDepois).isLessThan(medianaAntes / 2);
+    }
+
+    private void quatroVerificacoes(JwtTokenProvider provider, String token) {
+        if (provider.validateToken(token) && provider.isAccessToken(token)) {
+            consumidor += provider.getUsernameFromToken(token).length() + provider.getRolesFromToken(token).length();
+        }
+    }
+
+    private void umaVerificacao(JwtTokenProvider provider, String token) {
+        provider.verifyToken(token)
+                .filter(JwtToken::isAccessToken)
+                .ifPresent(verificado -> consumidor += verificado.getUsername().length() + verificado.getRoles().size());
+    }
+
+    private static double mediana(double[] amostras) {
+        double[] ordenadas = amostras.clone();
+        Arrays.sort(ordenadas);
+        return ordenadas[ordenadas.length / 2];
+    }
+}
@@ -9,7 +9,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -123,6 +126,41 @@ class JwtTokenProviderTest {
         assertTrue(roles.contains("ROLE_USER"));
     }
 
+    @Test
+    @DisplayName("Deve verificar o token uma vez e expor todas as claims usadas")
+    void shouldVerifyTokenIntoImmutableView() {
+        // Arrange
+        UserDetails userDetails = User.builder()
+                .username("test@example.com")
+                .password("password")
+                .authorities(Arrays.asList(
+                        new SimpleGrantedAuthority("ROLE_CANDIDATO"),
+                        new SimpleGrantedAuthority("ROLE_USER")
+                ))
+                .build();
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        String refreshToken = jwtTokenProvider.generateRefreshToken("test@example.com");
+        String otherKeyToken = new JwtTokenProvider("outraChaveSecretaParaTokensJWT2024!@#$%^&*", testExpiration,
+                testRefreshExpiration).generateRefreshToken("test@example.com");
+
+        // Act
+        Optional<JwtToken> access = jwtTokenProvider.verifyToken(accessToken);
+        Optional<JwtToken> refresh = jwtTokenProvider.verifyToken(refreshToken);
+
+        // Assert
+        assertTrue(access.isPresent());
+        assertEquals("test@example.com", access.get().getUsername());
+        assertEquals(List.of("ROLE_CANDIDATO", "ROLE_USER"), access.get().getRoles());
+        assertEquals(JwtToken.Type.ACCESS, access.get().getType());
+        assertTrue(access.get().getExpiration().isAfter(Instant.now()));
+        assertTrue(refresh.isPresent());
+        assertTrue(refresh.get().isRefreshToken());
+        assertEquals(List.of(), refresh.get().getRoles());
+        assertTrue(jwtTokenProvider.verifyToken(otherKeyToken).isEmpty());
+        assertTrue(jwtTokenProvider.verifyToken("invalid.jwt.token").isEmpty());
+    }
+
     @Test
     @DisplayName("Deve rejeitar token inválido")
     void shouldRejectInvalidToken() {
@@ -0,0 +1,165 @@
+package recrutec.recrutec.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para VerifiedTokenCache
+ */
+@DisplayName("VerifiedTokenCache - Testes Unitários")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "testSecretKeyForJWTToken2024!@#$%^&*()_+";
+
+    private ContadorVerificacoes provider;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        provider = new ContadorVerificacoes();
+        cache = new VerifiedTokenCache(provider, true, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o principal de um access token já verificado sem verificá-lo de novo")
+    void deveReaproveitarTokenVerificado() {
+        // Arrange
+        String token = accessToken(provider);
+
+        // Act
+        Optional<VerifiedTokenCache.VerifiedToken> primeira = cache.verify(token);
+        Optional<VerifiedTokenCache.VerifiedToken> segunda = cache.verify(token);
+
+        // Assert
+        assertThat(primeira).isPresent();
+        assertThat(segunda.get()).isSameAs(primeira.get());
+        assertThat(segunda.get().getPrincipal().getUsername()).isEqualTo("candidato@email.com");
+        assertThat(segunda.get().getPrincipal().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_CANDIDATO");
+        assertThat(provider.verificacoes(token)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar tokens inválidos nem refresh tokens")
+    void naoDeveGuardarTokensInvalidosNemRefresh() {
+        // Arrange
+        String refreshToken = provider.generateRefreshToken("candidato@email.com");
+        String outraChave = accessToken(new JwtTokenProvider("outraChaveSecretaParaTokensJWT2024!@#$%^&*", 3_600_000,
+                86_400_000));
+
+        // Act
+        Optional<VerifiedTokenCache.VerifiedToken> refresh = cache.verify(refreshToken);
+        cache.verify(refreshToken);
+        Optional<VerifiedTokenCache.VerifiedToken> invalido = cache.verify(outraChave);
+
+        // Assert
+        assertThat(refresh).isPresent();
+        assertThat(refresh.get().getToken().isRefreshToken()).isTrue();
+        assertThat(invalido).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(provider.verificacoes(refreshToken)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada quando o token expira")
+    void deveExpirarJuntoComOToken() {
+        // Arrange: token de 1 hora, com o tempo do cache controlado pelo teste
+        RelogioFalso relogio = new RelogioFalso();
+        VerifiedTokenCache cacheComRelogio = new VerifiedTokenCache(provider, true, 100, new SimpleMeterRegistry(),
+                relogio, relogio);
+        String token = accessToken(provider);
+        assertThat(cacheComRelogio.verify(token)).isPresent();
+
+        // Act & Assert: ainda dentro da validade, o token vem do cache
+        relogio.avancar(Duration.ofMinutes(59));
+        assertThat(cacheComRelogio.verify(token)).isPresent();
+        assertThat(provider.verificacoes(token)).isEqualTo(1);
+
+        // Depois do exp, a entrada some e o token é verificado de novo
+        relogio.avancar(Duration.ofMinutes(2));
+        cacheComRelogio.verify(token);
+        assertThat(provider.verificacoes(token)).isEqualTo(2);
+    }
+
+    private static String accessToken(JwtTokenProvider provider) {
+        UserDetails usuario = User.builder()
+                .username("candidato@email.com")
+                .password("senha")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_CANDIDATO")))
+                .build();
+        return provider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities()));
+    }
+
+    // Provider real que conta quantas vezes cada token foi verificado
+    private static class ContadorVerificacoes extends JwtTokenProvider {
+
+        private final Map<String, Integer> verificacoes = new ConcurrentHashMap<>();
+
+        ContadorVerificacoes() {
+            super(SECRET, 3_600_000, 86_400_000);
+        }
+
+        @Override
+        public Optional<JwtToken> verifyToken(String token) {
+            verificacoes.merge(token, 1, Integer::sum);
+            return super.verifyToken(token);
+        }
+
+        int verificacoes(String token) {
+            return verificacoes.getOrDefault(token, 0);
+        }
+    }
+
+    // Relógio e ticker do Caffeine que só andam quando o teste manda
+    private static class RelogioFalso extends Clock implements Ticker {
+
+        private final Instant inicio = Instant.now();
+        private final AtomicLong decorrido = new AtomicLong();
+
+        void avancar(Duration duracao) {
+            decorrido.addAndGet(duracao.toNanos());
+        }
+
+        @Override
+        public long read() {
+            return decorrido.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return inicio.plusNanos(decorrido.get());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
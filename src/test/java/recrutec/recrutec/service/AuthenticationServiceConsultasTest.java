@@ -0,0 +1,132 @@
+package recrutec.recrutec.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import recrutec.recrutec.dto.AuthResponseDTO;
+import recrutec.recrutec.dto.LoginRequestDTO;
+import recrutec.recrutec.dto.RefreshTokenRequestDTO;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.security.CustomUserDetailsService;
+import recrutec.recrutec.security.jwt.JwtTokenProvider;
+import recrutec.recrutec.service.impl.UserServiceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta as consultas ao banco feitas pelo login e pela renovação de token.
+ *
+ * O usuário carregado pelo CustomUserDetailsService (dentro do AuthenticationManager ou
+ * na renovação) já basta para montar a resposta: cada fluxo deve custar uma única consulta.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AuthenticationService.class, CustomUserDetailsService.class, UserServiceImpl.class,
+        AuthenticationServiceConsultasTest.Configuracao.class})
+@DisplayName("AuthenticationService - Consultas ao banco")
+class AuthenticationServiceConsultasTest {
+
+    private static final String EMAIL = "candidato@consultas.com";
+    private static final String SENHA = "senha123";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private IndiceCandidatos indiceCandidatos;
+
+    @MockBean
+    private BuscaCandidatosCache buscaCandidatosCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (nome, email, senha, role) VALUES (?, ?, ?, ?)",
+                "Candidato", EMAIL, passwordEncoder.encode(SENHA), "CANDIDATO");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Login deve fazer uma única consulta ao banco")
+    void loginDeveFazerUmaConsulta() {
+        // Given
+        LoginRequestDTO loginRequest = new LoginRequestDTO();
+        loginRequest.setEmail(EMAIL);
+        loginRequest.setSenha(SENHA);
+
+        // When
+        AuthResponseDTO response = authenticationService.authenticate(loginRequest);
+
+        // Then
+        assertThat(response.getUser().getEmail()).isEqualTo(EMAIL);
+        assertThat(response.getUser().getRole()).isEqualTo("CANDIDATO");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Renovação de token deve fazer uma única consulta ao banco")
+    void renovacaoDeveFazerUmaConsulta() {
+        // Given
+        RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO();
+        refreshRequest.setRefreshToken(jwtTokenProvider.generateRefreshToken(EMAIL));
+
+        // When
+        AuthResponseDTO response = authenticationService.refreshToken(refreshRequest);
+
+        // Then
+        assertThat(response.getUser().getEmail()).isEqualTo(EMAIL);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            // Custo mínimo: o teste mede consultas, não o hashing
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider("testSecretKeyForJWTToken2024!@#$%^&*()_+", 3_600_000, 86_400_000);
+        }
+
+        @Bean
+        AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+            DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+            authProvider.setUserDetailsService(userDetailsService);
+            authProvider.setPasswordEncoder(passwordEncoder);
+            return new ProviderManager(authProvider);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,8 +17,10 @@ import recrutec.recrutec.dto.AuthResponseDTO;
 import recrutec.recrutec.dto.LoginRequestDTO;
 import recrutec.recrutec.dto.RefreshTokenRequestDTO;
 import recrutec.recrutec.exception.ResourceNotFoundException;
+import recrutec.recrutec.exception.ServiceOverloadedException;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
+import recrutec.recrutec.security.CustomUserDetailsService;
 import recrutec.recrutec.security.jwt.JwtTokenProvider;
 
 import java.util.Optional;
@@ -106,6 +109,26 @@ class AuthenticationServiceTest {
         then(userService).should().findByEmail("usuario@email.com");
     }
 
+    @Test
+    @DisplayName("Deve montar os dados do usuário a partir do principal autenticado, sem nova consulta")
+    void deveUsarPrincipalAutenticadoNoLogin() {
+        // Given
+        given(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .willReturn(authentication);
+        given(authentication.getPrincipal()).willReturn(new CustomUserDetailsService.CustomUserPrincipal(mockUser));
+        given(jwtTokenProvider.generateAccessToken(authentication)).willReturn("access-token");
+        given(jwtTokenProvider.generateRefreshToken("usuario@email.com")).willReturn("refresh-token");
+
+        // When
+        AuthResponseDTO response = authenticationService.authenticate(loginRequest);
+
+        // Then
+        assertThat(response.getUser().getId()).isEqualTo(1L);
+        assertThat(response.getUser().getNome()).isEqualTo("João Silva");
+        assertThat(response.getUser().getRole()).isEqualTo("CANDIDATO");
+        then(userService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("Deve lançar BadCredentialsException para credenciais inválidas")
     void deveLancarBadCredentialsExceptionParaCredenciaisInvalidas() {
@@ -139,6 +162,43 @@ class AuthenticationServiceTest {
         then(userService).should().findByEmail("usuario@email.com");
     }
 
+    @Test
+    @DisplayName("Deve repassar a recusa por sobrecarga em vez de tratá-la como credencial inválida")
+    void deveRepassarRecusaPorSobrecarga() {
+        // Given: usuário inexistente, o Spring embrulha a recusa da verificação de senha
+        ServiceOverloadedException sobrecarga = new ServiceOverloadedException("Servidor ocupado", 1);
+        given(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .willThrow(new InternalAuthenticationServiceException(sobrecarga.getMessage(), sobrecarga));
+
+        // When & Then
+        assertThatThrownBy(() -> authenticationService.authenticate(loginRequest))
+                .isSameAs(sobrecarga);
+
+        then(jwtTokenProvider).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Deve renovar token usando o usuário carregado pelo UserDetailsService, sem nova consulta")
+    void deveUsarPrincipalCarregadoNaRenovacao() {
+        // Given
+        String username = "usuario@email.com";
+        given(jwtTokenProvider.validateToken(refreshRequest.getRefreshToken())).willReturn(true);
+        given(jwtTokenProvider.isRefreshToken(refreshRequest.getRefreshToken())).willReturn(true);
+        given(jwtTokenProvider.getUsernameFromToken(refreshRequest.getRefreshToken())).willReturn(username);
+        given(userDetailsService.loadUserByUsername(username))
+                .willReturn(new CustomUserDetailsService.CustomUserPrincipal(mockUser));
+        given(jwtTokenProvider.generateAccessToken(any(Authentication.class))).willReturn("new-access-token");
+        given(jwtTokenProvider.generateRefreshToken(username)).willReturn("new-refresh-token");
+
+        // When
+        AuthResponseDTO response = authenticationService.refreshToken(refreshRequest);
+
+        // Then
+        assertThat(response.getUser().getId()).isEqualTo(1L);
+        assertThat(response.getUser().getEmail()).isEqualTo(username);
+        then(userService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("Deve renovar token com sucesso")
     void deveRenovarTokenComSucesso() {
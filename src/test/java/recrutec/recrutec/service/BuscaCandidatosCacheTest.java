@@ -0,0 +1,106 @@
+package recrutec.recrutec.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.search.UsuarioRemovidoEvent;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para BuscaCandidatosCache
+ */
+@DisplayName("BuscaCandidatosCache - Testes Unitários")
+class BuscaCandidatosCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BuscaCandidatosCache cache;
+    private AtomicInteger consultas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BuscaCandidatosCache(100, 300, meterRegistry);
+        consultas = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar a entrada entre critérios equivalentes depois de normalizados")
+    void deveNormalizarCriterios() {
+        // Given
+        FiltroCandidatos filtro = new FiltroCandidatos(List.of("Backend"), List.of("Spring", "Java"), true,
+                List.of(), List.of(), null);
+        FiltroCandidatos equivalente = new FiltroCandidatos(List.of(" BACKEND "), List.of("java", "Spring", "JAVA"),
+                true, List.of(), List.of(), null);
+
+        // When
+        buscar(BuscaCandidatosCache.Chave.de(filtro, 0L, 20), 1L, 2L);
+        buscar(BuscaCandidatosCache.Chave.de(equivalente, 0L, 20), 1L, 2L);
+        buscar(BuscaCandidatosCache.Chave.de(IndiceCandidatos.Campo.HABILIDADE, "Análise", 0L, 20), 1L);
+        buscar(BuscaCandidatosCache.Chave.de(IndiceCandidatos.Campo.HABILIDADE, "analise", 0L, 20), 1L);
+
+        // Then
+        assertThat(consultas).hasValue(2);
+        assertThat(meterRegistry.get("candidatos.busca.cache.taxa.acerto").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "candidatos.busca")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar só as páginas que contêm o candidato ou que ele passaria a integrar")
+    void deveInvalidarSelecionandoPaginas() {
+        // Given: páginas de 2 candidatos (a consulta traz um id a mais)
+        BuscaCandidatosCache.Chave javaInicio = BuscaCandidatosCache.Chave.de(IndiceCandidatos.Campo.HABILIDADE, "Java", 0L, 2);
+        BuscaCandidatosCache.Chave javaFim = BuscaCandidatosCache.Chave.de(IndiceCandidatos.Campo.HABILIDADE, "Java", 5L, 2);
+        BuscaCandidatosCache.Chave python = BuscaCandidatosCache.Chave.de(IndiceCandidatos.Campo.HABILIDADE, "Python", 0L, 2);
+        buscar(javaInicio, 1L, 5L, 8L);
+        buscar(javaFim, 8L);
+        buscar(python, 3L, 4L);
+
+        // When: um candidato com Java de id alto entra só na última página de Java
+        cache.aoSalvarUsuario(new UsuarioSalvoEvent(candidato(20L, List.of("Java"))));
+
+        // Then
+        assertThat(buscar(javaInicio, 1L, 5L, 8L)).isEqualTo(0);
+        assertThat(buscar(javaFim, 8L, 20L)).isEqualTo(1);
+        assertThat(buscar(python, 3L, 4L)).isEqualTo(0);
+
+        // When: o candidato 4 edita o perfil e o candidato 8 é removido
+        cache.aoSalvarUsuario(new UsuarioSalvoEvent(candidato(4L, List.of("Kotlin"))));
+        cache.aoRemoverUsuario(new UsuarioRemovidoEvent(8L));
+
+        // Then
+        assertThat(buscar(python, 3L)).isEqualTo(1);
+        assertThat(buscar(javaInicio, 1L, 5L)).isEqualTo(1);
+        assertThat(meterRegistry.get("candidatos.busca.cache.invalidacoes").counter().count()).isEqualTo(4.0);
+    }
+
+    // Busca a página e devolve quantas consultas foram feitas nela (0 se veio do cache)
+    private int buscar(BuscaCandidatosCache.Chave chave, Long... ids) {
+        int antes = consultas.get();
+        List<Long> encontrados = cache.idsDaPagina(chave, () -> {
+            consultas.incrementAndGet();
+            return List.of(ids);
+        });
+        assertThat(encontrados).containsExactly(ids);
+        return consultas.get() - antes;
+    }
+
+    private User candidato(Long id, List<String> habilidades) {
+        User user = new User();
+        user.setId(id);
+        user.setNome("Candidato " + id);
+        user.setRole(Role.CANDIDATO);
+        user.setHabilidades(habilidades);
+        return user;
+    }
+}
@@ -0,0 +1,143 @@
+package recrutec.recrutec.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.exception.InvalidDataException;
+import recrutec.recrutec.exception.ResourceNotFoundException;
+import recrutec.recrutec.model.BuscaSalva;
+import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.User;
+import recrutec.recrutec.repository.AlertaBuscaRepository;
+import recrutec.recrutec.repository.BuscaSalvaRepository;
+import recrutec.recrutec.search.IndiceBuscasSalvas;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * Testes unitários para BuscaSalvaService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscaSalvaService - Testes Unitários")
+class BuscaSalvaServiceTest {
+
+    @Mock
+    private BuscaSalvaRepository buscaSalvaRepository;
+
+    @Mock
+    private AlertaBuscaRepository alertaBuscaRepository;
+
+    @Mock
+    private IndiceBuscasSalvas indiceBuscasSalvas;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BuscaSalvaService buscaSalvaService;
+
+    @BeforeEach
+    void setUp() {
+        buscaSalvaService = new BuscaSalvaService(buscaSalvaRepository, alertaBuscaRepository, indiceBuscasSalvas,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Deve salvar a busca para o recrutador e incluí-la no índice")
+    void deveSalvarBuscaEIndexar() {
+        // Given
+        User recrutador = usuario(5L, Role.RECRUTADOR);
+        BuscaSalva busca = new BuscaSalva();
+        busca.setId(99L);
+        busca.setHabilidades(List.of("Java"));
+        given(buscaSalvaRepository.save(busca)).willAnswer(invocacao -> {
+            busca.setId(1L);
+            return busca;
+        });
+
+        // When
+        BuscaSalva salva = buscaSalvaService.salvar(busca, recrutador);
+
+        // Then
+        assertThat(salva.getId()).isEqualTo(1L);
+        assertThat(salva.getRecrutador()).isSameAs(recrutador);
+        then(indiceBuscasSalvas).should().adicionar(salva);
+    }
+
+    @Test
+    @DisplayName("Deve recusar buscas sem nenhum critério e remoção de buscas de outro recrutador")
+    void deveRecusarBuscaSemCriteriosOuDeOutroRecrutador() {
+        // Given
+        BuscaSalva vazia = new BuscaSalva();
+        vazia.setHabilidades(List.of("  "));
+        vazia.setNome(" ");
+        given(buscaSalvaRepository.findByIdAndRecrutadorId(1L, 5L)).willReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> buscaSalvaService.salvar(vazia, usuario(5L, Role.RECRUTADOR)))
+                .isInstanceOf(InvalidDataException.class);
+        assertThatThrownBy(() -> buscaSalvaService.remover(1L, 5L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        then(buscaSalvaRepository).should(never()).save(any());
+        then(indiceBuscasSalvas).should(never()).remover(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve registrar alertas só para as buscas que o candidato salvo atende")
+    void deveRegistrarAlertasDoCandidatoSalvo() {
+        // Given
+        User candidato = usuario(10L, Role.CANDIDATO);
+        given(indiceBuscasSalvas.correspondentes(candidato)).willReturn(List.of(3L, 7L));
+
+        // When
+        buscaSalvaService.aoSalvarUsuario(new UsuarioSalvoEvent(candidato));
+        buscaSalvaService.aoSalvarUsuario(new UsuarioSalvoEvent(usuario(11L, Role.RECRUTADOR)));
+
+        // Then
+        then(alertaBuscaRepository).should().registrar(3L, 10L);
+        then(alertaBuscaRepository).should().registrar(7L, 10L);
+        then(indiceBuscasSalvas).should(never()).correspondentes(argThat(usuario -> usuario.getId() == 11L));
+    }
+
+    @Test
+    @DisplayName("Deve pular a busca removida durante o registro sem perder os demais alertas")
+    void devePularBuscaRemovidaDuranteRegistro() {
+        // Given
+        User candidato = usuario(10L, Role.CANDIDATO);
+        given(indiceBuscasSalvas.correspondentes(candidato)).willReturn(List.of(3L, 7L, 9L));
+        given(alertaBuscaRepository.registrar(anyLong(), anyLong())).willReturn(1);
+        given(alertaBuscaRepository.registrar(7L, 10L)).willThrow(new DataIntegrityViolationException("fk"));
+
+        // When
+        buscaSalvaService.aoSalvarUsuario(new UsuarioSalvoEvent(candidato));
+
+        // Then
+        then(alertaBuscaRepository).should().registrar(3L, 10L);
+        then(alertaBuscaRepository).should().registrar(9L, 10L);
+        then(transactionManager).should(times(3)).getTransaction(any());
+    }
+
+    private User usuario(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+}
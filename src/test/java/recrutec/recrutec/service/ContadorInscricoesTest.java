@@ -0,0 +1,205 @@
+package recrutec.recrutec.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import recrutec.recrutec.repository.VagaRepository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * Testes unitários para ContadorInscricoes
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContadorInscricoes - Testes Unitários")
+class ContadorInscricoesTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private VagaRepository vagaRepository;
+
+    @Mock
+    private VagaPublicaCache vagaPublicaCache;
+
+    private ContadorInscricoes contador;
+
+    @BeforeEach
+    void setUp() {
+        contador = new ContadorInscricoes(jdbcTemplate, new TransactionTemplate(transactionManager),
+                vagaRepository, vagaPublicaCache);
+    }
+
+    @Test
+    @DisplayName("Deve gravar os incrementos acumulados em um único batch de deltas")
+    @SuppressWarnings("unchecked")
+    void deveGravarIncrementosEmLote() {
+        // Given
+        IntStream.range(0, 1_000).parallel().forEach(i -> contador.incrementar(1L));
+        contador.incrementar(2L);
+
+        // When
+        int atualizadas = contador.descarregar();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> lote = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), lote.capture());
+        assertThat(atualizadas).isEqualTo(2);
+        assertThat(lote.getValue()).extracting(linha -> linha[1] + "=" + linha[0])
+                .containsExactlyInAnyOrder("1=1000", "2=1");
+        then(vagaPublicaCache).should().invalidarConteudo(1L);
+        then(vagaPublicaCache).should().invalidarConteudo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas o que foi acumulado desde a última gravação")
+    @SuppressWarnings("unchecked")
+    void deveGravarApenasNovosIncrementos() {
+        // Given
+        contador.incrementar(1L);
+        contador.incrementar(1L);
+        contador.descarregar();
+
+        // When
+        int semNovidades = contador.descarregar();
+        contador.incrementar(1L);
+        contador.descarregar();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> lote = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), lote.capture());
+        assertThat(semNovidades).isZero();
+        assertThat(lote.getAllValues().get(1)).singleElement()
+                .satisfies(linha -> assertThat(linha).containsExactly(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve remover da memória as vagas sem incrementos pendentes após a gravação")
+    void deveRemoverVagasJaGravadas() {
+        // Given
+        contador.incrementar(1L);
+        contador.incrementar(2L);
+
+        // When
+        contador.descarregar();
+
+        // Then
+        assertThat(contador.vagasAcumuladas()).isZero();
+        contador.incrementar(1L);
+        assertThat(contador.descarregar()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar a inscrição apenas depois do commit da transação")
+    void deveContarApenasAposCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            contador.incrementar(1L);
+            contador.incrementar(2L);
+            assertThat(contador.descarregar()).isZero();
+
+            // When: a primeira transação confirma e a segunda é desfeita
+            List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+            sincronizacoes.get(0).afterCommit();
+            sincronizacoes.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(contador.descarregar()).isEqualTo(1);
+        then(vagaPublicaCache).should().invalidarConteudo(1L);
+        then(vagaPublicaCache).should(never()).invalidarConteudo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve manter os incrementos pendentes quando a gravação falha")
+    void deveManterIncrementosQuandoGravacaoFalha() {
+        // Given
+        contador.incrementar(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new IllegalStateException("banco fora"));
+
+        // When
+        Throwable erro = catchThrowable(contador::descarregar);
+
+        // Then
+        assertThat(erro).isInstanceOf(IllegalStateException.class);
+        then(vagaPublicaCache).should(never()).invalidarConteudo(any());
+        willReturn(new int[]{1}).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(contador.descarregar()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os incrementos de uma vaga removida")
+    void deveDescartarIncrementosDeVagaRemovida() {
+        // Given
+        contador.incrementar(1L);
+
+        // When
+        contador.descartar(1L);
+
+        // Then
+        assertThat(contador.descarregar()).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Deve manter os incrementos quando a remoção da vaga é desfeita")
+    void deveManterIncrementosQuandoRemocaoEDesfeita() {
+        // Given
+        contador.incrementar(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            contador.descartar(1L);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().get(0)
+                    .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(contador.descarregar()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar os totais com a tabela de inscrições na inicialização")
+    void deveReconciliarNaInicializacao() {
+        // Given
+        given(vagaRepository.reconciliarTotaisInscricoes()).willReturn(3);
+
+        // When
+        contador.afterSingletonsInstantiated();
+
+        // Then
+        then(vagaRepository).should().reconciliarTotaisInscricoes();
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+}
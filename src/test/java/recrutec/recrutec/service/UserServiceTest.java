@@ -1,33 +1,50 @@
 package recrutec.recrutec.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import recrutec.recrutec.dto.CandidatoRegisterDTO;
+import recrutec.recrutec.dto.ContagemFacetaDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.FacetasCandidatosDTO;
+import recrutec.recrutec.dto.UsuarioBuscaDTO;
 import recrutec.recrutec.dto.RecrutadorRegisterDTO;
 import recrutec.recrutec.exception.InvalidDataException;
 import recrutec.recrutec.exception.ResourceAlreadyExistsException;
 import recrutec.recrutec.model.Role;
 import recrutec.recrutec.model.User;
 import recrutec.recrutec.repository.UserRepository;
+import recrutec.recrutec.search.FiltroCandidatos;
+import recrutec.recrutec.search.IndiceCandidatos;
+import recrutec.recrutec.search.UsuarioRemovidoEvent;
+import recrutec.recrutec.search.UsuarioSalvoEvent;
 import recrutec.recrutec.service.impl.UserServiceImpl;
+import recrutec.recrutec.util.CursorCodec;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * Testes unitários para UserService
@@ -42,6 +59,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private IndiceCandidatos indiceCandidatos;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private BuscaCandidatosCache buscaCandidatosCache = new BuscaCandidatosCache(100, 300, new SimpleMeterRegistry());
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -92,6 +118,7 @@ class UserServiceTest {
         assertThat(resultado.getSenha()).isEqualTo(senhaCriptografada);
         then(passwordEncoder).should().encode("senha123");
         then(userRepository).should().save(mockUser);
+        then(eventPublisher).should().publishEvent(new UsuarioSalvoEvent(mockUser));
     }
 
     @Test
@@ -123,19 +150,69 @@ class UserServiceTest {
         then(userRepository).should().findByEmail("inexistente@email.com");
     }
 
+    @Test
+    @DisplayName("Deve calcular o ETag do perfil pela versão sem carregar o usuário")
+    void deveCalcularEtagDoPerfilPelaVersao() {
+        // Given
+        UserRepository.VersaoUsuario versao = mock(UserRepository.VersaoUsuario.class);
+        given(versao.getId()).willReturn(1L);
+        given(versao.getVersao()).willReturn(4L);
+        given(userRepository.findVersaoByEmail("joao@email.com")).willReturn(Optional.of(versao));
+
+        // When
+        Optional<String> etag = userService.findEtagByEmail("joao@email.com");
+
+        // Then
+        assertThat(etag).contains("\"usuario-1-4\"");
+        then(userRepository).should(never()).findByEmail(any());
+    }
+
     @Test
     @DisplayName("Deve listar usuários por role")
     void deveListarUsuariosPorRole() {
         // Given
-        List<User> candidatos = Arrays.asList(mockUser, new User());
-        given(userRepository.findByRole(Role.CANDIDATO)).willReturn(candidatos);
+        User outroCandidato = new User();
+        outroCandidato.setId(2L);
+        List<User> candidatos = Arrays.asList(mockUser, outroCandidato);
+        given(userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(Role.CANDIDATO, 0L, Limit.of(21)))
+                .willReturn(candidatos);
+
+        // When
+        CursorPageDTO<User> resultado = userService.findByRole(Role.CANDIDATO, null, 20);
+
+        // Then
+        assertThat(resultado.getItems()).hasSize(2);
+        assertThat(resultado.getNextCursor()).isNull();
+        then(userRepository).should().findByRoleAndIdGreaterThanOrderByIdAsc(Role.CANDIDATO, 0L, Limit.of(21));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem por role a partir do cursor")
+    void deveContinuarListagemPorRoleAPartirDoCursor() {
+        // Given
+        User terceiro = new User();
+        terceiro.setId(3L);
+        User quarto = new User();
+        quarto.setId(4L);
+        given(userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(Role.CANDIDATO, 2L, Limit.of(2)))
+                .willReturn(Arrays.asList(terceiro, quarto));
 
         // When
-        List<User> resultado = userService.findByRole(Role.CANDIDATO);
+        CursorPageDTO<User> resultado = userService.findByRole(Role.CANDIDATO, CursorCodec.encodeId(2L), 1);
 
         // Then
-        assertThat(resultado).hasSize(2);
-        then(userRepository).should().findByRole(Role.CANDIDATO);
+        assertThat(resultado.getItems()).containsExactly(terceiro);
+        assertThat(resultado.getSize()).isEqualTo(1);
+        assertThat(CursorCodec.decodeId(resultado.getNextCursor())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void deveRejeitarCursorInvalido() {
+        // When/Then
+        assertThatThrownBy(() -> userService.findByRole(Role.CANDIDATO, "cursor-invalido", 20))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessage("Cursor de paginação inválido");
     }
 
     @Test
@@ -244,6 +321,7 @@ class UserServiceTest {
 
         // Then
         then(userRepository).should().deleteById(userId);
+        then(eventPublisher).should().publishEvent(new UsuarioRemovidoEvent(userId));
     }
 
     @Test
@@ -261,18 +339,55 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("Deve listar candidatos por área de interesse")
+    @DisplayName("Deve listar candidatos por área de interesse a partir do índice em memória")
     void deveListarCandidatosPorAreaDeInteresse() {
         // Given
-        List<User> candidatos = Arrays.asList(mockUser);
-        given(userRepository.findCandidatosByAreaInteresse("Java")).willReturn(candidatos);
+        given(indiceCandidatos.buscar(IndiceCandidatos.Campo.AREA_INTERESSE, "Java", 0L, 21)).willReturn(List.of(1L));
+        given(userRepository.findAllById(List.of(1L))).willReturn(List.of(mockUser));
 
         // When
-        List<User> resultado = userService.findCandidatosByAreaInteresse("Java");
+        CursorPageDTO<User> resultado = userService.findCandidatosByAreaInteresse("Java", null, 20);
 
         // Then
-        assertThat(resultado).hasSize(1);
-        then(userRepository).should().findCandidatosByAreaInteresse("Java");
+        assertThat(resultado.getItems()).containsExactly(mockUser);
+        assertThat(resultado.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve paginar candidatos por habilidade em ordem de id sem consultar o banco quando não há resultado")
+    void devePaginarCandidatosPorHabilidade() {
+        // Given
+        User outro = new User();
+        outro.setId(5L);
+        given(indiceCandidatos.buscar(IndiceCandidatos.Campo.HABILIDADE, "Spring", 3L, 2)).willReturn(List.of(1L, 5L));
+        given(userRepository.findAllById(List.of(1L, 5L))).willReturn(List.of(outro, mockUser));
+
+        // When
+        CursorPageDTO<User> pagina = userService.findCandidatosByHabilidade("Spring", CursorCodec.encodeId(3L), 1);
+        CursorPageDTO<User> vazia = userService.findCandidatosByHabilidade("Cobol", null, 1);
+
+        // Then
+        assertThat(pagina.getItems()).extracting(User::getId).containsExactly(1L);
+        assertThat(pagina.getNextCursor()).isEqualTo(CursorCodec.encodeId(1L));
+        assertThat(vazia.getItems()).isEmpty();
+        then(userRepository).should(never()).findAllById(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve servir buscas repetidas com critérios equivalentes sem consultar o índice de novo")
+    void deveServirBuscasRepetidasDoCache() {
+        // Given
+        given(indiceCandidatos.buscar(IndiceCandidatos.Campo.HABILIDADE, "Java", 0L, 21)).willReturn(List.of(1L));
+        given(userRepository.findAllById(List.of(1L))).willReturn(List.of(mockUser));
+
+        // When
+        CursorPageDTO<User> primeira = userService.findCandidatosByHabilidade("Java", null, 20);
+        CursorPageDTO<User> segunda = userService.findCandidatosByHabilidade(" JÁVA ", null, 20);
+
+        // Then: só os ids ficam em cache; os candidatos são carregados a cada busca
+        assertThat(segunda.getItems()).isEqualTo(primeira.getItems());
+        then(indiceCandidatos).should().buscar(IndiceCandidatos.Campo.HABILIDADE, "Java", 0L, 21);
+        then(userRepository).should(times(2)).findAllById(List.of(1L));
     }
 
     @Test
@@ -294,14 +409,102 @@ class UserServiceTest {
     @DisplayName("Deve listar todos os usuários")
     void deveListarTodosUsuarios() {
         // Given
-        List<User> usuarios = Arrays.asList(mockUser, new User());
-        given(userRepository.findAll()).willReturn(usuarios);
+        User outroUsuario = new User();
+        outroUsuario.setId(2L);
+        List<User> usuarios = Arrays.asList(mockUser, outroUsuario);
+        given(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).willReturn(usuarios);
+
+        // When
+        CursorPageDTO<User> resultado = userService.findAll(null, 20);
+
+        // Then
+        assertThat(resultado.getItems()).hasSize(2);
+        then(userRepository).should().findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21));
+        then(userRepository).should(never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar usuários por nome ou email com o termo normalizado e paginar por posição")
+    void deveBuscarUsuariosPorNomeOuEmail() {
+        // Given
+        UserRepository.UsuarioEncontrado joao = mock(UserRepository.UsuarioEncontrado.class);
+        given(joao.getId()).willReturn(7L);
+        given(joao.getNome()).willReturn("João Silva");
+        given(joao.getEmail()).willReturn("joao@email.com");
+        given(joao.getRole()).willReturn("CANDIDATO");
+        given(joao.getRelevancia()).willReturn(1.0f);
+        UserRepository.UsuarioEncontrado joana = mock(UserRepository.UsuarioEncontrado.class);
+        given(joana.getRole()).willReturn("ADMIN");
+        given(joana.getRelevancia()).willReturn(0.6f);
+        given(userRepository.buscarPorNomeOuEmail("joao", 0, 2)).willReturn(List.of(joao, joana));
+
+        // When
+        CursorPageDTO<UsuarioBuscaDTO> resultado = userService.buscarPorNomeOuEmail("  JOÃO ", null, 1);
+
+        // Then
+        assertThat(resultado.getItems()).containsExactly(
+                new UsuarioBuscaDTO(7L, "João Silva", "joao@email.com", Role.CANDIDATO, 1.0));
+        assertThat(resultado.getNextCursor()).isEqualTo(CursorCodec.encodePosicao(1));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco para termos curtos, inválidos ou além do limite de resultados")
+    void naoDeveConsultarBancoParaTermosCurtosOuInvalidos() {
+        // When / Then
+        assertThat(userService.buscarPorNomeOuEmail("jo", null, 10).getItems()).isEmpty();
+        assertThat(userService.buscarPorNomeOuEmail("joao", CursorCodec.encodePosicao(200), 10).getItems()).isEmpty();
+        assertThatThrownBy(() -> userService.buscarPorNomeOuEmail("   ", null, 10))
+                .isInstanceOf(InvalidDataException.class);
+        assertThatThrownBy(() -> userService.buscarPorNomeOuEmail("a".repeat(101), null, 10))
+                .isInstanceOf(InvalidDataException.class);
+        then(userRepository).should(never()).buscarPorNomeOuEmail(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve buscar candidatos com critérios combinados pelo índice e paginar por id")
+    void deveBuscarCandidatosComCriteriosCombinados() {
+        // Given
+        FiltroCandidatos filtro = new FiltroCandidatos(List.of("Backend"), List.of("Java", "Spring"), true,
+                List.of(), List.of(), "ana");
+        User outro = new User();
+        outro.setId(7L);
+        given(indiceCandidatos.buscar(filtro, 3L, 3)).willReturn(List.of(7L, 1L));
+        given(userRepository.findAllById(List.of(7L, 1L))).willReturn(List.of(outro, mockUser));
+
+        // When
+        CursorPageDTO<User> pagina = userService.buscarCandidatos(filtro, CursorCodec.encodeId(3L), 2);
+
+        // Then
+        assertThat(pagina.getItems()).extracting(User::getId).containsExactly(1L, 7L);
+        assertThat(pagina.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve calcular facetas pelo índice limitando a quantidade de termos por campo")
+    void deveCalcularFacetasPeloIndice() {
+        // Given
+        Map<IndiceCandidatos.Campo, List<String>> filtros = Map.of(IndiceCandidatos.Campo.HABILIDADE, List.of("Java"));
+        FacetasCandidatosDTO facetas = new FacetasCandidatosDTO(3, Map.of());
+        given(indiceCandidatos.facetas(filtros, 100)).willReturn(facetas);
+
+        // When
+        FacetasCandidatosDTO resultado = userService.facetasCandidatos(filtros, 5000);
+
+        // Then
+        assertThat(resultado).isSameAs(facetas);
+    }
+
+    @Test
+    @DisplayName("Deve sugerir apenas termos usados por mais de um candidato, limitando a quantidade")
+    void deveSugerirTermosDoIndice() {
+        // Given
+        given(indiceCandidatos.sugerir(IndiceCandidatos.Campo.HABILIDADE, "ja", 2, 20)).willReturn(List.of(
+                new ContagemFacetaDTO("JavaScript", 30), new ContagemFacetaDTO("Java", 12)));
 
         // When
-        List<User> resultado = userService.findAll();
+        List<String> sugestoes = userService.sugerirTermos(IndiceCandidatos.Campo.HABILIDADE, "ja", 500);
 
         // Then
-        assertThat(resultado).hasSize(2);
-        then(userRepository).should().findAll();
+        assertThat(sugestoes).containsExactly("JavaScript", "Java");
     }
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+package recrutec.recrutec.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.util.CursorCodec;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para VagaPublicaCache
+ */
+@DisplayName("VagaPublicaCache - Testes Unitários")
+class VagaPublicaCacheTest {
+
+    private static final CursorCodec.DataIdCursor INICIO =
+            new CursorCodec.DataIdCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+    private static final LocalDate HOJE = LocalDate.of(2024, 5, 10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VagaPublicaCache cache;
+    private AtomicInteger consultas;
+    private RelogioFalso relogio;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        meterRegistry = new SimpleMeterRegistry();
+        relogio = new RelogioFalso(HOJE);
+        cache = new VagaPublicaCache(100, 300, objectMapper, meterRegistry, relogio);
+        consultas = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve servir a segunda requisição da mesma página a partir do cache")
+    void deveServirPaginaDoCache() {
+        // Given
+        List<VagaResumoDTO> vagas = List.of(resumo(3L, HOJE), resumo(2L, HOJE), resumo(1L, HOJE.minusDays(1)));
+
+        // When
+        VagaPublicaCache.Resposta primeira = primeiraPagina(vagas, 2);
+        VagaPublicaCache.Resposta segunda = primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(1);
+        assertThat(segunda.getJson()).isEqualTo(primeira.getJson());
+        assertThat(segunda.getEtag()).isEqualTo(primeira.getEtag()).startsWith("\"");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "vagas.publicas.paginas")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a página que contém a vaga alterada")
+    void deveInvalidarPaginaQueContemVaga() {
+        // Given
+        List<VagaResumoDTO> vagas = List.of(resumo(3L, HOJE), resumo(2L, HOJE), resumo(1L, HOJE.minusDays(1)));
+        primeiraPagina(vagas, 2);
+        Vaga fechada = vaga(2L, HOJE);
+        fechada.setStatus("Fechada");
+
+        // When
+        cache.invalidar(fechada);
+        primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a página cujo intervalo receberia a nova vaga aberta")
+    void deveInvalidarPaginaQueCobreNovaVaga() {
+        // Given
+        List<VagaResumoDTO> vagas = List.of(resumo(3L, HOJE), resumo(2L, HOJE), resumo(1L, HOJE.minusDays(1)));
+        primeiraPagina(vagas, 2);
+
+        // When
+        cache.invalidar(vaga(4L, HOJE));
+        primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter a página quando a nova vaga cai depois do seu último item")
+    void deveManterPaginaQuandoVagaFicaForaDoIntervalo() {
+        // Given
+        List<VagaResumoDTO> vagas = List.of(resumo(30L, HOJE), resumo(20L, HOJE), resumo(10L, HOJE.minusDays(2)));
+        primeiraPagina(vagas, 2);
+
+        // When
+        cache.invalidar(vaga(40L, HOJE.minusDays(1)));
+        primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar vagas fechadas que não estão em nenhuma página")
+    void deveIgnorarVagaFechadaForaDasPaginas() {
+        // Given
+        List<VagaResumoDTO> vagas = List.of(resumo(3L, HOJE), resumo(2L, HOJE));
+        primeiraPagina(vagas, 2);
+        Vaga fechada = vaga(5L, HOJE);
+        fechada.setStatus("Fechada");
+
+        // When
+        cache.invalidar(fechada);
+        primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar detalhe e páginas de uma vaga removida")
+    void deveInvalidarVagaRemovida() {
+        // Given
+        VagaDetalheDTO detalheEmCache = new VagaDetalheDTO();
+        detalheEmCache.setId(1L);
+        cache.detalhe(1L, () -> {
+            consultas.incrementAndGet();
+            return Optional.of(detalheEmCache);
+        }, v -> "\"1\"");
+        assertThat(cache.etagDetalhe(1L)).contains("\"1\"");
+        primeiraPagina(List.of(resumo(1L, HOJE)), 2);
+
+        // When
+        cache.invalidarConteudo(1L);
+        Optional<VagaPublicaCache.Resposta> detalhe = cache.detalhe(1L, () -> {
+            consultas.incrementAndGet();
+            return Optional.empty();
+        }, v -> "\"2\"");
+        primeiraPagina(List.of(), 2);
+
+        // Then
+        assertThat(detalhe).isEmpty();
+        assertThat(cache.etagDetalhe(1L)).isEmpty();
+        assertThat(consultas).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar página carregada durante uma escrita concorrente")
+    void naoDeveGuardarPaginaCarregadaDuranteEscrita() {
+        // Given
+        List<VagaResumoDTO> vagas = new ArrayList<>(List.of(resumo(3L, HOJE)));
+
+        // When
+        cache.pagina(INICIO, 2, () -> {
+            consultas.incrementAndGet();
+            cache.invalidar(vaga(9L, HOJE.minusDays(5)));
+            return vagas;
+        }, resultado -> CursorPageDTO.of(resultado, 2, v -> String.valueOf(v.getId())));
+        primeiraPagina(vagas, 2);
+
+        // Then
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar páginas e detalhes na virada do dia")
+    void deveDescartarEntradasNaViradaDoDia() {
+        // Given
+        VagaDetalheDTO detalhe = new VagaDetalheDTO();
+        detalhe.setId(1L);
+        detalhe.setDataPostagem(HOJE);
+        cache.detalhe(1L, () -> {
+            consultas.incrementAndGet();
+            return Optional.of(detalhe);
+        }, v -> "\"1\"");
+        primeiraPagina(List.of(resumo(1L, HOJE)), 2);
+
+        // When
+        relogio.definir(HOJE.plusDays(1));
+
+        // Then
+        assertThat(cache.etagDetalhe(1L)).isEmpty();
+        primeiraPagina(List.of(resumo(1L, HOJE)), 2);
+        assertThat(consultas).hasValue(3);
+    }
+
+    private VagaPublicaCache.Resposta primeiraPagina(List<VagaResumoDTO> vagas, int tamanho) {
+        return cache.pagina(INICIO, tamanho, () -> {
+            consultas.incrementAndGet();
+            return vagas;
+        }, resultado -> CursorPageDTO.of(resultado, tamanho, v -> String.valueOf(v.getId())));
+    }
+
+    private VagaResumoDTO resumo(Long id, LocalDate dataPostagem) {
+        VagaResumoDTO resumo = new VagaResumoDTO();
+        resumo.setId(id);
+        resumo.setTitulo("Vaga " + id);
+        resumo.setStatus(Vaga.STATUS_ABERTA);
+        resumo.setDataPostagem(dataPostagem);
+        return resumo;
+    }
+
+    private Vaga vaga(Long id, LocalDate dataPostagem) {
+        Vaga vaga = new Vaga();
+        vaga.setId(id);
+        vaga.setTitulo("Vaga " + id);
+        vaga.setStatus(Vaga.STATUS_ABERTA);
+        vaga.setDataPostagem(dataPostagem);
+        return vaga;
+    }
+
+    // Relógio cuja data só muda quando o teste manda
+    private static class RelogioFalso extends Clock {
+
+        private final AtomicReference<LocalDate> data;
+
+        RelogioFalso(LocalDate data) {
+            this.data = new AtomicReference<>(data);
+        }
+
+        void definir(LocalDate novaData) {
+            data.set(novaData);
+        }
+
+        @Override
+        public Instant instant() {
+            return data.get().atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -1,26 +1,57 @@
 package recrutec.recrutec.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import recrutec.recrutec.dto.CandidatoCompativelDTO;
+import recrutec.recrutec.dto.CandidatoInscritoDTO;
+import recrutec.recrutec.dto.CursorPageDTO;
+import recrutec.recrutec.dto.VagaDetalheDTO;
+import recrutec.recrutec.dto.VagaResumoDTO;
+import recrutec.recrutec.exception.InvalidDataException;
+import recrutec.recrutec.model.InscricaoId;
 import recrutec.recrutec.model.Role;
+import recrutec.recrutec.model.StatusInscricao;
 import recrutec.recrutec.model.User;
 import recrutec.recrutec.model.Vaga;
+import recrutec.recrutec.repository.InscricaoRepository;
+import recrutec.recrutec.repository.UserRepository;
 import recrutec.recrutec.repository.VagaRepository;
+import recrutec.recrutec.search.MotorCompatibilidade;
+import recrutec.recrutec.search.RecomendadorVagas;
+import recrutec.recrutec.search.VagaRemovidaEvent;
+import recrutec.recrutec.search.VagaSalvaEvent;
+import recrutec.recrutec.util.CursorCodec;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 
 /**
  * Testes unitários para VagaService
@@ -32,10 +63,35 @@ class VagaServiceTest {
     @Mock
     private VagaRepository vagaRepository;
 
+    @Mock
+    private InscricaoRepository inscricaoRepository;
+
+    @Mock
+    private VagaPublicaCache vagaPublicaCache;
+
+    @Mock
+    private ContadorInscricoes contadorInscricoes;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MotorCompatibilidade motorCompatibilidade;
+
+    @Mock
+    private RecomendadorVagas recomendadorVagas;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
     @InjectMocks
     private VagaService vagaService;
 
     private Vaga mockVaga;
+    private VagaResumoDTO mockResumo;
     private User mockRecrutador;
     private User mockCandidato;
 
@@ -61,6 +117,9 @@ class VagaServiceTest {
         mockVaga.setStatus("Aberta");
         mockVaga.setRecrutador(mockRecrutador);
         mockVaga.setDataPostagem(LocalDate.now());
+
+        mockResumo = new VagaResumoDTO(1L, "Desenvolvedor Java", "Aberta", LocalDate.now(),
+                1L, "Recrutador Silva", "Tech Corp", 0L);
     }
 
     @Test
@@ -77,79 +136,111 @@ class VagaServiceTest {
         assertThat(resultado.getTitulo()).isEqualTo("Desenvolvedor Java");
         assertThat(resultado.getStatus()).isEqualTo("Aberta");
         then(vagaRepository).should().save(mockVaga);
+        then(vagaPublicaCache).should().invalidar(mockVaga);
+        then(eventPublisher).should().publishEvent(new VagaSalvaEvent(mockVaga));
     }
 
     @Test
-    @DisplayName("Deve listar todas as vagas")
+    @DisplayName("Deve listar todas as vagas a partir da mais recente")
     void deveListarTodasVagas() {
         // Given
-        List<Vaga> vagas = Arrays.asList(mockVaga, new Vaga());
-        given(vagaRepository.findAll()).willReturn(vagas);
+        VagaResumoDTO vagaAntiga = new VagaResumoDTO();
+        vagaAntiga.setId(2L);
+        vagaAntiga.setDataPostagem(LocalDate.now().minusDays(3));
+        given(vagaRepository.findPagina(any(LocalDate.class), eq(Long.MAX_VALUE), eq(Limit.of(21))))
+                .willReturn(Arrays.asList(mockResumo, vagaAntiga));
 
         // When
-        List<Vaga> resultado = vagaService.listarVagas();
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.listarVagas(null, 20);
 
         // Then
-        assertThat(resultado).hasSize(2);
-        then(vagaRepository).should().findAll();
+        assertThat(resultado.getItems()).hasSize(2);
+        assertThat(resultado.getNextCursor()).isNull();
+        then(vagaRepository).should(never()).findAll();
     }
 
     @Test
-    @DisplayName("Deve listar apenas vagas abertas")
+    @DisplayName("Deve listar apenas vagas abertas paginadas por cursor")
     void deveListarApenasVagasAbertas() {
         // Given
-        Vaga vagaFechada = new Vaga();
-        vagaFechada.setStatus("Fechada");
+        LocalDate data = LocalDate.of(2024, 5, 10);
+        VagaResumoDTO seguinte = new VagaResumoDTO();
+        seguinte.setId(7L);
+        seguinte.setStatus("Aberta");
+        seguinte.setDataPostagem(data);
+        mockResumo.setDataPostagem(data);
+        mockResumo.setId(9L);
+        given(vagaRepository.findPaginaByStatus("Aberta", data, 12L, Limit.of(2)))
+                .willReturn(Arrays.asList(mockResumo, seguinte));
+
+        // When
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.listarVagasAbertas(CursorCodec.encodeDataId(data, 12L), 1);
 
-        List<Vaga> todasVagas = Arrays.asList(mockVaga, vagaFechada);
-        given(vagaRepository.findAll()).willReturn(todasVagas);
+        // Then
+        assertThat(resultado.getItems()).containsExactly(mockResumo);
+        assertThat(resultado.getSize()).isEqualTo(1);
+        assertThat(CursorCodec.decodeDataId(resultado.getNextCursor()))
+                .isEqualTo(new CursorCodec.DataIdCursor(data, 9L));
+        then(vagaRepository).should(never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página de vagas abertas")
+    void deveLimitarTamanhoDaPaginaDeVagasAbertas() {
+        // Given
+        given(vagaRepository.findPaginaByStatus(eq("Aberta"), any(), any(), any())).willReturn(List.of());
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasAbertas();
+        vagaService.listarVagasAbertas(null, 5000);
 
         // Then
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getStatus()).isEqualTo("Aberta");
-        then(vagaRepository).should().findAll();
+        then(vagaRepository).should().findPaginaByStatus(eq("Aberta"), any(), any(),
+                eq(Limit.of(CursorPageDTO.TAMANHO_MAXIMO + 1)));
     }
 
     @Test
-    @DisplayName("Deve listar vagas por email do recrutador")
-    void deveListarVagasPorEmailRecrutador() {
+    @DisplayName("Deve listar vagas do recrutador pelo id")
+    void deveListarVagasDoRecrutadorPorId() {
         // Given
-        List<Vaga> todasVagas = Arrays.asList(mockVaga);
-        given(vagaRepository.findAll()).willReturn(todasVagas);
+        given(vagaRepository.findPaginaByRecrutadorId(eq(1L), any(), any(), any()))
+                .willReturn(List.of(mockResumo));
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasPorRecrutadorEmail("recrutador@empresa.com");
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.listarVagasPorRecrutador(1L, null, null, 20);
 
         // Then
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getRecrutador().getEmail()).isEqualTo("recrutador@empresa.com");
-        then(vagaRepository).should().findAll();
+        assertThat(resultado.getItems()).hasSize(1);
+        assertThat(resultado.getItems().get(0).getRecrutadorId()).isEqualTo(1L);
+        then(vagaRepository).should(never()).findAll();
     }
 
     @Test
-    @DisplayName("Deve filtrar vagas de recrutador específico corretamente")
-    void deveFiltrarVagasDeRecrutadorEspecificoCorretamente() {
+    @DisplayName("Deve filtrar vagas do recrutador por status")
+    void deveFiltrarVagasDoRecrutadorPorStatus() {
         // Given
-        User outroRecrutador = new User();
-        outroRecrutador.setEmail("outro@empresa.com");
-        outroRecrutador.setRole(Role.RECRUTADOR);
+        given(vagaRepository.findPaginaByRecrutadorIdAndStatus(eq(1L), eq("Aberta"), any(), any(), any()))
+                .willReturn(List.of(mockResumo));
 
-        Vaga vagaOutroRecrutador = new Vaga();
-        vagaOutroRecrutador.setRecrutador(outroRecrutador);
+        // When
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.listarVagasPorRecrutador(1L, "Aberta", null, 20);
 
-        List<Vaga> todasVagas = Arrays.asList(mockVaga, vagaOutroRecrutador);
-        given(vagaRepository.findAll()).willReturn(todasVagas);
+        // Then
+        assertThat(resultado.getItems()).extracting(VagaResumoDTO::getStatus).containsOnly("Aberta");
+        then(vagaRepository).should(never()).findPaginaByRecrutadorId(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar filtro de status em branco")
+    void deveIgnorarFiltroDeStatusEmBranco() {
+        // Given
+        given(vagaRepository.findPaginaByRecrutadorId(eq(1L), any(), any(), any())).willReturn(List.of());
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasPorRecrutadorEmail("recrutador@empresa.com");
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.listarVagasPorRecrutador(1L, "  ", null, 20);
 
         // Then
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getRecrutador().getEmail()).isEqualTo("recrutador@empresa.com");
-        then(vagaRepository).should().findAll();
+        assertThat(resultado.getItems()).isEmpty();
+        then(vagaRepository).should(never()).findPaginaByRecrutadorIdAndStatus(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -192,61 +283,287 @@ class VagaServiceTest {
         vagaService.deletarVaga(vagaId);
 
         // Then
+        then(inscricaoRepository).should().deleteByVagaId(vagaId);
         then(vagaRepository).should().deleteById(vagaId);
+        then(contadorInscricoes).should().descartar(vagaId);
+        then(vagaPublicaCache).should().invalidarConteudo(vagaId);
+        then(eventPublisher).should().publishEvent(new VagaRemovidaEvent(vagaId));
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há vagas do recrutador")
-    void deveRetornarListaVaziaQuandoNaoHaVagasDoRecrutador() {
+    @DisplayName("Deve invalidar o cache público só depois do commit da remoção")
+    void deveInvalidarCacheAposCommitDaRemocao() {
         // Given
-        given(vagaRepository.findAll()).willReturn(Arrays.asList());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            vagaService.deletarVaga(1L);
+            then(vagaPublicaCache).should(never()).invalidarConteudo(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        then(vagaPublicaCache).should().invalidarConteudo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve inscrever candidato com um único insert e acumular o total no contador")
+    void deveInscreverCandidato() {
+        // Given
+        given(inscricaoRepository.inscrever(1L, 2L)).willReturn(1);
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasPorRecrutadorEmail("inexistente@empresa.com");
+        VagaService.ResultadoInscricao resultado = vagaService.inscreverCandidato(1L, 2L);
 
         // Then
-        assertThat(resultado).isEmpty();
-        then(vagaRepository).should().findAll();
+        assertThat(resultado).isEqualTo(VagaService.ResultadoInscricao.CRIADA);
+        then(contadorInscricoes).should().incrementar(1L);
+        then(vagaRepository).should(never()).save(any());
     }
 
     @Test
-    @DisplayName("Deve ignorar vagas com recrutador nulo")
-    void deveIgnorarVagasComRecrutadorNulo() {
+    @DisplayName("Deve informar inscrição duplicada sem alterar o cache")
+    void deveInformarInscricaoDuplicada() {
         // Given
-        Vaga vagaSemRecrutador = new Vaga();
-        vagaSemRecrutador.setRecrutador(null);
+        given(inscricaoRepository.inscrever(1L, 2L)).willReturn(0);
+        given(inscricaoRepository.existsById(new InscricaoId(1L, 2L))).willReturn(true);
 
-        List<Vaga> todasVagas = Arrays.asList(mockVaga, vagaSemRecrutador);
-        given(vagaRepository.findAll()).willReturn(todasVagas);
+        // When
+        VagaService.ResultadoInscricao resultado = vagaService.inscreverCandidato(1L, 2L);
+
+        // Then
+        assertThat(resultado).isEqualTo(VagaService.ResultadoInscricao.JA_INSCRITO);
+        then(contadorInscricoes).should(never()).incrementar(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar inscrição em vaga fechada ou inexistente")
+    void deveRecusarInscricaoEmVagaFechadaOuInexistente() {
+        // Given
+        given(inscricaoRepository.inscrever(any(), any())).willReturn(0);
+        given(inscricaoRepository.existsById(any())).willReturn(false);
+        given(vagaRepository.findStatusById(1L)).willReturn(Optional.of("Fechada"));
+        given(vagaRepository.findStatusById(9L)).willReturn(Optional.empty());
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasPorRecrutadorEmail("recrutador@empresa.com");
+        VagaService.ResultadoInscricao fechada = vagaService.inscreverCandidato(1L, 2L);
+        VagaService.ResultadoInscricao inexistente = vagaService.inscreverCandidato(9L, 2L);
 
         // Then
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getRecrutador()).isNotNull();
-        then(vagaRepository).should().findAll();
+        assertThat(fechada).isEqualTo(VagaService.ResultadoInscricao.VAGA_FECHADA);
+        assertThat(inexistente).isEqualTo(VagaService.ResultadoInscricao.VAGA_NAO_ENCONTRADA);
+        then(contadorInscricoes).should(never()).incrementar(any());
     }
 
     @Test
-    @DisplayName("Deve filtrar apenas recrutadores válidos")
-    void deveFiltrarApenasRecrutadoresValidos() {
+    @DisplayName("Deve buscar o detalhe da vaga com total de inscritos sem carregar a entidade")
+    void deveBuscarDetalheDaVaga() {
         // Given
-        User usuarioAdmin = new User();
-        usuarioAdmin.setEmail("admin@empresa.com");
-        usuarioAdmin.setRole(Role.ADMIN);
+        VagaDetalheDTO detalhe = new VagaDetalheDTO(1L, "Desenvolvedor Java", "Vaga para desenvolvedor Java senior",
+                "Aberta", LocalDate.now(), 1L, "Recrutador Silva", "recrutador@empresa.com", "Tech Corp", 3L, 0L, 0L);
+        given(vagaRepository.findDetalheById(1L)).willReturn(Optional.of(detalhe));
+        List<VagaRepository.HabilidadeVaga> habilidades = List.of(habilidade(true, "Java"), habilidade(false, "Docker"));
+        given(vagaRepository.findHabilidadesById(1L)).willReturn(habilidades);
 
-        Vaga vagaDeAdmin = new Vaga();
-        vagaDeAdmin.setRecrutador(usuarioAdmin);
+        // When
+        Optional<VagaDetalheDTO> resultado = vagaService.buscarDetalheVaga(1L);
 
-        List<Vaga> todasVagas = Arrays.asList(mockVaga, vagaDeAdmin);
-        given(vagaRepository.findAll()).willReturn(todasVagas);
+        // Then
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getTotalInscritos()).isEqualTo(3L);
+        assertThat(resultado.get().getRecrutadorNome()).isEqualTo("Recrutador Silva");
+        assertThat(resultado.get().getHabilidadesObrigatorias()).containsExactly("Java");
+        assertThat(resultado.get().getHabilidadesDesejaveis()).containsExactly("Docker");
+        then(vagaRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve usar o ETag do cache sem consultar a versão no banco")
+    void deveUsarEtagDoCache() {
+        // Given
+        given(vagaPublicaCache.etagDetalhe(1L)).willReturn(Optional.of("\"vaga-1-3-0\""));
+
+        // When
+        Optional<String> etag = vagaService.buscarEtagVaga(1L);
+
+        // Then
+        assertThat(etag).contains("\"vaga-1-3-0\"");
+        then(vagaRepository).should(never()).findVersaoById(any());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o ETag da vaga pela coluna de versão")
+    void deveCalcularEtagPelaVersao() {
+        // Given
+        VagaRepository.VersaoVaga versao = mock(VagaRepository.VersaoVaga.class);
+        given(versao.getId()).willReturn(1L);
+        given(versao.getVersao()).willReturn(3L);
+        given(versao.getVersaoRecrutador()).willReturn(7L);
+        given(versao.getTotalInscricoes()).willReturn(12L);
+        given(vagaPublicaCache.etagDetalhe(1L)).willReturn(Optional.empty());
+        given(vagaRepository.findVersaoById(1L)).willReturn(Optional.of(versao));
 
         // When
-        List<Vaga> resultado = vagaService.listarVagasPorRecrutadorEmail("admin@empresa.com");
+        Optional<String> etag = vagaService.buscarEtagVaga(1L);
 
         // Then
-        assertThat(resultado).isEmpty(); // Admin não é recrutador
-        then(vagaRepository).should().findAll();
+        assertThat(etag).contains("\"vaga-1-3-7-12-" + LocalDate.now().toEpochDay() + "\"");
+        then(vagaRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar o ETag das listagens por escopo e tamanho, consultando só a janela da página")
+    void deveDiferenciarEtagDasListagensPorEscopoETamanho() {
+        // Given
+        VagaRepository.VersaoVaga versao = mock(VagaRepository.VersaoVaga.class);
+        given(versao.getId()).willReturn(5L);
+        given(versao.getVersao()).willReturn(4L);
+        given(vagaRepository.findVersoesPagina(any(LocalDate.class), eq(Long.MAX_VALUE), eq(Limit.of(21))))
+                .willReturn(List.of(versao));
+        given(vagaRepository.findVersoesPaginaByStatus(eq("Aberta"), any(LocalDate.class), eq(Long.MAX_VALUE),
+                eq(Limit.of(21)))).willReturn(List.of(versao));
+        given(vagaRepository.findVersoesPaginaByStatus(eq("Aberta"), any(LocalDate.class), eq(Long.MAX_VALUE),
+                eq(Limit.of(11)))).willReturn(List.of(versao));
+
+        // When
+        String todas = vagaService.etagListarVagas(null, 20);
+        String abertas = vagaService.etagListarVagasAbertas(null, 20);
+        String abertasMenor = vagaService.etagListarVagasAbertas(null, 10);
+
+        // Then
+        assertThat(todas).startsWith("\"todas-20-");
+        assertThat(abertas).startsWith("\"abertas-20-").isEqualTo(todas.replace("todas", "abertas"));
+        assertThat(abertasMenor).startsWith("\"abertas-10-");
+        then(vagaRepository).should(never()).findPagina(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve paginar os candidatos inscritos a partir do cursor")
+    void devePaginarCandidatosInscritos() {
+        // Given
+        given(inscricaoRepository.findPaginaCandidatos(1L, 0L, Limit.of(3)))
+                .willReturn(List.of(candidato(4L), candidato(7L), candidato(9L)));
+        given(inscricaoRepository.findPaginaCandidatos(1L, 7L, Limit.of(3)))
+                .willReturn(List.of(candidato(9L)));
+
+        // When
+        CursorPageDTO<CandidatoInscritoDTO> primeira = vagaService.listarCandidatosInscritos(1L, null, 2);
+        CursorPageDTO<CandidatoInscritoDTO> segunda =
+                vagaService.listarCandidatosInscritos(1L, primeira.getNextCursor(), 2);
+
+        // Then
+        assertThat(primeira.getItems()).extracting(CandidatoInscritoDTO::getId).containsExactly(4L, 7L);
+        assertThat(primeira.getNextCursor()).isEqualTo(CursorCodec.encodeId(7L));
+        assertThat(segunda.getItems()).extracting(CandidatoInscritoDTO::getId).containsExactly(9L);
+        assertThat(segunda.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve exportar os candidatos inscritos como array JSON sem fechar a saída")
+    void deveExportarCandidatosInscritos() throws Exception {
+        // Given
+        given(inscricaoRepository.streamCandidatos(1L)).willReturn(Stream.of(candidato(4L), candidato(7L)));
+        ByteArrayOutputStream saida = spy(new ByteArrayOutputStream());
+
+        // When
+        vagaService.exportarCandidatosInscritos(1L, saida);
+
+        // Then
+        JsonNode json = objectMapper.readTree(saida.toByteArray());
+        assertThat(json.isArray()).isTrue();
+        assertThat(json).hasSize(2);
+        assertThat(json.get(1).get("email").asText()).isEqualTo("candidato7@email.com");
+        assertThat(json.get(0).get("status").asText()).isEqualTo("INSCRITO");
+        then(saida).should(never()).close();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a busca na ordem de relevância e paginar pela posição")
+    void deveBuscarVagasNaOrdemDeRelevancia() {
+        // Given
+        VagaResumoDTO maisRelevante = new VagaResumoDTO(7L, "Desenvolvedor Java Sênior", "Aberta",
+                LocalDate.now(), 1L, "Recrutador Silva", "Empresa", 0);
+        given(vagaRepository.buscarIdsAbertas("java", 0, 2)).willReturn(List.of(7L, 1L));
+        given(vagaRepository.findResumosByIdIn(List.of(7L, 1L))).willReturn(List.of(mockResumo, maisRelevante));
+
+        // When
+        CursorPageDTO<VagaResumoDTO> resultado = vagaService.buscarVagasAbertas("  java ", null, 1);
+
+        // Then
+        assertThat(resultado.getItems()).extracting(VagaResumoDTO::getId).containsExactly(7L);
+        assertThat(CursorCodec.decodePosicao(resultado.getNextCursor())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar busca sem termo e não consultar além do limite de resultados")
+    void deveValidarTermoELimiteDaBusca() {
+        // When / Then
+        assertThatThrownBy(() -> vagaService.buscarVagasAbertas(" ", null, 20))
+                .isInstanceOf(InvalidDataException.class);
+        assertThat(vagaService.buscarVagasAbertas("java", CursorCodec.encodePosicao(1000), 20).getItems()).isEmpty();
+        then(vagaRepository).shouldHaveNoInteractions();
+    }
+
+    private CandidatoInscritoDTO candidato(Long id) {
+        return new CandidatoInscritoDTO(id, "Candidato " + id, "candidato" + id + "@email.com", null, null,
+                LocalDateTime.of(2024, 5, 10, 9, 0), StatusInscricao.INSCRITO);
+    }
+
+    @Test
+    @DisplayName("Deve listar candidatos compatíveis na ordem do motor com os dados de contato")
+    void deveListarCandidatosCompativeisNaOrdemDoMotor() {
+        // Given
+        List<VagaRepository.HabilidadeVaga> habilidades = List.of(habilidade(true, "Java"), habilidade(true, "SQL"),
+                habilidade(false, "Docker"));
+        given(vagaRepository.findHabilidadesById(1L)).willReturn(habilidades);
+        given(motorCompatibilidade.melhores(List.of("Java", "SQL"), List.of("Docker"), 100)).willReturn(List.of(
+                new MotorCompatibilidade.Compatibilidade(9L, 7, 2, 2, 1, 1),
+                new MotorCompatibilidade.Compatibilidade(2L, 6, 2, 2, 0, 1),
+                new MotorCompatibilidade.Compatibilidade(5L, 3, 1, 2, 0, 1)));
+        List<UserRepository.ContatoUsuario> contatos = List.of(contato(2L, "Ana"), contato(9L, "Bruno"));
+        given(userRepository.findContatosByIdIn(List.of(9L, 2L, 5L))).willReturn(contatos);
+
+        // When
+        List<CandidatoCompativelDTO> resultado = vagaService.listarCandidatosCompativeis(1L, 500);
+
+        // Then
+        assertThat(resultado).containsExactly(
+                new CandidatoCompativelDTO(9L, "Bruno", "bruno@email.com", 7, 2, 2, 1, 1),
+                new CandidatoCompativelDTO(2L, "Ana", "ana@email.com", 6, 2, 2, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Deve listar vagas recomendadas na ordem do ranking, ignorando vagas já removidas")
+    void deveListarVagasRecomendadasNaOrdemDoRanking() {
+        // Given
+        VagaResumoDTO vagaTres = new VagaResumoDTO();
+        vagaTres.setId(3L);
+        VagaResumoDTO vagaSete = new VagaResumoDTO();
+        vagaSete.setId(7L);
+        given(recomendadorVagas.recomendadas(2L, RecomendadorVagas.TAMANHO_RANKING)).willReturn(List.of(7L, 5L, 3L));
+        given(vagaRepository.findResumosByIdIn(List.of(7L, 5L, 3L))).willReturn(List.of(vagaTres, vagaSete));
+
+        // When
+        List<VagaResumoDTO> resultado = vagaService.listarVagasRecomendadas(2L, 500);
+
+        // Then
+        assertThat(resultado).extracting(VagaResumoDTO::getId).containsExactly(7L, 3L);
+    }
+
+    private UserRepository.ContatoUsuario contato(Long id, String nome) {
+        UserRepository.ContatoUsuario contato = mock(UserRepository.ContatoUsuario.class);
+        given(contato.getId()).willReturn(id);
+        given(contato.getNome()).willReturn(nome);
+        given(contato.getEmail()).willReturn(nome.toLowerCase() + "@email.com");
+        return contato;
+    }
+
+    private VagaRepository.HabilidadeVaga habilidade(boolean obrigatoria, String nome) {
+        VagaRepository.HabilidadeVaga habilidade = mock(VagaRepository.HabilidadeVaga.class);
+        given(habilidade.getObrigatoria()).willReturn(obrigatoria);
+        given(habilidade.getHabilidade()).willReturn(nome);
+        return habilidade;
     }
-}
\ No newline at end of file
+}